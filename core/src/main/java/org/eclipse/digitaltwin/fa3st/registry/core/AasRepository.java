@@ -16,7 +16,13 @@ package org.eclipse.digitaltwin.fa3st.registry.core;
 import java.util.List;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
 
@@ -44,6 +50,29 @@ public interface AasRepository {
     public List<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind);
 
 
+    /**
+     * Retrieves a page of all registered Asset Administration Shells which meet the given conditions. Only the
+     * Asset Administration Shells of the requested page are loaded.
+     *
+     * @param assetType The desired Asset Type.
+     * @param assetKind The desired Asset Kind.
+     * @param paging The paging information.
+     * @return The requested page of Asset Administration Shells.
+     */
+    public Page<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind, PagingInfo paging);
+
+
+    /**
+     * Retrieves the IDs of all registered Asset Administration Shells matching all of the given asset identifiers. An
+     * asset identifier with name {@code globalAssetId} matches the global asset ID of an Asset Administration Shell,
+     * all other asset identifiers match the name and value of its specific asset IDs.
+     *
+     * @param assetIds The asset identifiers to match.
+     * @return The IDs of all matching Asset Administration Shells, sorted by ID.
+     */
+    public List<String> getAASIdsByAssetIds(List<SpecificAssetId> assetIds);
+
+
     /**
      * Retrieves the Asset Administration Shell with the given ID.
      *
@@ -73,6 +102,17 @@ public interface AasRepository {
     public void deleteAAS(String aasId) throws ResourceNotFoundException;
 
 
+    /**
+     * Deletes the Asset Administration Shell with the given ID if it has the expected version.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell.
+     * @param expectedVersion The expected version, see {@link #getAASVersion(String)}, null to skip the version check.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    public void deleteAAS(String aasId, Long expectedVersion) throws ResourceNotFoundException, PreconditionFailedException;
+
+
     /**
      * Updates the given Asset Administration Shell.
      *
@@ -80,8 +120,60 @@ public interface AasRepository {
      * @param descriptor The desired Asset Administration Shell.
      * @return The updated Asset Administration Shell.
      * @throws ResourceNotFoundException if the requested resource does not exist
+     * @throws ResourceAlreadyExistsException if the ID is changed to the ID of another existing Asset Administration
+     *             Shell
+     */
+    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException;
+
+
+    /**
+     * Updates the given Asset Administration Shell if it has the expected version. The version check and the update
+     * are a single atomic operation.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell.
+     * @param descriptor The desired Asset Administration Shell.
+     * @param expectedVersion The expected version, see {@link #getAASVersion(String)}, null to skip the version check.
+     * @return The updated Asset Administration Shell.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     * @throws ResourceAlreadyExistsException if the ID is changed to the ID of another existing Asset Administration
+     *             Shell
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException, PreconditionFailedException;
+
+
+    /**
+     * Retrieves the version of the Asset Administration Shell with the given ID. The version changes on every write to
+     * the Asset Administration Shell including its Submodels and is used for optimistic concurrency control.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell.
+     * @return The version.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     */
+    public long getAASVersion(String aasId) throws ResourceNotFoundException;
+
+
+    /**
+     * Retrieves the change version of the registry. It changes on every write to any Asset Administration Shell or
+     * Submodel and therefore whenever the result of a listing may have changed. A write is visible to readers before
+     * the change version reflects it, i.e., descriptors read after the change version are at least as recent.
+     *
+     * @return The change version.
+     */
+    public long getChangeVersion();
+
+
+    /**
+     * Retrieves the content hash of the Asset Administration Shell with the given ID including its Submodels, see
+     * {@link org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper}.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell.
+     * @return The content hash, null if it is not known.
+     * @throws ResourceNotFoundException if the requested resource does not exist
      */
-    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor) throws ResourceNotFoundException;
+    public String getAASContentHash(String aasId) throws ResourceNotFoundException;
 
 
     /**
@@ -102,6 +194,48 @@ public interface AasRepository {
     public List<SubmodelDescriptor> getSubmodels();
 
 
+    /**
+     * Retrieves a page of all Submodels of the given Asset Administration Shell.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell.
+     * @param paging The paging information.
+     * @return The requested page of Submodels.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     */
+    public Page<SubmodelDescriptor> getSubmodels(String aasId, PagingInfo paging) throws ResourceNotFoundException;
+
+
+    /**
+     * Retrieves a page of all registered Submodels. Only the Submodels of the requested page are loaded.
+     *
+     * @param paging The paging information.
+     * @return The requested page of Submodels.
+     */
+    public Page<SubmodelDescriptor> getSubmodels(PagingInfo paging);
+
+
+    /**
+     * Retrieves a list of all Submodels of the given Asset Administration Shell with the given semantic ID. A Submodel
+     * matches if any key of its semantic ID has the given value.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell.
+     * @param semanticId The desired semantic ID.
+     * @return The list of matching Submodels.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     */
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String aasId, String semanticId) throws ResourceNotFoundException;
+
+
+    /**
+     * Retrieves a list of all registered Submodels with the given semantic ID. A Submodel matches if any key of its
+     * semantic ID has the given value.
+     *
+     * @param semanticId The desired semantic ID.
+     * @return The list of matching Submodels.
+     */
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String semanticId);
+
+
     /**
      * Retrieves the Submodel with given AAS ID and Submodel ID.
      *
@@ -123,6 +257,41 @@ public interface AasRepository {
     public SubmodelDescriptor getSubmodel(String submodelId) throws ResourceNotFoundException;
 
 
+    /**
+     * Retrieves the content hash of the Submodel with the given AAS ID and Submodel ID, see
+     * {@link org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper}.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell.
+     * @param submodelId The ID of the desired Submodel.
+     * @return The content hash, null if it is not known.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     */
+    public String getSubmodelContentHash(String aasId, String submodelId) throws ResourceNotFoundException;
+
+
+    /**
+     * Retrieves the content hash of the Submodel with the given ID, see
+     * {@link org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper}.
+     *
+     * @param submodelId The ID of the desired Submodel.
+     * @return The content hash, null if it is not known.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     */
+    public String getSubmodelContentHash(String submodelId) throws ResourceNotFoundException;
+
+
+    /**
+     * Retrieves the version of the Submodel with the given ID. The version changes on every write to the Submodel and
+     * is used for optimistic concurrency control. Submodels of an Asset Administration Shell share the version of the
+     * Asset Administration Shell, see {@link #getAASVersion(String)}.
+     *
+     * @param submodelId The ID of the desired Submodel.
+     * @return The version.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     */
+    public long getSubmodelVersion(String submodelId) throws ResourceNotFoundException;
+
+
     /**
      * Adds a Submodel to the given AAS.
      *
@@ -145,6 +314,96 @@ public interface AasRepository {
     public SubmodelDescriptor addSubmodel(SubmodelDescriptor descriptor) throws ResourceAlreadyExistsException;
 
 
+    /**
+     * Replaces the Submodel with the given ID in the given AAS by the given Submodel in a single atomic operation,
+     * i.e., concurrent readers either see the old or the new Submodel. The position of the Submodel within the AAS is
+     * kept.
+     *
+     * @param aasId The ID of the desired AAS.
+     * @param submodelId The ID of the Submodel to replace.
+     * @param descriptor The new Submodel.
+     * @return The descriptor of the new submodel.
+     * @throws ResourceNotFoundException if the aas or the submodel does not exist
+     * @throws ResourceAlreadyExistsException if the ID of the new submodel differs from submodelId and the aas already
+     *             contains a submodel with this ID
+     */
+    public SubmodelDescriptor replaceSubmodel(String aasId, String submodelId, SubmodelDescriptor descriptor)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException;
+
+
+    /**
+     * Replaces the Submodel with the given ID in the given AAS by the given Submodel if the AAS has the expected
+     * version, see {@link #replaceSubmodel(String, String, SubmodelDescriptor)}.
+     *
+     * @param aasId The ID of the desired AAS.
+     * @param submodelId The ID of the Submodel to replace.
+     * @param descriptor The new Submodel.
+     * @param expectedVersion The expected version of the AAS, see {@link #getAASVersion(String)}, null to skip the
+     *            version check.
+     * @return The descriptor of the new submodel.
+     * @throws ResourceNotFoundException if the aas or the submodel does not exist
+     * @throws ResourceAlreadyExistsException if the ID of the new submodel differs from submodelId and the aas already
+     *             contains a submodel with this ID
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    public SubmodelDescriptor replaceSubmodel(String aasId, String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException, PreconditionFailedException;
+
+
+    /**
+     * Replaces the Submodel with the given ID by the given Submodel in a single atomic operation, i.e., concurrent
+     * readers either see the old or the new Submodel.
+     *
+     * @param submodelId The ID of the Submodel to replace.
+     * @param descriptor The new Submodel.
+     * @return The descriptor of the new submodel.
+     * @throws ResourceNotFoundException if the submodel does not exist
+     * @throws ResourceAlreadyExistsException if the ID of the new submodel differs from submodelId and a submodel with
+     *             this ID already exists
+     */
+    public SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor descriptor) throws ResourceNotFoundException, ResourceAlreadyExistsException;
+
+
+    /**
+     * Replaces the Submodel with the given ID by the given Submodel if it has the expected version, see
+     * {@link #replaceSubmodel(String, SubmodelDescriptor)}.
+     *
+     * @param submodelId The ID of the Submodel to replace.
+     * @param descriptor The new Submodel.
+     * @param expectedVersion The expected version, see {@link #getSubmodelVersion(String)}, null to skip the version
+     *            check.
+     * @return The descriptor of the new submodel.
+     * @throws ResourceNotFoundException if the submodel does not exist
+     * @throws ResourceAlreadyExistsException if the ID of the new submodel differs from submodelId and a submodel with
+     *             this ID already exists
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    public SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException, PreconditionFailedException;
+
+
+    /**
+     * Adds the given Submodel to the given AAS or, if the AAS already contains a Submodel with the same ID, replaces it
+     * in a single atomic operation.
+     *
+     * @param aasId The ID of the desired AAS.
+     * @param descriptor The submodel to add or replace.
+     * @return The descriptor of the created or replaced submodel.
+     * @throws ResourceNotFoundException if the aas does not exist
+     */
+    public SubmodelDescriptor upsertSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException;
+
+
+    /**
+     * Adds the given Submodel or, if a Submodel with the same ID already exists, replaces it in a single atomic
+     * operation.
+     *
+     * @param descriptor The submodel to add or replace.
+     * @return The descriptor of the created or replaced submodel.
+     */
+    public SubmodelDescriptor upsertSubmodel(SubmodelDescriptor descriptor);
+
+
     /**
      * Deletes the Submodel with the given AAS ID and Submodel ID.
      *
@@ -155,6 +414,19 @@ public interface AasRepository {
     public void deleteSubmodel(String aasId, String submodelId) throws ResourceNotFoundException;
 
 
+    /**
+     * Deletes the Submodel with the given AAS ID and Submodel ID if the AAS has the expected version.
+     *
+     * @param aasId The ID of the desired AAS.
+     * @param submodelId The ID of the desired Submodel.
+     * @param expectedVersion The expected version of the AAS, see {@link #getAASVersion(String)}, null to skip the
+     *            version check.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    public void deleteSubmodel(String aasId, String submodelId, Long expectedVersion) throws ResourceNotFoundException, PreconditionFailedException;
+
+
     /**
      * Deletes the Submodel with the given ID.
      *
@@ -162,4 +434,28 @@ public interface AasRepository {
      * @throws ResourceNotFoundException if the requested resource does not exist
      */
     public void deleteSubmodel(String submodelId) throws ResourceNotFoundException;
+
+
+    /**
+     * Deletes the Submodel with the given ID if it has the expected version.
+     *
+     * @param submodelId The ID of the desired Submodel.
+     * @param expectedVersion The expected version, see {@link #getSubmodelVersion(String)}, null to skip the version
+     *            check.
+     * @throws ResourceNotFoundException if the requested resource does not exist
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    public void deleteSubmodel(String submodelId, Long expectedVersion) throws ResourceNotFoundException, PreconditionFailedException;
+
+
+    /**
+     * Executes the given write operations. Each operation succeeds or fails on its own, i.e., a failed operation is
+     * reported in its result and does not affect the other operations. Implementations may execute all operations in a
+     * single transaction; if this transaction fails as a whole, a runtime exception is thrown and none of the
+     * operations have been applied.
+     *
+     * @param operations the operations to execute
+     * @return the results of the operations in the order of the operations
+     */
+    public List<BatchResult> executeBatch(List<BatchOperation> operations);
 }
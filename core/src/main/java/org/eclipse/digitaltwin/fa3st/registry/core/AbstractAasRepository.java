@@ -13,14 +13,22 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
 
 
 /**
@@ -28,6 +36,11 @@ import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundExc
  */
 public abstract class AbstractAasRepository implements AasRepository {
 
+    /**
+     * Name of the asset identifier that refers to the global asset ID of an AAS.
+     */
+    public static final String GLOBAL_ASSET_ID = "globalAssetId";
+
     protected AbstractAasRepository() {}
 
 
@@ -37,6 +50,123 @@ public abstract class AbstractAasRepository implements AasRepository {
     }
 
 
+    @Override
+    public void deleteAAS(String aasId) throws ResourceNotFoundException {
+        deleteAAS(aasId, null);
+    }
+
+
+    @Override
+    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        return update(aasId, descriptor, null);
+    }
+
+
+    @Override
+    public SubmodelDescriptor replaceSubmodel(String aasId, String submodelId, SubmodelDescriptor descriptor)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        return replaceSubmodel(aasId, submodelId, descriptor, null);
+    }
+
+
+    @Override
+    public SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor descriptor) throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        return replaceSubmodel(submodelId, descriptor, null);
+    }
+
+
+    @Override
+    public void deleteSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+        deleteSubmodel(aasId, submodelId, null);
+    }
+
+
+    @Override
+    public void deleteSubmodel(String submodelId) throws ResourceNotFoundException {
+        deleteSubmodel(submodelId, null);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The default implementation executes the operations one after another using the single-descriptor methods of
+     * this repository.
+     */
+    @Override
+    public List<BatchResult> executeBatch(List<BatchOperation> operations) {
+        Ensure.requireNonNull(operations, "operations must be non-null");
+        List<BatchResult> result = new ArrayList<>(operations.size());
+        for (var operation: operations) {
+            try {
+                execute(operation);
+                result.add(BatchResult.success(operation));
+            }
+            catch (Exception e) {
+                result.add(BatchResult.failure(operation, e));
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     * Executes a single operation of a batch.
+     *
+     * @param operation the operation
+     * @throws ResourceNotFoundException if the AAS or submodel to update or delete does not exist
+     * @throws ResourceAlreadyExistsException if the AAS or submodel to create already exists
+     */
+    protected void execute(BatchOperation operation) throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        switch (operation.getType()) {
+            case CREATE_AAS -> create(operation.getAAS());
+            case UPDATE_AAS -> update(operation.getId(), operation.getAAS());
+            case DELETE_AAS -> deleteAAS(operation.getId());
+            case CREATE_SUBMODEL -> addSubmodel(operation.getSubmodel());
+            case UPDATE_SUBMODEL -> replaceSubmodel(operation.getId(), operation.getSubmodel());
+            case DELETE_SUBMODEL -> deleteSubmodel(operation.getId());
+            default -> throw new IllegalStateException(String.format("unsupported batch operation (type: %s)", operation.getType()));
+        }
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The default implementation computes the content hash from the stored descriptor. Implementations that store
+     * the content hash should override this method.
+     */
+    @Override
+    public String getAASContentHash(String aasId) throws ResourceNotFoundException {
+        return ContentHashHelper.hash(getAAS(aasId));
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The default implementation computes the content hash from the stored descriptor. Implementations that store
+     * the content hash should override this method.
+     */
+    @Override
+    public String getSubmodelContentHash(String aasId, String submodelId) throws ResourceNotFoundException {
+        return ContentHashHelper.hash(getSubmodel(aasId, submodelId));
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The default implementation computes the content hash from the stored descriptor. Implementations that store
+     * the content hash should override this method.
+     */
+    @Override
+    public String getSubmodelContentHash(String submodelId) throws ResourceNotFoundException {
+        return ContentHashHelper.hash(getSubmodel(submodelId));
+    }
+
+
     /**
      * Creates a new {@link ResourceNotFoundException} for the AAS.
      *
@@ -93,6 +223,64 @@ public abstract class AbstractAasRepository implements AasRepository {
     }
 
 
+    /**
+     * Creates a new {@link PreconditionFailedException} for when the AAS does not have the expected version.
+     *
+     * @param aasId the ID of the AAS
+     * @param expectedVersion the expected version
+     * @param version the actual version
+     * @return the exception to throw
+     */
+    protected static PreconditionFailedException buildAASVersionMismatchException(String aasId, long expectedVersion, long version) {
+        return new PreconditionFailedException(String.format("AAS has been modified (id: %s, expected version: %d, actual version: %d)",
+                aasId, expectedVersion, version));
+    }
+
+
+    /**
+     * Creates a new {@link PreconditionFailedException} for when the submodel does not have the expected version.
+     *
+     * @param submodelId the ID of the submodel
+     * @param expectedVersion the expected version
+     * @param version the actual version
+     * @return the exception to throw
+     */
+    protected static PreconditionFailedException buildSubmodelVersionMismatchException(String submodelId, long expectedVersion, long version) {
+        return new PreconditionFailedException(String.format("Submodel has been modified (id: %s, expected version: %d, actual version: %d)",
+                submodelId, expectedVersion, version));
+    }
+
+
+    /**
+     * Helper method to ensure an AAS has the expected version.
+     *
+     * @param aasId the ID of the AAS
+     * @param expectedVersion the expected version, null to skip the check
+     * @param version the actual version
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    protected static void ensureAASVersion(String aasId, Long expectedVersion, long version) {
+        if (Objects.nonNull(expectedVersion) && expectedVersion != version) {
+            throw buildAASVersionMismatchException(aasId, expectedVersion, version);
+        }
+    }
+
+
+    /**
+     * Helper method to ensure a submodel has the expected version.
+     *
+     * @param submodelId the ID of the submodel
+     * @param expectedVersion the expected version, null to skip the check
+     * @param version the actual version
+     * @throws PreconditionFailedException if the version does not match the expected version
+     */
+    protected static void ensureSubmodelVersion(String submodelId, Long expectedVersion, long version) {
+        if (Objects.nonNull(expectedVersion) && expectedVersion != version) {
+            throw buildSubmodelVersionMismatchException(submodelId, expectedVersion, version);
+        }
+    }
+
+
     /**
      * Helper method to ensure arguments are valid or correct exceptions are thrown.
      *
@@ -139,6 +327,74 @@ public abstract class AbstractAasRepository implements AasRepository {
     }
 
 
+    /**
+     * Helper method to ensure a semanticId is not null.
+     *
+     * @param semanticId the semanticId to validate
+     * @throws IllegalArgumentException if semanticId is null
+     */
+    protected static void ensureSemanticId(String semanticId) {
+        Ensure.requireNonNull(semanticId, "semanticId must be non-null");
+    }
+
+
+    /**
+     * Gets the values of all keys of the semantic ID of a submodel. These are the values a semantic ID lookup matches.
+     *
+     * @param submodel the submodel
+     * @return the values of all keys of the semantic ID, an empty list if the submodel has no semantic ID
+     */
+    protected static List<String> getSemanticIdValues(SubmodelDescriptor submodel) {
+        if (Objects.isNull(submodel.getSemanticId()) || Objects.isNull(submodel.getSemanticId().getKeys())) {
+            return Collections.emptyList();
+        }
+        return submodel.getSemanticId().getKeys().stream()
+                .map(Key::getValue)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+
+    /**
+     * Checks whether a submodel has the given semantic ID.
+     *
+     * @param submodel the submodel
+     * @param semanticId the semantic ID
+     * @return true if any key of the semantic ID of the submodel has the given value, false otherwise
+     */
+    protected static boolean hasSemanticId(SubmodelDescriptor submodel, String semanticId) {
+        return getSemanticIdValues(submodel).contains(semanticId);
+    }
+
+
+    /**
+     * Helper method to ensure a list of asset identifiers used for lookup is valid.
+     *
+     * @param assetIds the asset identifiers to validate
+     * @throws IllegalArgumentException if the list or any name or value is null
+     */
+    protected static void ensureAssetIds(List<SpecificAssetId> assetIds) {
+        Ensure.requireNonNull(assetIds, "assetIds must be non-null");
+        for (var assetId: assetIds) {
+            Ensure.requireNonNull(assetId, "assetId must be non-null");
+            Ensure.requireNonNull(assetId.getName(), "assetId name must be non-null");
+            Ensure.requireNonNull(assetId.getValue(), "assetId value must be non-null");
+        }
+    }
+
+
+    /**
+     * Checks whether the given asset identifier refers to the global asset ID of an AAS.
+     *
+     * @param assetId the asset identifier
+     * @return true if the asset identifier refers to the global asset ID, false otherwise
+     */
+    protected static boolean isGlobalAssetId(SpecificAssetId assetId) {
+        return Objects.equals(GLOBAL_ASSET_ID, assetId.getName());
+    }
+
+
     /**
      * Helper method to look for a submodel with the desired submodelId in a given list of submdels.
      *
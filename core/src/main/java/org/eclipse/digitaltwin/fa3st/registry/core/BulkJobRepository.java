@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core;
+
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+
+
+/**
+ * Repository for the state of asynchronous bulk jobs. Besides the state, the repository keeps the payload of a job,
+ * i.e., the JSON array of the submitted items, until the job has finished so that an interrupted job can be resumed.
+ * Implementations must return copies, i.e., changes to a returned job only take effect when it is passed to
+ * {@link #update(BulkJob)}.
+ *
+ * <p>Instances sharing the repository coordinate the execution of jobs using leases: an instance must hold the lease of
+ * a job, see {@link #claim(String, String, long, long)}, to execute it and renews the lease periodically while the job
+ * is queued or running.
+ */
+public interface BulkJobRepository {
+
+    /**
+     * Creates a new job.
+     *
+     * @param job the job to create
+     * @param payload the JSON array of the submitted items
+     * @throws ResourceAlreadyExistsException if a job with the same ID already exists
+     */
+    public void create(BulkJob job, String payload) throws ResourceAlreadyExistsException;
+
+
+    /**
+     * Updates the state of an existing job. Failures are only ever appended, i.e., the failures already stored for the
+     * job are kept and only the new ones are added. Once the job has finished, its payload is removed. The owner and
+     * the heartbeat are not updated, they are only changed by {@link #claim(String, String, long, long)}.
+     *
+     * @param job the new state of the job
+     * @throws ResourceNotFoundException if the job does not exist
+     */
+    public void update(BulkJob job) throws ResourceNotFoundException;
+
+
+    /**
+     * Claims or renews the lease of an unfinished job as a single atomic operation. The lease is granted if no instance
+     * holds it, if the given owner already holds it or if the heartbeat of the current owner is older than
+     * {@code expiredBefore}. On success, the owner and the heartbeat of the job are set to the given values.
+     *
+     * @param id the ID of the job
+     * @param owner the ID of the claiming instance
+     * @param now the current time in milliseconds since the epoch, stored as heartbeat
+     * @param expiredBefore leases with an older heartbeat have expired
+     * @return true if the given owner holds the lease now, false if the job does not exist, has finished or another
+     *         instance holds the lease
+     */
+    public boolean claim(String id, String owner, long now, long expiredBefore);
+
+
+    /**
+     * Gets a job by its ID.
+     *
+     * @param id the ID of the job
+     * @return the job
+     * @throws ResourceNotFoundException if the job does not exist
+     */
+    public BulkJob get(String id) throws ResourceNotFoundException;
+
+
+    /**
+     * Gets the payload of a job that has not finished yet.
+     *
+     * @param id the ID of the job
+     * @return the JSON array of the submitted items
+     * @throws ResourceNotFoundException if the job does not exist or has already finished
+     */
+    public String getPayload(String id) throws ResourceNotFoundException;
+
+
+    /**
+     * Gets all jobs that have not finished yet, i.e., that are pending or have been interrupted while running.
+     *
+     * @return the unfinished jobs ordered by the time they have been submitted
+     */
+    public List<BulkJob> getUnfinished();
+
+
+    /**
+     * Gets the IDs of all unfinished jobs whose lease is not held by any instance or has expired, i.e., whose heartbeat
+     * is older than {@code expiredBefore}.
+     *
+     * @param expiredBefore leases with an older heartbeat have expired
+     * @return the IDs of the jobs ordered by the time they have been submitted
+     */
+    public List<String> getExpired(long expiredBefore);
+}
@@ -0,0 +1,454 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+
+
+/**
+ * Decorator for any {@link AasRepository} caching reads of single descriptors and filtered listings of Asset
+ * Administration Shells.
+ *
+ * <p>Asset Administration Shells (including their submodels) and standalone submodels are cached by ID in bounded
+ * caches with LRU-like eviction together with the version they have been loaded with. Filtered listings of Asset
+ * Administration Shells are cached per filter, page and change version of the backend. Every read first gets the
+ * current version from the backend, which is a cheap lookup compared to loading a descriptor, and only returns a cached
+ * entry of the same version. As the version is read before the descriptor, an entry is never older than its version.
+ * Therefore, the cache never returns outdated descriptors, even if they have been written by other instances sharing
+ * the same backend, and versions and descriptors returned by this repository are consistent.
+ *
+ * <p>IDs that were not found are cached together with the change version of the backend read before the lookup, like
+ * listings. As long as the change version has not changed, repeated reads of unknown IDs only get the change version
+ * instead of looking up the ID. Any write, also by other instances, changes the change version and thereby invalidates
+ * all such entries.
+ *
+ * <p>Writes are passed through to the backend and remove the affected entries from the cache afterwards to free the
+ * memory early. Entries expire after a configurable time.
+ */
+public class CachingAasRepository extends AbstractAasRepository {
+
+    private final AasRepository delegate;
+    private final Cache<String, Entry<AssetAdministrationShellDescriptor>> aasCache;
+    private final Cache<String, Entry<SubmodelDescriptor>> submodelCache;
+    private final Cache<ListingKey, List<AssetAdministrationShellDescriptor>> listCache;
+    private final Cache<ListingKey, Page<AssetAdministrationShellDescriptor>> pageCache;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate the repository to cache
+     * @param maxSize the maximum number of entries per cache, i.e., of Asset Administration Shells, of standalone
+     *            submodels, of listings and of pages of listings
+     * @param expireAfterWriteSeconds the time in seconds after which entries expire, 0 to never expire
+     */
+    public CachingAasRepository(AasRepository delegate, long maxSize, long expireAfterWriteSeconds) {
+        this(delegate, maxSize, expireAfterWriteSeconds, Ticker.systemTicker());
+    }
+
+
+    /**
+     * Creates a new instance using the given time source for the expiration of entries.
+     *
+     * @param delegate the repository to cache
+     * @param maxSize the maximum number of entries per cache, i.e., of Asset Administration Shells, of standalone
+     *            submodels, of listings and of pages of listings
+     * @param expireAfterWriteSeconds the time in seconds after which entries expire, 0 to never expire
+     * @param ticker the time source
+     */
+    public CachingAasRepository(AasRepository delegate, long maxSize, long expireAfterWriteSeconds, Ticker ticker) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        Ensure.require(maxSize >= 0, "maxSize must be >= 0");
+        Ensure.require(expireAfterWriteSeconds >= 0, "expireAfterWriteSeconds must be >= 0");
+        Ensure.requireNonNull(ticker, "ticker must be non-null");
+        this.delegate = delegate;
+        this.aasCache = newCache(maxSize, expireAfterWriteSeconds, ticker);
+        this.submodelCache = newCache(maxSize, expireAfterWriteSeconds, ticker);
+        this.listCache = newCache(maxSize, expireAfterWriteSeconds, ticker);
+        this.pageCache = newCache(maxSize, expireAfterWriteSeconds, ticker);
+    }
+
+
+    /**
+     * Removes all entries from the cache, e.g., after the backend has been modified directly.
+     */
+    public void invalidateAll() {
+        aasCache.invalidateAll();
+        submodelCache.invalidateAll();
+        invalidateListings();
+    }
+
+
+    @Override
+    public List<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind) {
+        ListingKey key = new ListingKey(delegate.getChangeVersion(), assetType, assetKind, null, null);
+        return listCache.get(key, x -> List.copyOf(delegate.getAASs(assetType, assetKind)));
+    }
+
+
+    @Override
+    public Page<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind, PagingInfo paging) {
+        ListingKey key = new ListingKey(delegate.getChangeVersion(), assetType, assetKind, paging.getCursor(), paging.hasLimit() ? paging.getLimit() : null);
+        return pageCache.get(key, x -> delegate.getAASs(assetType, assetKind, paging));
+    }
+
+
+    @Override
+    public List<String> getAASIdsByAssetIds(List<SpecificAssetId> assetIds) {
+        return delegate.getAASIdsByAssetIds(assetIds);
+    }
+
+
+    @Override
+    public AssetAdministrationShellDescriptor getAAS(String aasId) throws ResourceNotFoundException {
+        if (Objects.isNull(aasId)) {
+            return delegate.getAAS(aasId);
+        }
+        return get(aasCache, aasId, () -> delegate.getAASVersion(aasId), () -> delegate.getAAS(aasId), () -> buildAASNotFoundException(aasId));
+    }
+
+
+    @Override
+    public AssetAdministrationShellDescriptor create(AssetAdministrationShellDescriptor descriptor) throws ResourceAlreadyExistsException {
+        AssetAdministrationShellDescriptor result = delegate.create(descriptor);
+        invalidateAAS(descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public void deleteAAS(String aasId, Long expectedVersion) throws ResourceNotFoundException, PreconditionFailedException {
+        delegate.deleteAAS(aasId, expectedVersion);
+        invalidateAAS(aasId);
+    }
+
+
+    @Override
+    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException, PreconditionFailedException {
+        AssetAdministrationShellDescriptor result = delegate.update(aasId, descriptor, expectedVersion);
+        invalidateAAS(aasId);
+        invalidateAAS(descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public long getAASVersion(String aasId) throws ResourceNotFoundException {
+        return delegate.getAASVersion(aasId);
+    }
+
+
+    @Override
+    public long getChangeVersion() {
+        return delegate.getChangeVersion();
+    }
+
+
+    @Override
+    public String getAASContentHash(String aasId) throws ResourceNotFoundException {
+        return delegate.getAASContentHash(aasId);
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodels(String aasId) throws ResourceNotFoundException {
+        return delegate.getSubmodels(aasId);
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodels() {
+        return delegate.getSubmodels();
+    }
+
+
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(String aasId, PagingInfo paging) throws ResourceNotFoundException {
+        return delegate.getSubmodels(aasId, paging);
+    }
+
+
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(PagingInfo paging) {
+        return delegate.getSubmodels(paging);
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String aasId, String semanticId) throws ResourceNotFoundException {
+        return delegate.getSubmodelsBySemanticId(aasId, semanticId);
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String semanticId) {
+        return delegate.getSubmodelsBySemanticId(semanticId);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The submodel is taken from the cached Asset Administration Shell.
+     */
+    @Override
+    public SubmodelDescriptor getSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+        if (Objects.isNull(aasId) || Objects.isNull(submodelId)) {
+            return delegate.getSubmodel(aasId, submodelId);
+        }
+        AssetAdministrationShellDescriptor aas = getAAS(aasId);
+        if (Objects.nonNull(aas.getSubmodelDescriptors())) {
+            for (var submodel: aas.getSubmodelDescriptors()) {
+                if (Objects.equals(submodelId, submodel.getId())) {
+                    return submodel;
+                }
+            }
+        }
+        throw buildSubmodelNotFoundInAASException(aasId, submodelId);
+    }
+
+
+    @Override
+    public SubmodelDescriptor getSubmodel(String submodelId) throws ResourceNotFoundException {
+        if (Objects.isNull(submodelId)) {
+            return delegate.getSubmodel(submodelId);
+        }
+        return get(submodelCache, submodelId, () -> delegate.getSubmodelVersion(submodelId), () -> delegate.getSubmodel(submodelId),
+                () -> buildSubmodelNotFoundException(submodelId));
+    }
+
+
+    @Override
+    public String getSubmodelContentHash(String aasId, String submodelId) throws ResourceNotFoundException {
+        return delegate.getSubmodelContentHash(aasId, submodelId);
+    }
+
+
+    @Override
+    public String getSubmodelContentHash(String submodelId) throws ResourceNotFoundException {
+        return delegate.getSubmodelContentHash(submodelId);
+    }
+
+
+    @Override
+    public long getSubmodelVersion(String submodelId) throws ResourceNotFoundException {
+        return delegate.getSubmodelVersion(submodelId);
+    }
+
+
+    @Override
+    public SubmodelDescriptor addSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        SubmodelDescriptor result = delegate.addSubmodel(aasId, descriptor);
+        invalidateSubmodelOfAAS(aasId, descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public SubmodelDescriptor addSubmodel(SubmodelDescriptor descriptor) throws ResourceAlreadyExistsException {
+        SubmodelDescriptor result = delegate.addSubmodel(descriptor);
+        invalidateSubmodel(descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public SubmodelDescriptor replaceSubmodel(String aasId, String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException, PreconditionFailedException {
+        SubmodelDescriptor result = delegate.replaceSubmodel(aasId, submodelId, descriptor, expectedVersion);
+        invalidateSubmodelOfAAS(aasId, submodelId);
+        invalidateSubmodelOfAAS(aasId, descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException, PreconditionFailedException {
+        SubmodelDescriptor result = delegate.replaceSubmodel(submodelId, descriptor, expectedVersion);
+        invalidateSubmodel(submodelId);
+        invalidateSubmodel(descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public SubmodelDescriptor upsertSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException {
+        SubmodelDescriptor result = delegate.upsertSubmodel(aasId, descriptor);
+        invalidateSubmodelOfAAS(aasId, descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public SubmodelDescriptor upsertSubmodel(SubmodelDescriptor descriptor) {
+        SubmodelDescriptor result = delegate.upsertSubmodel(descriptor);
+        invalidateSubmodel(descriptor.getId());
+        return result;
+    }
+
+
+    @Override
+    public void deleteSubmodel(String aasId, String submodelId, Long expectedVersion) throws ResourceNotFoundException, PreconditionFailedException {
+        delegate.deleteSubmodel(aasId, submodelId, expectedVersion);
+        invalidateSubmodelOfAAS(aasId, submodelId);
+    }
+
+
+    @Override
+    public void deleteSubmodel(String submodelId, Long expectedVersion) throws ResourceNotFoundException, PreconditionFailedException {
+        delegate.deleteSubmodel(submodelId, expectedVersion);
+        invalidateSubmodel(submodelId);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The operations are passed to the backend as a batch. Afterwards, the descriptors of all operations are removed
+     * from the cache independent of their result.
+     */
+    @Override
+    public List<BatchResult> executeBatch(List<BatchOperation> operations) {
+        try {
+            return delegate.executeBatch(operations);
+        }
+        finally {
+            for (var operation: operations) {
+                if (Objects.isNull(operation.getId())) {
+                    continue;
+                }
+                if (operation.isAAS()) {
+                    aasCache.invalidate(operation.getId());
+                }
+                else {
+                    submodelCache.invalidate(operation.getId());
+                }
+            }
+            invalidateListings();
+        }
+    }
+
+
+    private void invalidateAAS(String aasId) {
+        if (Objects.nonNull(aasId)) {
+            aasCache.invalidate(aasId);
+        }
+        invalidateListings();
+    }
+
+
+    private void invalidateSubmodelOfAAS(String aasId, String submodelId) {
+        // backends may share the storage of submodels of an AAS and standalone submodels with the same ID
+        if (Objects.nonNull(aasId)) {
+            aasCache.invalidate(aasId);
+        }
+        invalidateSubmodel(submodelId);
+    }
+
+
+    private void invalidateSubmodel(String submodelId) {
+        if (Objects.nonNull(submodelId)) {
+            submodelCache.invalidate(submodelId);
+        }
+        invalidateListings();
+    }
+
+
+    private void invalidateListings() {
+        listCache.invalidateAll();
+        pageCache.invalidateAll();
+    }
+
+
+    private <V> V get(Cache<String, Entry<V>> cache, String id, Loader<Long> versionLoader, Loader<V> loader, Supplier<ResourceNotFoundException> notFound)
+            throws ResourceNotFoundException {
+        Entry<V> cached = cache.getIfPresent(id);
+        // the change version is only needed if the ID was not found before or is not cached at all
+        Long changeVersion = null;
+        if (Objects.isNull(cached) || cached.isNotFound()) {
+            changeVersion = delegate.getChangeVersion();
+            if (Objects.nonNull(cached) && cached.version() == changeVersion) {
+                throw notFound.get();
+            }
+        }
+        long version;
+        try {
+            version = versionLoader.load();
+        }
+        catch (ResourceNotFoundException e) {
+            if (Objects.nonNull(changeVersion)) {
+                cache.put(id, new Entry<>(changeVersion, null));
+            }
+            else {
+                cache.invalidate(id);
+            }
+            throw e;
+        }
+        if (Objects.nonNull(cached) && !cached.isNotFound() && cached.version() == version) {
+            return cached.value();
+        }
+        V result = loader.load();
+        // keep the entry of the higher version if another read has loaded the descriptor concurrently
+        cache.asMap().merge(id, new Entry<>(version, result), (x, y) -> !x.isNotFound() && x.version() >= y.version() ? x : y);
+        return result;
+    }
+
+
+    private static <K, V> Cache<K, V> newCache(long maxSize, long expireAfterWriteSeconds, Ticker ticker) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(ticker);
+        if (expireAfterWriteSeconds > 0) {
+            builder.expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds));
+        }
+        return builder.build();
+    }
+
+    @FunctionalInterface
+    private interface Loader<V> {
+
+        public V load() throws ResourceNotFoundException;
+    }
+
+    /**
+     * Cached descriptor with its version, or an ID that was not found with the change version of the backend.
+     */
+    private record Entry<V>(long version, V value) {
+
+        private boolean isNotFound() {
+            return Objects.isNull(value);
+        }
+    }
+
+    private record ListingKey(long changeVersion, String assetType, AssetKind assetKind, String cursor, Long limit) {}
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core.batch;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+
+
+/**
+ * A single write operation of a batch, see
+ * {@link org.eclipse.digitaltwin.fa3st.registry.core.AasRepository#executeBatch(java.util.List)}. Operations on
+ * submodels refer to standalone submodels.
+ */
+public class BatchOperation {
+
+    /**
+     * The type of a batch operation.
+     */
+    public enum Type {
+        CREATE_AAS,
+        UPDATE_AAS,
+        DELETE_AAS,
+        CREATE_SUBMODEL,
+        UPDATE_SUBMODEL,
+        DELETE_SUBMODEL
+    }
+
+    private final Type type;
+    private final String id;
+    private final AssetAdministrationShellDescriptor aas;
+    private final SubmodelDescriptor submodel;
+
+    private BatchOperation(Type type, String id, AssetAdministrationShellDescriptor aas, SubmodelDescriptor submodel) {
+        this.type = type;
+        this.id = id;
+        this.aas = aas;
+        this.submodel = submodel;
+    }
+
+
+    /**
+     * Creates an operation creating the given AAS.
+     *
+     * @param aas the AAS to create
+     * @return the operation
+     */
+    public static BatchOperation createAAS(AssetAdministrationShellDescriptor aas) {
+        return new BatchOperation(Type.CREATE_AAS, aas.getId(), aas, null);
+    }
+
+
+    /**
+     * Creates an operation updating the AAS with the ID of the given AAS.
+     *
+     * @param aas the new AAS
+     * @return the operation
+     */
+    public static BatchOperation updateAAS(AssetAdministrationShellDescriptor aas) {
+        return new BatchOperation(Type.UPDATE_AAS, aas.getId(), aas, null);
+    }
+
+
+    /**
+     * Creates an operation deleting the AAS with the given ID.
+     *
+     * @param aasId the ID of the AAS
+     * @return the operation
+     */
+    public static BatchOperation deleteAAS(String aasId) {
+        return new BatchOperation(Type.DELETE_AAS, aasId, null, null);
+    }
+
+
+    /**
+     * Creates an operation creating the given submodel.
+     *
+     * @param submodel the submodel to create
+     * @return the operation
+     */
+    public static BatchOperation createSubmodel(SubmodelDescriptor submodel) {
+        return new BatchOperation(Type.CREATE_SUBMODEL, submodel.getId(), null, submodel);
+    }
+
+
+    /**
+     * Creates an operation replacing the submodel with the ID of the given submodel.
+     *
+     * @param submodel the new submodel
+     * @return the operation
+     */
+    public static BatchOperation updateSubmodel(SubmodelDescriptor submodel) {
+        return new BatchOperation(Type.UPDATE_SUBMODEL, submodel.getId(), null, submodel);
+    }
+
+
+    /**
+     * Creates an operation deleting the submodel with the given ID.
+     *
+     * @param submodelId the ID of the submodel
+     * @return the operation
+     */
+    public static BatchOperation deleteSubmodel(String submodelId) {
+        return new BatchOperation(Type.DELETE_SUBMODEL, submodelId, null, null);
+    }
+
+
+    public Type getType() {
+        return type;
+    }
+
+
+    /**
+     * Gets the ID of the AAS or submodel the operation refers to.
+     *
+     * @return the ID
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    public AssetAdministrationShellDescriptor getAAS() {
+        return aas;
+    }
+
+
+    public SubmodelDescriptor getSubmodel() {
+        return submodel;
+    }
+
+
+    /**
+     * Checks whether the operation refers to an AAS.
+     *
+     * @return true if the operation refers to an AAS, false if it refers to a submodel
+     */
+    public boolean isAAS() {
+        return type == Type.CREATE_AAS || type == Type.UPDATE_AAS || type == Type.DELETE_AAS;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core.batch;
+
+import java.util.Objects;
+
+
+/**
+ * Result of a single operation of a batch.
+ */
+public class BatchResult {
+
+    private final BatchOperation operation;
+    private final Exception error;
+
+    private BatchResult(BatchOperation operation, Exception error) {
+        this.operation = operation;
+        this.error = error;
+    }
+
+
+    /**
+     * Creates a result for an operation that has been executed successfully.
+     *
+     * @param operation the operation
+     * @return the result
+     */
+    public static BatchResult success(BatchOperation operation) {
+        return new BatchResult(operation, null);
+    }
+
+
+    /**
+     * Creates a result for an operation that failed.
+     *
+     * @param operation the operation
+     * @param error the cause of the failure
+     * @return the result
+     */
+    public static BatchResult failure(BatchOperation operation, Exception error) {
+        return new BatchResult(operation, error);
+    }
+
+
+    public BatchOperation getOperation() {
+        return operation;
+    }
+
+
+    /**
+     * Gets the cause of the failure.
+     *
+     * @return the cause of the failure, null if the operation has been executed successfully
+     */
+    public Exception getError() {
+        return error;
+    }
+
+
+    /**
+     * Checks whether the operation has been executed successfully.
+     *
+     * @return true if the operation has been executed successfully, false otherwise
+     */
+    public boolean isSuccess() {
+        return Objects.isNull(error);
+    }
+}
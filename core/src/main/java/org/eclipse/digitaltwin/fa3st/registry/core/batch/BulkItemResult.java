@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core.batch;
+
+import java.util.Objects;
+
+
+/**
+ * Result of a single item of a bulk request.
+ */
+public class BulkItemResult {
+
+    private String id;
+    private int status;
+    private String message;
+
+    public BulkItemResult() {}
+
+
+    public BulkItemResult(String id, int status, String message) {
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+
+    /**
+     * Gets the ID of the descriptor the item refers to.
+     *
+     * @return the ID, null if the item does not contain an ID
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    /**
+     * Gets the HTTP status code the item would have had as a single request.
+     *
+     * @return the status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+
+    /**
+     * Gets the error message.
+     *
+     * @return the error message, null if the item has been processed successfully
+     */
+    public String getMessage() {
+        return message;
+    }
+
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, message);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            BulkItemResult other = (BulkItemResult) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.status, other.status)
+                    && Objects.equals(this.message, other.message);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * State of an asynchronous bulk job, i.e., a bulk request whose operations are executed in the background. A job
+ * consists of operations of a single type that are executed in batches. The progress is updated after each batch, so
+ * a job can be resumed with the first operation that has not been processed yet.
+ */
+public class BulkJob {
+
+    /**
+     * Status of a bulk job.
+     */
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED;
+
+        /**
+         * Checks whether a job with this status has finished, i.e., will not be processed any further.
+         *
+         * @return true if the job has finished, false otherwise
+         */
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    private String id;
+    private BatchOperation.Type type;
+    private Status status;
+    private int total;
+    private int processed;
+    private int failed;
+    private List<BulkItemResult> failures;
+    private String message;
+    private long createdAt;
+    private long startedAt;
+    private long finishedAt;
+    private String owner;
+    private long heartbeat;
+
+    public BulkJob() {
+        this.failures = new ArrayList<>();
+    }
+
+
+    public BulkJob(BulkJob other) {
+        this.id = other.id;
+        this.type = other.type;
+        this.status = other.status;
+        this.total = other.total;
+        this.processed = other.processed;
+        this.failed = other.failed;
+        this.failures = new ArrayList<>(other.failures);
+        this.message = other.message;
+        this.createdAt = other.createdAt;
+        this.startedAt = other.startedAt;
+        this.finishedAt = other.finishedAt;
+        this.owner = other.owner;
+        this.heartbeat = other.heartbeat;
+    }
+
+
+    /**
+     * Gets the ID of the job.
+     *
+     * @return the ID
+     */
+    public String getId() {
+        return id;
+    }
+
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    /**
+     * Gets the type of the operations of the job.
+     *
+     * @return the type
+     */
+    public BatchOperation.Type getType() {
+        return type;
+    }
+
+
+    public void setType(BatchOperation.Type type) {
+        this.type = type;
+    }
+
+
+    public Status getStatus() {
+        return status;
+    }
+
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+
+    /**
+     * Gets the number of operations of the job.
+     *
+     * @return the number of operations
+     */
+    public int getTotal() {
+        return total;
+    }
+
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+
+    /**
+     * Gets the number of operations that have been processed, either successfully or not. Operations are processed in
+     * order, so this is also the index of the first operation that has not been processed yet.
+     *
+     * @return the number of processed operations
+     */
+    public int getProcessed() {
+        return processed;
+    }
+
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+
+    /**
+     * Gets the number of operations that failed.
+     *
+     * @return the number of failed operations
+     */
+    public int getFailed() {
+        return failed;
+    }
+
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+
+    /**
+     * Gets the results of the operations that failed in the order of the operations.
+     *
+     * @return the results of the failed operations
+     */
+    public List<BulkItemResult> getFailures() {
+        return failures;
+    }
+
+
+    public void setFailures(List<BulkItemResult> failures) {
+        this.failures = failures;
+    }
+
+
+    /**
+     * Gets the reason why the job as a whole failed.
+     *
+     * @return the reason, null if the job did not fail
+     */
+    public String getMessage() {
+        return message;
+    }
+
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+
+    /**
+     * Gets the time the job has been submitted in milliseconds since the epoch.
+     *
+     * @return the time the job has been submitted
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+
+    /**
+     * Gets the time the execution of the job has started in milliseconds since the epoch.
+     *
+     * @return the time the execution has started, 0 if it has not started yet
+     */
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+
+    public void setStartedAt(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+
+    /**
+     * Gets the time the job has finished in milliseconds since the epoch.
+     *
+     * @return the time the job has finished, 0 if it has not finished yet
+     */
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+
+    public void setFinishedAt(long finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+
+    /**
+     * Gets the ID of the instance that holds the lease of the job, i.e., that is allowed to execute it.
+     *
+     * @return the ID of the instance, null if no instance holds the lease
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+
+    /**
+     * Gets the time the owner has last renewed its lease in milliseconds since the epoch. The lease expires if it is
+     * not renewed in time, so another instance may claim the job, e.g., because the owner has stopped.
+     *
+     * @return the time the lease has last been renewed
+     */
+    public long getHeartbeat() {
+        return heartbeat;
+    }
+
+
+    public void setHeartbeat(long heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+
+    /**
+     * Gets the number of operations processed per second since the execution has started until the job has finished
+     * or until now if it is still running.
+     *
+     * @return the number of operations processed per second, 0 if the execution has not started yet
+     */
+    public double getThroughput() {
+        if (startedAt <= 0) {
+            return 0;
+        }
+        long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+        return processed * 1000.0 / Math.max(end - startedAt, 1);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, status, total, processed, failed, failures, message, createdAt, startedAt, finishedAt, owner, heartbeat);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            BulkJob other = (BulkJob) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.type, other.type)
+                    && Objects.equals(this.status, other.status)
+                    && Objects.equals(this.total, other.total)
+                    && Objects.equals(this.processed, other.processed)
+                    && Objects.equals(this.failed, other.failed)
+                    && Objects.equals(this.failures, other.failures)
+                    && Objects.equals(this.message, other.message)
+                    && Objects.equals(this.createdAt, other.createdAt)
+                    && Objects.equals(this.startedAt, other.startedAt)
+                    && Objects.equals(this.finishedAt, other.finishedAt)
+                    && Objects.equals(this.owner, other.owner)
+                    && Objects.equals(this.heartbeat, other.heartbeat);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+
+
+/**
+ * Helper class for computing content hashes of descriptors.
+ *
+ * <p>The content hash of a descriptor is the SHA-256 hash of its JSON serialization, i.e., two descriptors have the
+ * same content hash if and only if they are equal by value. The content hash of an AAS is combined from the content hash
+ * of the AAS without its submodels and the content hashes of its submodels, so that it can be computed from stored
+ * hashes without serializing the submodels again.
+ */
+public class ContentHashHelper {
+
+    private static final JsonSerializer SERIALIZER = new JsonSerializer();
+    private static final String ALGORITHM = "SHA-256";
+
+    private ContentHashHelper() {}
+
+
+    /**
+     * Computes the content hash of an AAS including its submodels.
+     *
+     * @param aas the AAS
+     * @return the content hash
+     */
+    public static String hash(AssetAdministrationShellDescriptor aas) {
+        List<String> submodelHashes = new ArrayList<>();
+        if (Objects.nonNull(aas.getSubmodelDescriptors())) {
+            aas.getSubmodelDescriptors().forEach(x -> submodelHashes.add(hash(x)));
+        }
+        return combine(hashShell(aas), submodelHashes);
+    }
+
+
+    /**
+     * Computes the content hash of an AAS without its submodels.
+     *
+     * @param aas the AAS
+     * @return the content hash of the AAS without its submodels
+     */
+    public static String hashShell(AssetAdministrationShellDescriptor aas) {
+        return digest(write(new DefaultAssetAdministrationShellDescriptor.Builder()
+                .administration(aas.getAdministration())
+                .assetKind(aas.getAssetKind())
+                .assetType(aas.getAssetType())
+                .description(aas.getDescription())
+                .displayName(aas.getDisplayName())
+                .endpoints(aas.getEndpoints())
+                .extensions(aas.getExtensions())
+                .globalAssetId(aas.getGlobalAssetId())
+                .id(aas.getId())
+                .idShort(aas.getIdShort())
+                .specificAssetIds(aas.getSpecificAssetIds())
+                .build()));
+    }
+
+
+    /**
+     * Computes the content hash of a submodel.
+     *
+     * @param submodel the submodel
+     * @return the content hash
+     */
+    public static String hash(SubmodelDescriptor submodel) {
+        return digest(write(submodel));
+    }
+
+
+    /**
+     * Combines the content hash of an AAS without its submodels with the content hashes of its submodels.
+     *
+     * @param shellHash the content hash of the AAS without its submodels
+     * @param submodelHashes the content hashes of the submodels in the order of the submodels
+     * @return the content hash of the AAS including its submodels, null if any of the given hashes is null
+     */
+    public static String combine(String shellHash, List<String> submodelHashes) {
+        if (Objects.isNull(shellHash) || submodelHashes.stream().anyMatch(Objects::isNull)) {
+            return null;
+        }
+        List<String> hashes = new ArrayList<>();
+        hashes.add(shellHash);
+        hashes.addAll(submodelHashes);
+        return digest(String.join(",", hashes));
+    }
+
+
+    private static String write(Object descriptor) {
+        try {
+            return SERIALIZER.write(descriptor);
+        }
+        catch (SerializationException e) {
+            throw new IllegalStateException("serializing descriptor failed", e);
+        }
+    }
+
+
+    private static String digest(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(ALGORITHM).digest(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(String.format("hash algorithm not available (algorithm: %s)", ALGORITHM), e);
+        }
+    }
+}
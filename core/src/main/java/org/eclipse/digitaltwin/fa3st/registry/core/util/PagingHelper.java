@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core.util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingMetadata;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
+
+
+/**
+ * Helper class for paging results.
+ *
+ * <p>Cursors are opaque to clients and contain the Base64URL encoded ID of the last element of the previous page.
+ * Results are ordered by ID so that the next page is a seek on the ordered IDs, i.e., the cost of fetching a page does
+ * not depend on its position and adding or removing elements between page requests does not skip or repeat other
+ * elements.
+ */
+public class PagingHelper {
+
+    private PagingHelper() {}
+
+
+    /**
+     * Gets the ID of the last element of the previous page for the given paging information.
+     *
+     * @param paging The paging information.
+     * @return The ID of the last element of the previous page, null if the first page is requested.
+     * @throws BadRequestException if the limit or cursor is invalid
+     */
+    public static String getLastId(PagingInfo paging) throws BadRequestException {
+        if (paging.hasLimit() && paging.getLimit() < 1) {
+            throw new BadRequestException(String.format("invalid limit - must be >= 1 (actual: %s)", paging.getLimit()));
+        }
+        if (Objects.isNull(paging.getCursor())) {
+            return null;
+        }
+        return readCursor(paging.getCursor());
+    }
+
+
+    /**
+     * Gets the maximum number of elements to fetch for the given paging information. This is one more than the limit
+     * so that it can be detected whether more elements are available.
+     *
+     * @param paging The paging information.
+     * @return The maximum number of elements to fetch, {@link Integer#MAX_VALUE} if there is no limit.
+     */
+    public static int getFetchSize(PagingInfo paging) {
+        if (!paging.hasLimit() || paging.getLimit() >= Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) paging.getLimit() + 1;
+    }
+
+
+    /**
+     * Creates a page of the given list. The elements are ordered by ID.
+     *
+     * @param <T> The type of the elements.
+     * @param input The complete list.
+     * @param paging The paging information.
+     * @param idExtractor Function to get the ID of an element.
+     * @return The requested page.
+     * @throws BadRequestException if the limit or cursor is invalid
+     */
+    public static <T> Page<T> preparePagedResult(List<T> input, PagingInfo paging, Function<T, String> idExtractor) throws BadRequestException {
+        String lastId = getLastId(paging);
+        return toPage(input.stream()
+                .filter(x -> Objects.isNull(lastId) || idExtractor.apply(x).compareTo(lastId) > 0)
+                .sorted(Comparator.comparing(idExtractor))
+                .limit(getFetchSize(paging))
+                .toList(),
+                paging,
+                idExtractor);
+    }
+
+
+    /**
+     * Creates a page from the elements fetched for the given paging information, i.e., the elements ordered by ID
+     * following {@link #getLastId(PagingInfo)} with at most {@link #getFetchSize(PagingInfo)} elements.
+     *
+     * @param <T> The type of the elements.
+     * @param fetched The fetched elements.
+     * @param paging The paging information.
+     * @param idExtractor Function to get the ID of an element.
+     * @return The requested page.
+     */
+    public static <T> Page<T> toPage(List<T> fetched, PagingInfo paging, Function<T, String> idExtractor) {
+        boolean hasMoreData = paging.hasLimit() && fetched.size() > paging.getLimit();
+        List<T> result = hasMoreData
+                ? fetched.subList(0, (int) paging.getLimit())
+                : fetched;
+        return Page.<T> builder()
+                .result(result)
+                .metadata(PagingMetadata.builder()
+                        .cursor(hasMoreData
+                                ? writeCursor(idExtractor.apply(result.get(result.size() - 1)))
+                                : null)
+                        .build())
+                .build();
+    }
+
+
+    /**
+     * Lazily iterates over all elements following the given cursor by fetching pages of the given size on demand, i.e.,
+     * at most one page is held in memory at a time. The first page is fetched immediately so that invalid requests fail
+     * before the first element is consumed.
+     *
+     * @param <T> The type of the elements.
+     * @param fetcher Function to fetch a page.
+     * @param cursor The cursor to start with, null to start with the first element.
+     * @param pageSize The number of elements to fetch at once.
+     * @return A stream of all elements following the given cursor.
+     * @throws BadRequestException if the cursor is invalid
+     */
+    public static <T> Stream<T> stream(Function<PagingInfo, Page<T>> fetcher, String cursor, long pageSize) throws BadRequestException {
+        Iterator<T> iterator = new Iterator<>() {
+            private Page<T> page = fetcher.apply(PagingInfo.builder().cursor(cursor).limit(pageSize).build());
+            private Iterator<T> current = page.getContent().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && Objects.nonNull(page.getMetadata().getCursor())) {
+                    page = fetcher.apply(PagingInfo.builder().cursor(page.getMetadata().getCursor()).limit(pageSize).build());
+                    current = page.getContent().iterator();
+                }
+                return current.hasNext();
+            }
+
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+
+    /**
+     * Maps the elements of a page keeping its metadata.
+     *
+     * @param <T> The type of the input elements.
+     * @param <R> The type of the result elements.
+     * @param page The page to map.
+     * @param mapper The mapping function.
+     * @return The mapped page.
+     */
+    public static <T, R> Page<R> map(Page<T> page, Function<T, R> mapper) {
+        return Page.<R> builder()
+                .result(page.getContent().stream()
+                        .map(mapper)
+                        .toList())
+                .metadata(page.getMetadata())
+                .build();
+    }
+
+
+    private static String readCursor(String cursor) throws BadRequestException {
+        try {
+            String result = EncodingHelper.base64UrlDecode(cursor);
+            if (Objects.nonNull(result) && !result.isEmpty()) {
+                return result;
+            }
+        }
+        catch (IllegalArgumentException e) {
+            // handled below
+        }
+        throw new BadRequestException(String.format("invalid cursor (cursor: %s)", cursor));
+    }
+
+
+    private static String writeCursor(String lastId) {
+        return EncodingHelper.base64UrlEncode(lastId);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Multi-threaded stress test for the {@link AasRepository} contract. Writers and readers run concurrently against the
+ * same AAS, afterwards the repository must contain exactly the expected state and no reader must have failed.
+ */
+public abstract class AbstractAasRepositoryConcurrencyTest<T extends AasRepository> {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 200;
+    private static final long TIMEOUT_SECONDS = 60;
+    private static final String AAS_ID = "ConcurrentAAS";
+
+    protected T repository;
+    private ExecutorService executor;
+
+    @Before
+    public void startExecutor() {
+        executor = Executors.newFixedThreadPool(THREADS * 2);
+    }
+
+
+    @After
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    public void concurrentAddSubmodels() throws Exception {
+        repository.create(getAAS(AAS_ID));
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                repository.addSubmodel(AAS_ID, getSubmodel(thread, i));
+            }
+        });
+        Assert.assertEquals(THREADS * OPERATIONS_PER_THREAD, repository.getSubmodels(AAS_ID).size());
+        Assert.assertEquals(THREADS * OPERATIONS_PER_THREAD, repository.getAAS(AAS_ID).getSubmodelDescriptors().size());
+    }
+
+
+    @Test
+    public void concurrentAddAndDeleteSubmodels() throws Exception {
+        repository.create(getAAS(AAS_ID));
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                SubmodelDescriptor submodel = getSubmodel(thread, i);
+                repository.addSubmodel(AAS_ID, submodel);
+                repository.deleteSubmodel(AAS_ID, submodel.getId());
+            }
+        });
+        Assert.assertTrue(repository.getSubmodels(AAS_ID).isEmpty());
+    }
+
+
+    @Test
+    public void concurrentCreateSameAAS() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                try {
+                    repository.create(getAAS(AAS_ID + i));
+                    created.incrementAndGet();
+                }
+                catch (ResourceAlreadyExistsException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+        Assert.assertEquals(OPERATIONS_PER_THREAD, created.get());
+        Assert.assertEquals((THREADS - 1) * OPERATIONS_PER_THREAD, rejected.get());
+        Assert.assertEquals(OPERATIONS_PER_THREAD, repository.getAASs().size());
+    }
+
+
+    @Test
+    public void concurrentCreateAndDeleteAAS() throws Exception {
+        runConcurrently(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                String aasId = String.format("%s-%d-%d", AAS_ID, thread, i);
+                repository.create(getAAS(aasId));
+                repository.addSubmodel(aasId, getSubmodel(thread, i));
+                repository.deleteAAS(aasId);
+            }
+        });
+        Assert.assertTrue(repository.getAASs().isEmpty());
+    }
+
+
+    /**
+     * Runs the given writer on {@link #THREADS} threads while the same number of reader threads continuously iterate
+     * all AASs and their submodels.
+     *
+     * @param writer the writer to execute, receives the index of the executing thread
+     * @throws Exception if any writer or reader failed
+     */
+    private void runConcurrently(Writer writer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            writers.add(executor.submit((Callable<Void>) () -> {
+                start.await();
+                writer.write(thread);
+                return null;
+            }));
+            readers.add(executor.submit((Callable<Void>) () -> {
+                start.await();
+                while (writing.get()) {
+                    for (AssetAdministrationShellDescriptor aas: repository.getAASs()) {
+                        aas.getSubmodelDescriptors().stream().forEach(x -> Assert.assertNotNull(x.getId()));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future: writers) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+        finally {
+            writing.set(false);
+        }
+        for (Future<?> future: readers) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAAS(String id) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .id(id)
+                .idShort("ConcurrentAAS")
+                .build();
+    }
+
+
+    private static SubmodelDescriptor getSubmodel(int thread, int index) {
+        return new DefaultSubmodelDescriptor.Builder()
+                .id(String.format("ConcurrentSubmodel-%d-%d", thread, index))
+                .idShort("ConcurrentSubmodel")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+
+        /**
+         * Executes write operations on the repository.
+         *
+         * @param thread the index of the executing thread
+         * @throws Exception if writing fails
+         */
+        public void write(int thread) throws Exception;
+    }
+}
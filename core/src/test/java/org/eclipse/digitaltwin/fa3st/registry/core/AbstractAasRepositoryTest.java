@@ -16,9 +16,13 @@ package org.eclipse.digitaltwin.fa3st.registry.core;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
 import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
 import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAdministrativeInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
@@ -30,7 +34,15 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProtocolInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
@@ -179,6 +191,34 @@ public abstract class AbstractAasRepositoryTest<T extends AasRepository> {
     }
 
 
+    @Test
+    public void updateAASWithNewId() throws Exception {
+        repository.create(getAASWithSubmodel());
+        AssetAdministrationShellDescriptor renamed = getAASWithSubmodel();
+        renamed.setId("TestAAS2");
+        renamed.setIdShort("NewIdShort");
+        repository.update("TestAAS1", renamed);
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAAS("TestAAS1"));
+        AssetAdministrationShellDescriptor aas = repository.getAAS("TestAAS2");
+        Assert.assertEquals("NewIdShort", aas.getIdShort());
+        Assert.assertEquals(1, aas.getSubmodelDescriptors().size());
+        compareSubmodel(renamed.getSubmodelDescriptors().get(0), repository.getSubmodel("TestAAS2", "TestSubmodel1"));
+
+        AssetAdministrationShellDescriptor other = getAASWithSubmodel();
+        other.setId("TestAAS3");
+        other.setSubmodelDescriptors(new ArrayList<>());
+        repository.create(other);
+        AssetAdministrationShellDescriptor conflicting = getAASWithSubmodel();
+        conflicting.setId("TestAAS3");
+        conflicting.setIdShort("ConflictingIdShort");
+        Assert.assertThrows(ResourceAlreadyExistsException.class, () -> repository.update("TestAAS2", conflicting));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.update("UnknownAAS", conflicting));
+        Assert.assertEquals("NewIdShort", repository.getAAS("TestAAS2").getIdShort());
+        Assert.assertEquals("Test1", repository.getAAS("TestAAS3").getIdShort());
+        Assert.assertTrue(repository.getAAS("TestAAS3").getSubmodelDescriptors().isEmpty());
+    }
+
+
     @Test
     public void deleteAAS() throws Exception {
         repository.create(getAASWithSubmodel());
@@ -267,6 +307,280 @@ public abstract class AbstractAasRepositoryTest<T extends AasRepository> {
     }
 
 
+    @Test
+    public void filterAASsByAssetTypeAndAssetKind() throws Exception {
+        repository.create(getAAS("FilterAAS1", "TypeA", AssetKind.INSTANCE));
+        repository.create(getAAS("FilterAAS2", "TypeA", AssetKind.TYPE));
+        repository.create(getAAS("FilterAAS3", "TypeB", AssetKind.INSTANCE));
+
+        Assert.assertEquals(Set.of("FilterAAS1", "FilterAAS2"), getAASIds("TypeA", null));
+        Assert.assertEquals(Set.of("FilterAAS1", "FilterAAS3"), getAASIds(null, AssetKind.INSTANCE));
+        Assert.assertEquals(Set.of("FilterAAS1"), getAASIds("TypeA", AssetKind.INSTANCE));
+        Assert.assertEquals(Set.of(), getAASIds("TypeC", AssetKind.INSTANCE));
+
+        repository.update("FilterAAS1", getAAS("FilterAAS1", "TypeB", AssetKind.INSTANCE));
+        Assert.assertEquals(Set.of(), getAASIds("TypeA", AssetKind.INSTANCE));
+        Assert.assertEquals(Set.of("FilterAAS1", "FilterAAS3"), getAASIds("TypeB", AssetKind.INSTANCE));
+
+        repository.deleteAAS("FilterAAS3");
+        Assert.assertEquals(Set.of("FilterAAS1"), getAASIds("TypeB", null));
+        Assert.assertEquals(Set.of("FilterAAS1", "FilterAAS2"), getAASIds(null, null));
+    }
+
+
+    @Test
+    public void findAASIdsByAssetIds() throws Exception {
+        repository.create(getAASWithSubmodel());
+        AssetAdministrationShellDescriptor aas = getAAS("DiscoveryAAS2", null, null);
+        aas.setGlobalAssetId("http://example.org/aasTest1");
+        repository.create(aas);
+
+        SpecificAssetId globalAssetId = getSpecificAssetId(AbstractAasRepository.GLOBAL_ASSET_ID, "http://example.org/aasTest1");
+        Assert.assertEquals(List.of("DiscoveryAAS2", "TestAAS1"), repository.getAASIdsByAssetIds(List.of(globalAssetId)));
+        Assert.assertEquals(List.of("TestAAS1"), repository.getAASIdsByAssetIds(List.of(globalAssetId, getSpecificAssetId("TestKey", "ValueTest"))));
+        Assert.assertEquals(List.of(), repository.getAASIdsByAssetIds(List.of(getSpecificAssetId("TestKey", "OtherValue"))));
+        Assert.assertEquals(List.of("DiscoveryAAS2", "TestAAS1"), repository.getAASIdsByAssetIds(List.of()));
+
+        repository.deleteAAS("TestAAS1");
+        Assert.assertEquals(List.of("DiscoveryAAS2"), repository.getAASIdsByAssetIds(List.of(globalAssetId)));
+    }
+
+
+    @Test
+    public void findSubmodelsBySemanticId() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        SubmodelDescriptor submodel = getSubmodel();
+        repository.create(aas);
+        repository.addSubmodel(aas.getId(), submodel);
+        repository.addSubmodel(submodel);
+
+        Assert.assertEquals(List.of("TestSubmodel1"), getSubmodelIds(repository.getSubmodelsBySemanticId(aas.getId(), "http://example.org/smTest1")));
+        Assert.assertEquals(List.of(submodel.getId()), getSubmodelIds(repository.getSubmodelsBySemanticId(aas.getId(), "http://example.org/smTest2")));
+        Assert.assertEquals(List.of(submodel.getId()), getSubmodelIds(repository.getSubmodelsBySemanticId("http://example.org/smTest2")));
+        Assert.assertEquals(List.of(), repository.getSubmodelsBySemanticId("http://example.org/smTest1"));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodelsBySemanticId("UnknownAAS", "http://example.org/smTest1"));
+
+        repository.deleteSubmodel(aas.getId(), submodel.getId());
+        Assert.assertEquals(List.of(), repository.getSubmodelsBySemanticId(aas.getId(), "http://example.org/smTest2"));
+    }
+
+
+    @Test
+    public void pageAASsAndSubmodels() throws Exception {
+        repository.create(getAAS("PageAAS2", "TypePage", null));
+        repository.create(getAAS("PageAAS1", "TypePage", null));
+        repository.create(getAAS("PageAAS3", "TypePage", null));
+        PagingInfo paging = PagingInfo.builder().limit(2).build();
+
+        Page<AssetAdministrationShellDescriptor> page = repository.getAASs("TypePage", null, paging);
+        Assert.assertEquals(List.of("PageAAS1", "PageAAS2"), page.getContent().stream().map(AssetAdministrationShellDescriptor::getId).toList());
+        Assert.assertNotNull(page.getMetadata().getCursor());
+        // removing an element of a previous page must not shift the next page
+        repository.deleteAAS("PageAAS1");
+        page = repository.getAASs("TypePage", null, PagingInfo.builder().limit(2).cursor(page.getMetadata().getCursor()).build());
+        Assert.assertEquals(List.of("PageAAS3"), page.getContent().stream().map(AssetAdministrationShellDescriptor::getId).toList());
+        Assert.assertNull(page.getMetadata().getCursor());
+
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        repository.addSubmodel(aas.getId(), getSubmodel());
+        Page<SubmodelDescriptor> submodels = repository.getSubmodels(aas.getId(), PagingInfo.builder().limit(1).build());
+        Assert.assertEquals(List.of("TestSubmodel1"), getSubmodelIds(submodels.getContent()));
+        submodels = repository.getSubmodels(aas.getId(), PagingInfo.builder().limit(1).cursor(submodels.getMetadata().getCursor()).build());
+        Assert.assertEquals(List.of("TestSubmodel2"), getSubmodelIds(submodels.getContent()));
+        Assert.assertNull(submodels.getMetadata().getCursor());
+
+        repository.addSubmodel(getSubmodel());
+        Assert.assertEquals(List.of("TestSubmodel2"), getSubmodelIds(repository.getSubmodels(paging).getContent()));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodels("UnknownAAS", paging));
+        Assert.assertThrows(BadRequestException.class, () -> repository.getAASs(null, null, PagingInfo.builder().cursor("!invalid!").build()));
+        Assert.assertThrows(BadRequestException.class, () -> repository.getAASs(null, null, PagingInfo.builder().limit(0).build()));
+    }
+
+
+    @Test
+    public void replaceAASSubmodel() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        repository.addSubmodel(aas.getId(), getSubmodel());
+        SubmodelDescriptor expected = getSubmodel();
+        expected.setIdShort("NewIdShort");
+        repository.replaceSubmodel(aas.getId(), expected.getId(), expected);
+        compareSubmodel(expected, repository.getSubmodel(aas.getId(), expected.getId()));
+
+        // replacing with a new ID keeps the position
+        SubmodelDescriptor renamed = getSubmodel();
+        renamed.setId("TestSubmodel0");
+        repository.replaceSubmodel(aas.getId(), "TestSubmodel1", renamed);
+        Assert.assertEquals(List.of("TestSubmodel0", "TestSubmodel2"), getSubmodelIds(repository.getSubmodels(aas.getId())));
+        Assert.assertEquals(List.of("TestSubmodel0"), getSubmodelIds(repository.getSubmodelsBySemanticId(aas.getId(), "http://example.org/smTest2")));
+        Assert.assertEquals(List.of(), repository.getSubmodelsBySemanticId(aas.getId(), "http://example.org/smTest1"));
+
+        Assert.assertThrows(ResourceAlreadyExistsException.class, () -> repository.replaceSubmodel(aas.getId(), "TestSubmodel0", getSubmodel()));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.replaceSubmodel(aas.getId(), "UnknownSubmodel", getSubmodel()));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.replaceSubmodel("UnknownAAS", "TestSubmodel0", getSubmodel()));
+    }
+
+
+    @Test
+    public void replaceStandAloneSubmodel() throws Exception {
+        repository.addSubmodel(getSubmodel());
+        SubmodelDescriptor expected = getSubmodel();
+        expected.setIdShort("NewIdShort");
+        repository.replaceSubmodel(expected.getId(), expected);
+        compareSubmodel(expected, repository.getSubmodel(expected.getId()));
+
+        SubmodelDescriptor renamed = getSubmodel();
+        renamed.setId("TestSubmodel3");
+        repository.replaceSubmodel(expected.getId(), renamed);
+        compareSubmodel(renamed, repository.getSubmodel(renamed.getId()));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodel(expected.getId()));
+        Assert.assertEquals(List.of("TestSubmodel3"), getSubmodelIds(repository.getSubmodelsBySemanticId("http://example.org/smTest2")));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.replaceSubmodel(expected.getId(), getSubmodel()));
+    }
+
+
+    @Test
+    public void upsertSubmodel() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        SubmodelDescriptor expected = getSubmodel();
+        repository.upsertSubmodel(aas.getId(), expected);
+        compareSubmodel(expected, repository.getSubmodel(aas.getId(), expected.getId()));
+        expected.setIdShort("NewIdShort");
+        repository.upsertSubmodel(aas.getId(), expected);
+        compareSubmodel(expected, repository.getSubmodel(aas.getId(), expected.getId()));
+        Assert.assertEquals(2, repository.getSubmodels(aas.getId()).size());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.upsertSubmodel("UnknownAAS", getSubmodel()));
+
+        SubmodelDescriptor standalone = getSubmodel();
+        repository.upsertSubmodel(standalone);
+        compareSubmodel(standalone, repository.getSubmodel(standalone.getId()));
+        standalone.setIdShort("NewIdShort");
+        repository.upsertSubmodel(standalone);
+        compareSubmodel(standalone, repository.getSubmodel(standalone.getId()));
+        Assert.assertEquals(1, repository.getSubmodels().size());
+    }
+
+
+    @Test
+    public void contentHashMatchesStoredDescriptor() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        SubmodelDescriptor submodel = getSubmodel();
+        repository.addSubmodel(aas.getId(), submodel);
+        aas.getSubmodelDescriptors().add(submodel);
+        Assert.assertEquals(ContentHashHelper.hash(aas), repository.getAASContentHash(aas.getId()));
+        Assert.assertEquals(ContentHashHelper.hash(submodel), repository.getSubmodelContentHash(aas.getId(), submodel.getId()));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodelContentHash(aas.getId(), "UnknownSubmodel"));
+
+        repository.addSubmodel(submodel);
+        Assert.assertEquals(ContentHashHelper.hash(submodel), repository.getSubmodelContentHash(submodel.getId()));
+        SubmodelDescriptor changed = getSubmodel();
+        changed.setIdShort("Changed");
+        repository.replaceSubmodel(submodel.getId(), changed);
+        Assert.assertEquals(ContentHashHelper.hash(changed), repository.getSubmodelContentHash(submodel.getId()));
+        repository.deleteSubmodel(submodel.getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodelContentHash(submodel.getId()));
+    }
+
+
+    @Test
+    public void checkExpectedVersion() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        long version = repository.getAASVersion(aas.getId());
+        Assert.assertThrows(PreconditionFailedException.class, () -> repository.update(aas.getId(), aas, version + 1));
+        Assert.assertThrows(PreconditionFailedException.class, () -> repository.deleteSubmodel(aas.getId(), "TestSubmodel1", version + 1));
+        Assert.assertThrows(PreconditionFailedException.class, () -> repository.deleteAAS(aas.getId(), version + 1));
+        aas.setIdShort("NewIdShort");
+        repository.update(aas.getId(), aas, version);
+        Assert.assertEquals("NewIdShort", repository.getAAS(aas.getId()).getIdShort());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAASVersion("UnknownAAS"));
+
+        SubmodelDescriptor submodel = getSubmodel();
+        repository.addSubmodel(submodel);
+        long submodelVersion = repository.getSubmodelVersion(submodel.getId());
+        Assert.assertThrows(PreconditionFailedException.class, () -> repository.replaceSubmodel(submodel.getId(), submodel, submodelVersion + 1));
+        Assert.assertThrows(PreconditionFailedException.class, () -> repository.deleteSubmodel(submodel.getId(), submodelVersion + 1));
+        repository.deleteSubmodel(submodel.getId(), submodelVersion);
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodelVersion(submodel.getId()));
+    }
+
+
+    @Test
+    public void changeVersionChangesOnWrite() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        long version = repository.getChangeVersion();
+        repository.create(aas);
+        Assert.assertNotEquals(version, repository.getChangeVersion());
+        version = repository.getChangeVersion();
+        repository.getAAS(aas.getId());
+        repository.getAASs(null, null);
+        Assert.assertEquals(version, repository.getChangeVersion());
+        repository.addSubmodel(getSubmodel());
+        Assert.assertNotEquals(version, repository.getChangeVersion());
+        version = repository.getChangeVersion();
+        repository.deleteSubmodel(aas.getId(), "TestSubmodel1");
+        Assert.assertNotEquals(version, repository.getChangeVersion());
+        version = repository.getChangeVersion();
+        repository.deleteAAS(aas.getId());
+        Assert.assertNotEquals(version, repository.getChangeVersion());
+    }
+
+
+    @Test
+    public void executeBatch() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        List<BatchResult> results = repository.executeBatch(List.of(
+                BatchOperation.createAAS(aas),
+                BatchOperation.createAAS(getAASWithSubmodel()),
+                BatchOperation.createSubmodel(getSubmodel()),
+                BatchOperation.deleteAAS("UnknownAAS"),
+                BatchOperation.deleteSubmodel(getSubmodel().getId())));
+        Assert.assertEquals(5, results.size());
+        Assert.assertTrue(results.get(0).isSuccess());
+        Assert.assertTrue(results.get(1).getError() instanceof ResourceAlreadyExistsException);
+        Assert.assertTrue(results.get(2).isSuccess());
+        Assert.assertTrue(results.get(3).getError() instanceof ResourceNotFoundException);
+        Assert.assertTrue(results.get(4).isSuccess());
+        Assert.assertEquals(aas.getId(), repository.getAAS(aas.getId()).getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodel(getSubmodel().getId()));
+    }
+
+
+    private static List<String> getSubmodelIds(List<SubmodelDescriptor> submodels) {
+        return submodels.stream()
+                .map(SubmodelDescriptor::getId)
+                .toList();
+    }
+
+
+    private static SpecificAssetId getSpecificAssetId(String name, String value) {
+        return new DefaultSpecificAssetId.Builder()
+                .name(name)
+                .value(value)
+                .build();
+    }
+
+
+    private Set<String> getAASIds(String assetType, AssetKind assetKind) {
+        return repository.getAASs(assetType, assetKind).stream()
+                .map(AssetAdministrationShellDescriptor::getId)
+                .collect(Collectors.toSet());
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAAS(String id, String assetType, AssetKind assetKind) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .idShort(id)
+                .id(id)
+                .assetType(assetType)
+                .assetKind(assetKind)
+                .build();
+    }
+
+
     protected void compareSubmodel(SubmodelDescriptor expected, SubmodelDescriptor actual) {
         Assert.assertEquals(expected, actual);
     }
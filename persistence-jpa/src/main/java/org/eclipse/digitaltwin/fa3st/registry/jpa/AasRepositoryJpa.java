@@ -14,28 +14,49 @@
 package org.eclipse.digitaltwin.fa3st.registry.jpa;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
 import org.eclipse.digitaltwin.fa3st.registry.core.AbstractAasRepository;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.PagingHelper;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptorBase;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptorStandalone;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ChangeVersionHelper;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.util.EntityManagerHelper;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.util.FetchPlanHelper;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ModelTransformationHelper;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.util.UpdateHelper;
 import org.springframework.stereotype.Repository;
 
 
 /**
  * Relational database implementation of the Repository.
+ *
+ * <p>All to-many associations are mapped lazily. Operations returning descriptors load them completely using
+ * {@link FetchPlanHelper} while operations that only check for existence or modify a descriptor only load the rows they
+ * need. Updates only write the parts of a descriptor that changed, see {@link UpdateHelper}. AASs and standalone
+ * submodels have an optimistic lock version that is incremented on every write including writes to their submodels.
+ * Every write also increments the registry-wide change version, see {@link ChangeVersionHelper}.
+ *
+ * <p>Every public method runs in a transaction. As {@link #executeBatch(List)} calls the single operations on this
+ * instance, they join its transaction, i.e., the rows of all operations of a batch are written with JDBC batches and
+ * committed at once. Operations rejected by the checks of the repository, e.g., because of an unknown or duplicate ID,
+ * fail before writing anything and therefore do not affect the other operations of the batch.
  */
 @Repository
 @Transactional
@@ -51,7 +72,21 @@ public class AasRepositoryJpa extends AbstractAasRepository {
 
     @Override
     public List<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind) {
-        return EntityManagerHelper.getAllAas(entityManager, assetType, assetKind);
+        return FetchPlanHelper.initializeAASs(EntityManagerHelper.getAllAas(entityManager, assetType, assetKind));
+    }
+
+
+    @Override
+    public Page<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind, PagingInfo paging) {
+        return PagingHelper.toPage(FetchPlanHelper.initializeAASs(EntityManagerHelper.getAas(entityManager, assetType, assetKind,
+                PagingHelper.getLastId(paging), PagingHelper.getFetchSize(paging))), paging, AssetAdministrationShellDescriptor::getId);
+    }
+
+
+    @Override
+    public List<String> getAASIdsByAssetIds(List<SpecificAssetId> assetIds) {
+        ensureAssetIds(assetIds);
+        return EntityManagerHelper.getAasIdsByAssetIds(entityManager, assetIds);
     }
 
 
@@ -60,7 +95,33 @@ public class AasRepositoryJpa extends AbstractAasRepository {
         Ensure.requireNonNull(aasId, "id must be non-null");
         AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        return aas;
+        return FetchPlanHelper.initialize(aas);
+    }
+
+
+    @Override
+    public String getAASContentHash(String aasId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        JpaAssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        return ContentHashHelper.combine(aas.getContentHash(), aas.getSubmodelDescriptors().stream()
+                .map(x -> ((JpaSubmodelDescriptorBase) x).getContentHash())
+                .toList());
+    }
+
+
+    @Override
+    public long getAASVersion(String aasId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        JpaAssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        return aas.getVersion();
+    }
+
+
+    @Override
+    public long getChangeVersion() {
+        return ChangeVersionHelper.get(entityManager);
     }
 
 
@@ -69,6 +130,7 @@ public class AasRepositoryJpa extends AbstractAasRepository {
         ensureDescriptorId(descriptor);
         AssetAdministrationShellDescriptor aas = fetchAAS(descriptor.getId());
         Ensure.require(Objects.isNull(aas), buildAASAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
         JpaAssetAdministrationShellDescriptor result = ModelTransformationHelper.convertAAS(descriptor);
         entityManager.persist(result);
         return result;
@@ -76,24 +138,42 @@ public class AasRepositoryJpa extends AbstractAasRepository {
 
 
     @Override
-    public void deleteAAS(String aasId) throws ResourceNotFoundException {
+    public void deleteAAS(String aasId, Long expectedVersion) throws ResourceNotFoundException {
         ensureAasId(aasId);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        JpaAssetAdministrationShellDescriptor aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        ensureAASVersion(aasId, expectedVersion, aas.getVersion());
+        ChangeVersionHelper.increment(entityManager);
         entityManager.remove(aas);
     }
 
 
     @Override
-    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor) throws ResourceNotFoundException {
+    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         ensureAasId(aasId);
         ensureDescriptorId(descriptor);
-        JpaAssetAdministrationShellDescriptor aas = fetchAAS(descriptor.getId());
+        JpaAssetAdministrationShellDescriptor aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        return entityManager.merge(new JpaAssetAdministrationShellDescriptor.Builder()
-                .id(aas.getId())
-                .from(descriptor)
-                .build());
+        ensureAASVersion(aasId, expectedVersion, aas.getVersion());
+        Ensure.require(Objects.equals(aasId, descriptor.getId()) || Objects.isNull(fetchAAS(descriptor.getId())),
+                buildAASAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.equals(aasId, descriptor.getId())) {
+            incrementVersion(aas);
+            return FetchPlanHelper.initialize(UpdateHelper.update(entityManager, aas, descriptor));
+        }
+        // the ID is the primary key and cannot be changed on a managed entity, so a new row replaces the old one. The
+        // submodels are moved to the new row before removing the old one so that unchanged submodels are kept.
+        JpaAssetAdministrationShellDescriptor result = new JpaAssetAdministrationShellDescriptor.Builder()
+                .id(descriptor.getId())
+                .build();
+        result.setSubmodelDescriptors(new ArrayList<>(aas.getSubmodelDescriptors()));
+        aas.getSubmodelDescriptors().clear();
+        entityManager.remove(aas);
+        entityManager.flush();
+        entityManager.persist(result);
+        return FetchPlanHelper.initialize(UpdateHelper.update(entityManager, result, descriptor));
     }
 
 
@@ -102,13 +182,45 @@ public class AasRepositoryJpa extends AbstractAasRepository {
         ensureAasId(aasId);
         AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        return aas.getSubmodelDescriptors();
+        return FetchPlanHelper.initializeSubmodels(aas.getSubmodelDescriptors());
     }
 
 
     @Override
     public List<SubmodelDescriptor> getSubmodels() {
-        return EntityManagerHelper.getAll(entityManager, JpaSubmodelDescriptorStandalone.class, SubmodelDescriptor.class);
+        return FetchPlanHelper.initializeSubmodels(EntityManagerHelper.getAll(entityManager, JpaSubmodelDescriptorStandalone.class, SubmodelDescriptor.class));
+    }
+
+
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(String aasId, PagingInfo paging) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        Ensure.requireNonNull(fetchAAS(aasId), buildAASNotFoundException(aasId));
+        return PagingHelper.toPage(FetchPlanHelper.initializeSubmodels(EntityManagerHelper.getSubmodels(entityManager, aasId,
+                PagingHelper.getLastId(paging), PagingHelper.getFetchSize(paging))), paging, SubmodelDescriptor::getId);
+    }
+
+
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(PagingInfo paging) {
+        return PagingHelper.toPage(FetchPlanHelper.initializeSubmodels(EntityManagerHelper.getSubmodels(entityManager,
+                PagingHelper.getLastId(paging), PagingHelper.getFetchSize(paging))), paging, SubmodelDescriptor::getId);
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String aasId, String semanticId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSemanticId(semanticId);
+        Ensure.requireNonNull(fetchAAS(aasId), buildAASNotFoundException(aasId));
+        return FetchPlanHelper.initializeSubmodels(EntityManagerHelper.getSubmodelsBySemanticId(entityManager, aasId, semanticId));
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String semanticId) {
+        ensureSemanticId(semanticId);
+        return FetchPlanHelper.initializeSubmodels(EntityManagerHelper.getSubmodelsBySemanticId(entityManager, semanticId));
     }
 
 
@@ -116,16 +228,12 @@ public class AasRepositoryJpa extends AbstractAasRepository {
     public SubmodelDescriptor getSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
         ensureAasId(aasId);
         ensureSubmodelId(submodelId);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
-        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-
-        List<SubmodelDescriptor> submodels = aas.getSubmodelDescriptors();
-        Optional<SubmodelDescriptor> submodel = submodels.stream()
-                .filter(x -> Objects.nonNull(x.getId())
-                        && Objects.equals(x.getId(), submodelId))
-                .findAny();
-        Ensure.require(submodel.isPresent(), buildSubmodelNotFoundInAASException(aasId, submodelId));
-        return submodel.get();
+        SubmodelDescriptor submodel = EntityManagerHelper.getSubmodel(entityManager, aasId, submodelId);
+        if (Objects.isNull(submodel)) {
+            Ensure.requireNonNull(fetchAAS(aasId), buildAASNotFoundException(aasId));
+            throw buildSubmodelNotFoundInAASException(aasId, submodelId);
+        }
+        return FetchPlanHelper.initialize(submodel);
     }
 
 
@@ -134,7 +242,38 @@ public class AasRepositoryJpa extends AbstractAasRepository {
         ensureSubmodelId(submodelId);
         SubmodelDescriptor submodel = fetchSubmodelStandalone(submodelId);
         Ensure.requireNonNull(submodel, buildSubmodelNotFoundException(submodelId));
-        return submodel;
+        return FetchPlanHelper.initialize(submodel);
+    }
+
+
+    @Override
+    public String getSubmodelContentHash(String aasId, String submodelId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSubmodelId(submodelId);
+        JpaSubmodelDescriptor submodel = EntityManagerHelper.getSubmodel(entityManager, aasId, submodelId);
+        if (Objects.isNull(submodel)) {
+            Ensure.requireNonNull(fetchAAS(aasId), buildAASNotFoundException(aasId));
+            throw buildSubmodelNotFoundInAASException(aasId, submodelId);
+        }
+        return submodel.getContentHash();
+    }
+
+
+    @Override
+    public String getSubmodelContentHash(String submodelId) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        JpaSubmodelDescriptorStandalone submodel = fetchSubmodelStandalone(submodelId);
+        Ensure.requireNonNull(submodel, buildSubmodelNotFoundException(submodelId));
+        return submodel.getContentHash();
+    }
+
+
+    @Override
+    public long getSubmodelVersion(String submodelId) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        JpaSubmodelDescriptorStandalone submodel = fetchSubmodelStandalone(submodelId);
+        Ensure.requireNonNull(submodel, buildSubmodelNotFoundException(submodelId));
+        return submodel.getVersion();
     }
 
 
@@ -144,9 +283,9 @@ public class AasRepositoryJpa extends AbstractAasRepository {
         ensureDescriptorId(descriptor);
         AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        if (getSubmodelInternal(aas.getSubmodelDescriptors(), descriptor.getId()).isPresent()) {
-            throw buildSubmodelAlreadyExistsException(descriptor.getId());
-        }
+        Ensure.require(Objects.isNull(EntityManagerHelper.getSubmodel(entityManager, aasId, descriptor.getId())),
+                buildSubmodelAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
         JpaSubmodelDescriptor submodel = ModelTransformationHelper.convertSubmodel(descriptor);
         aas.getSubmodelDescriptors().add(submodel);
         entityManager.merge(aas);
@@ -159,6 +298,7 @@ public class AasRepositoryJpa extends AbstractAasRepository {
         ensureDescriptorId(descriptor);
         SubmodelDescriptor submodel = fetchSubmodelStandalone(descriptor.getId());
         Ensure.require(Objects.isNull(submodel), buildSubmodelAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
         submodel = ModelTransformationHelper.convertSubmodelStandalone(descriptor);
         entityManager.persist(submodel);
         return submodel;
@@ -166,29 +306,126 @@ public class AasRepositoryJpa extends AbstractAasRepository {
 
 
     @Override
-    public void deleteSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+    public SubmodelDescriptor replaceSubmodel(String aasId, String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         ensureAasId(aasId);
         ensureSubmodelId(submodelId);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        ensureDescriptorId(descriptor);
+        JpaAssetAdministrationShellDescriptor aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        Optional<SubmodelDescriptor> submodel = aas.getSubmodelDescriptors().stream()
-                .filter(x -> Objects.equals(x.getId(), submodelId)
-                        || (Objects.nonNull(x.getId())
-                                && x.getId().equalsIgnoreCase(submodelId)))
-                .findAny();
-        Ensure.require(submodel.isPresent(), buildSubmodelNotFoundInAASException(aasId, submodelId));
-        entityManager.remove(aas);
-        aas.getSubmodelDescriptors().removeIf(x -> x.getId().equals(submodelId));
-        entityManager.persist(aas);
+        ensureAASVersion(aasId, expectedVersion, aas.getVersion());
+        JpaSubmodelDescriptor submodel = EntityManagerHelper.getSubmodel(entityManager, aasId, submodelId);
+        Ensure.requireNonNull(submodel, buildSubmodelNotFoundInAASException(aasId, submodelId));
+        Ensure.require(Objects.equals(submodelId, descriptor.getId())
+                || Objects.isNull(EntityManagerHelper.getSubmodel(entityManager, aasId, descriptor.getId())),
+                buildSubmodelAlreadyExistsException(descriptor.getId()));
+        incrementVersion(aas);
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.equals(submodelId, descriptor.getId())) {
+            return FetchPlanHelper.initialize(UpdateHelper.update(entityManager, submodel, descriptor));
+        }
+        // the ID is the primary key, so a new row replaces the old one at the same position within the same transaction
+        JpaSubmodelDescriptor result = ModelTransformationHelper.convertSubmodel(descriptor);
+        List<SubmodelDescriptor> submodels = aas.getSubmodelDescriptors();
+        submodels.set(submodels.indexOf(submodel), result);
+        entityManager.remove(submodel);
+        entityManager.persist(result);
+        return result;
     }
 
 
     @Override
-    public void deleteSubmodel(String submodelId) throws ResourceNotFoundException {
+    public SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         ensureSubmodelId(submodelId);
-        SubmodelDescriptor submodel = fetchSubmodelStandalone(submodelId);
+        ensureDescriptorId(descriptor);
+        JpaSubmodelDescriptorStandalone submodel = fetchSubmodelStandalone(submodelId);
         Ensure.requireNonNull(submodel, buildSubmodelNotFoundException(submodelId));
+        ensureSubmodelVersion(submodelId, expectedVersion, submodel.getVersion());
+        Ensure.require(Objects.equals(submodelId, descriptor.getId()) || Objects.isNull(fetchSubmodelStandalone(descriptor.getId())),
+                buildSubmodelAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.equals(submodelId, descriptor.getId())) {
+            incrementVersion(submodel);
+            return FetchPlanHelper.initialize(UpdateHelper.update(entityManager, submodel, descriptor));
+        }
         entityManager.remove(submodel);
+        JpaSubmodelDescriptorStandalone result = ModelTransformationHelper.convertSubmodelStandalone(descriptor);
+        entityManager.persist(result);
+        return result;
+    }
+
+
+    @Override
+    public SubmodelDescriptor upsertSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureDescriptorId(descriptor);
+        JpaAssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        JpaSubmodelDescriptor submodel = EntityManagerHelper.getSubmodel(entityManager, aasId, descriptor.getId());
+        incrementVersion(aas);
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.nonNull(submodel)) {
+            return FetchPlanHelper.initialize(UpdateHelper.update(entityManager, submodel, descriptor));
+        }
+        JpaSubmodelDescriptor result = ModelTransformationHelper.convertSubmodel(descriptor);
+        aas.getSubmodelDescriptors().add(result);
+        entityManager.persist(result);
+        return result;
+    }
+
+
+    @Override
+    public SubmodelDescriptor upsertSubmodel(SubmodelDescriptor descriptor) {
+        ensureDescriptorId(descriptor);
+        JpaSubmodelDescriptorStandalone submodel = fetchSubmodelStandalone(descriptor.getId());
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.nonNull(submodel)) {
+            incrementVersion(submodel);
+            return FetchPlanHelper.initialize(UpdateHelper.update(entityManager, submodel, descriptor));
+        }
+        JpaSubmodelDescriptorStandalone result = ModelTransformationHelper.convertSubmodelStandalone(descriptor);
+        entityManager.persist(result);
+        return result;
+    }
+
+
+    @Override
+    public void deleteSubmodel(String aasId, String submodelId, Long expectedVersion) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSubmodelId(submodelId);
+        JpaAssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        ensureAASVersion(aasId, expectedVersion, aas.getVersion());
+        JpaSubmodelDescriptor submodel = EntityManagerHelper.getSubmodel(entityManager, aasId, submodelId);
+        Ensure.requireNonNull(submodel, buildSubmodelNotFoundInAASException(aasId, submodelId));
+        ChangeVersionHelper.increment(entityManager);
+        // only removes the association and the rows owned by the submodel, the AAS and its other submodels are untouched
+        aas.getSubmodelDescriptors().remove(submodel);
+        entityManager.remove(submodel);
+    }
+
+
+    @Override
+    public void deleteSubmodel(String submodelId, Long expectedVersion) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        JpaSubmodelDescriptorStandalone submodel = fetchSubmodelStandalone(submodelId);
+        Ensure.requireNonNull(submodel, buildSubmodelNotFoundException(submodelId));
+        ensureSubmodelVersion(submodelId, expectedVersion, submodel.getVersion());
+        ChangeVersionHelper.increment(entityManager);
+        entityManager.remove(submodel);
+    }
+
+
+    /**
+     * Increments the version of the given entity when the transaction commits. This is needed for writes that only
+     * modify rows of child entities, e.g., the endpoints of a submodel, as these do not change the version of the
+     * owning AAS or standalone submodel. The increment fails if the entity has been modified concurrently.
+     *
+     * @param entity the AAS or standalone submodel
+     */
+    private void incrementVersion(Object entity) {
+        entityManager.lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
     }
 
 
@@ -0,0 +1,449 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.registry.core.AbstractAasRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.PagingHelper;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDocument;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDocumentAssetId;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDocument;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ChangeVersionHelper;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.util.DocumentHelper;
+import org.springframework.stereotype.Repository;
+
+
+/**
+ * Relational database implementation of the Repository storing each descriptor as a single JSON document.
+ *
+ * <p>In contrast to {@link AasRepositoryJpa}, which normalizes a descriptor into many tables, an AAS including its
+ * submodels as well as a standalone submodel is stored in a single row. Only the columns needed for filtering and
+ * lookups (ID, assetType, assetKind, globalAssetId, specific asset IDs and semantic IDs of standalone submodels) are
+ * extracted from the document. Reading or writing a descriptor therefore is a single-row operation. Every change of a
+ * document increments its version, which is used for optimistic concurrency control, as well as the registry-wide change
+ * version, see {@link ChangeVersionHelper}.
+ *
+ * <p>Every public method runs in a transaction. As {@link #executeBatch(List)} calls the single operations on this
+ * instance, they join its transaction, i.e., the rows of all operations of a batch are written with JDBC batches and
+ * committed at once. Operations rejected by the checks of the repository, e.g., because of an unknown or duplicate ID,
+ * fail before writing anything and therefore do not affect the other operations of the batch.
+ */
+@Repository
+@Transactional
+public class AasRepositoryJpaDocument extends AbstractAasRepository {
+
+    @PersistenceContext(name = "AASRepositoryJPA")
+    private final EntityManager entityManager;
+
+    public AasRepositoryJpaDocument(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+
+    @Override
+    public List<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind) {
+        return DocumentHelper.getAasDocuments(entityManager, assetType, assetKind, null, Integer.MAX_VALUE).stream()
+                .map(AasRepositoryJpaDocument::readAAS)
+                .toList();
+    }
+
+
+    @Override
+    public Page<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind, PagingInfo paging) {
+        return PagingHelper.map(PagingHelper.toPage(DocumentHelper.getAasDocuments(entityManager, assetType, assetKind,
+                PagingHelper.getLastId(paging), PagingHelper.getFetchSize(paging)), paging, JpaAssetAdministrationShellDocument::getId),
+                AasRepositoryJpaDocument::readAAS);
+    }
+
+
+    @Override
+    public List<String> getAASIdsByAssetIds(List<SpecificAssetId> assetIds) {
+        ensureAssetIds(assetIds);
+        return DocumentHelper.getAasIdsByAssetIds(entityManager, assetIds);
+    }
+
+
+    @Override
+    public AssetAdministrationShellDescriptor getAAS(String aasId) throws ResourceNotFoundException {
+        Ensure.requireNonNull(aasId, "id must be non-null");
+        return readAAS(fetchAAS(aasId));
+    }
+
+
+    @Override
+    public String getAASContentHash(String aasId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        return fetchAAS(aasId).getContentHash();
+    }
+
+
+    @Override
+    public long getAASVersion(String aasId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        return fetchAAS(aasId).getVersion();
+    }
+
+
+    @Override
+    public long getChangeVersion() {
+        return ChangeVersionHelper.get(entityManager);
+    }
+
+
+    @Override
+    public AssetAdministrationShellDescriptor create(AssetAdministrationShellDescriptor descriptor) throws ResourceAlreadyExistsException {
+        ensureDescriptorId(descriptor);
+        Ensure.require(Objects.isNull(entityManager.find(JpaAssetAdministrationShellDocument.class, descriptor.getId())),
+                buildAASAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        JpaAssetAdministrationShellDocument document = new JpaAssetAdministrationShellDocument();
+        writeAAS(document, descriptor);
+        entityManager.persist(document);
+        return descriptor;
+    }
+
+
+    @Override
+    public void deleteAAS(String aasId, Long expectedVersion) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        JpaAssetAdministrationShellDocument document = fetchAAS(aasId);
+        ensureAASVersion(aasId, expectedVersion, document.getVersion());
+        ChangeVersionHelper.increment(entityManager);
+        entityManager.remove(document);
+    }
+
+
+    @Override
+    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        ensureAasId(aasId);
+        ensureDescriptorId(descriptor);
+        JpaAssetAdministrationShellDocument document = fetchAAS(aasId);
+        ensureAASVersion(aasId, expectedVersion, document.getVersion());
+        Ensure.require(Objects.equals(aasId, descriptor.getId()) || Objects.isNull(entityManager.find(JpaAssetAdministrationShellDocument.class, descriptor.getId())),
+                buildAASAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.equals(aasId, descriptor.getId())) {
+            writeAAS(document, descriptor);
+        }
+        else {
+            entityManager.remove(document);
+            entityManager.flush();
+            JpaAssetAdministrationShellDocument newDocument = new JpaAssetAdministrationShellDocument();
+            writeAAS(newDocument, descriptor);
+            entityManager.persist(newDocument);
+        }
+        return descriptor;
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodels(String aasId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        return readAAS(fetchAAS(aasId)).getSubmodelDescriptors();
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodels() {
+        return DocumentHelper.getSubmodelDocuments(entityManager, null, Integer.MAX_VALUE).stream()
+                .map(AasRepositoryJpaDocument::readSubmodel)
+                .toList();
+    }
+
+
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(String aasId, PagingInfo paging) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        return PagingHelper.preparePagedResult(readAAS(fetchAAS(aasId)).getSubmodelDescriptors(), paging, SubmodelDescriptor::getId);
+    }
+
+
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(PagingInfo paging) {
+        return PagingHelper.map(PagingHelper.toPage(DocumentHelper.getSubmodelDocuments(entityManager,
+                PagingHelper.getLastId(paging), PagingHelper.getFetchSize(paging)), paging, JpaSubmodelDocument::getId),
+                AasRepositoryJpaDocument::readSubmodel);
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String aasId, String semanticId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSemanticId(semanticId);
+        return readAAS(fetchAAS(aasId)).getSubmodelDescriptors().stream()
+                .filter(x -> hasSemanticId(x, semanticId))
+                .toList();
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String semanticId) {
+        ensureSemanticId(semanticId);
+        return DocumentHelper.getSubmodelDocumentsBySemanticId(entityManager, semanticId).stream()
+                .map(AasRepositoryJpaDocument::readSubmodel)
+                .toList();
+    }
+
+
+    @Override
+    public SubmodelDescriptor getSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSubmodelId(submodelId);
+        return getSubmodelInternal(readAAS(fetchAAS(aasId)).getSubmodelDescriptors(), submodelId)
+                .orElseThrow(() -> buildSubmodelNotFoundInAASException(aasId, submodelId));
+    }
+
+
+    @Override
+    public SubmodelDescriptor getSubmodel(String submodelId) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        return readSubmodel(fetchSubmodelStandalone(submodelId));
+    }
+
+
+    @Override
+    public String getSubmodelContentHash(String submodelId) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        return fetchSubmodelStandalone(submodelId).getContentHash();
+    }
+
+
+    @Override
+    public long getSubmodelVersion(String submodelId) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        return fetchSubmodelStandalone(submodelId).getVersion();
+    }
+
+
+    @Override
+    public SubmodelDescriptor addSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        ensureAasId(aasId);
+        ensureDescriptorId(descriptor);
+        JpaAssetAdministrationShellDocument document = fetchAAS(aasId);
+        AssetAdministrationShellDescriptor aas = readAAS(document);
+        Ensure.require(getSubmodelInternal(aas.getSubmodelDescriptors(), descriptor.getId()).isEmpty(),
+                buildSubmodelAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        aas.getSubmodelDescriptors().add(descriptor);
+        setContent(document, aas);
+        return descriptor;
+    }
+
+
+    @Override
+    public SubmodelDescriptor addSubmodel(SubmodelDescriptor descriptor) throws ResourceAlreadyExistsException {
+        ensureDescriptorId(descriptor);
+        Ensure.require(Objects.isNull(entityManager.find(JpaSubmodelDocument.class, descriptor.getId())),
+                buildSubmodelAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        JpaSubmodelDocument document = new JpaSubmodelDocument();
+        writeSubmodel(document, descriptor);
+        entityManager.persist(document);
+        return descriptor;
+    }
+
+
+    @Override
+    public SubmodelDescriptor replaceSubmodel(String aasId, String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        ensureAasId(aasId);
+        ensureSubmodelId(submodelId);
+        ensureDescriptorId(descriptor);
+        JpaAssetAdministrationShellDocument document = fetchAAS(aasId);
+        ensureAASVersion(aasId, expectedVersion, document.getVersion());
+        AssetAdministrationShellDescriptor aas = readAAS(document);
+        int index = indexOf(aas.getSubmodelDescriptors(), submodelId);
+        Ensure.require(index >= 0, buildSubmodelNotFoundInAASException(aasId, submodelId));
+        Ensure.require(Objects.equals(submodelId, descriptor.getId()) || getSubmodelInternal(aas.getSubmodelDescriptors(), descriptor.getId()).isEmpty(),
+                buildSubmodelAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        aas.getSubmodelDescriptors().set(index, descriptor);
+        setContent(document, aas);
+        return descriptor;
+    }
+
+
+    @Override
+    public SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        ensureSubmodelId(submodelId);
+        ensureDescriptorId(descriptor);
+        JpaSubmodelDocument document = fetchSubmodelStandalone(submodelId);
+        ensureSubmodelVersion(submodelId, expectedVersion, document.getVersion());
+        Ensure.require(Objects.equals(submodelId, descriptor.getId()) || Objects.isNull(entityManager.find(JpaSubmodelDocument.class, descriptor.getId())),
+                buildSubmodelAlreadyExistsException(descriptor.getId()));
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.equals(submodelId, descriptor.getId())) {
+            writeSubmodel(document, descriptor);
+            return descriptor;
+        }
+        entityManager.remove(document);
+        JpaSubmodelDocument newDocument = new JpaSubmodelDocument();
+        writeSubmodel(newDocument, descriptor);
+        entityManager.persist(newDocument);
+        return descriptor;
+    }
+
+
+    @Override
+    public SubmodelDescriptor upsertSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureDescriptorId(descriptor);
+        JpaAssetAdministrationShellDocument document = fetchAAS(aasId);
+        AssetAdministrationShellDescriptor aas = readAAS(document);
+        int index = indexOf(aas.getSubmodelDescriptors(), descriptor.getId());
+        ChangeVersionHelper.increment(entityManager);
+        if (index >= 0) {
+            aas.getSubmodelDescriptors().set(index, descriptor);
+        }
+        else {
+            aas.getSubmodelDescriptors().add(descriptor);
+        }
+        setContent(document, aas);
+        return descriptor;
+    }
+
+
+    @Override
+    public SubmodelDescriptor upsertSubmodel(SubmodelDescriptor descriptor) {
+        ensureDescriptorId(descriptor);
+        JpaSubmodelDocument document = entityManager.find(JpaSubmodelDocument.class, descriptor.getId());
+        ChangeVersionHelper.increment(entityManager);
+        if (Objects.nonNull(document)) {
+            writeSubmodel(document, descriptor);
+        }
+        else {
+            document = new JpaSubmodelDocument();
+            writeSubmodel(document, descriptor);
+            entityManager.persist(document);
+        }
+        return descriptor;
+    }
+
+
+    @Override
+    public void deleteSubmodel(String aasId, String submodelId, Long expectedVersion) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSubmodelId(submodelId);
+        JpaAssetAdministrationShellDocument document = fetchAAS(aasId);
+        ensureAASVersion(aasId, expectedVersion, document.getVersion());
+        AssetAdministrationShellDescriptor aas = readAAS(document);
+        Ensure.require(aas.getSubmodelDescriptors().removeIf(x -> Objects.equals(x.getId(), submodelId)),
+                buildSubmodelNotFoundInAASException(aasId, submodelId));
+        ChangeVersionHelper.increment(entityManager);
+        setContent(document, aas);
+    }
+
+
+    @Override
+    public void deleteSubmodel(String submodelId, Long expectedVersion) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        JpaSubmodelDocument document = fetchSubmodelStandalone(submodelId);
+        ensureSubmodelVersion(submodelId, expectedVersion, document.getVersion());
+        ChangeVersionHelper.increment(entityManager);
+        entityManager.remove(document);
+    }
+
+
+    private JpaAssetAdministrationShellDocument fetchAAS(String aasId) throws ResourceNotFoundException {
+        JpaAssetAdministrationShellDocument result = entityManager.find(JpaAssetAdministrationShellDocument.class, aasId);
+        Ensure.requireNonNull(result, buildAASNotFoundException(aasId));
+        return result;
+    }
+
+
+    private JpaSubmodelDocument fetchSubmodelStandalone(String submodelId) throws ResourceNotFoundException {
+        JpaSubmodelDocument result = entityManager.find(JpaSubmodelDocument.class, submodelId);
+        Ensure.requireNonNull(result, buildSubmodelNotFoundException(submodelId));
+        return result;
+    }
+
+
+    private static AssetAdministrationShellDescriptor readAAS(JpaAssetAdministrationShellDocument document) {
+        return DocumentHelper.read(document.getContent(), AssetAdministrationShellDescriptor.class);
+    }
+
+
+    private static SubmodelDescriptor readSubmodel(JpaSubmodelDocument document) {
+        return DocumentHelper.read(document.getContent(), SubmodelDescriptor.class);
+    }
+
+
+    private static void writeAAS(JpaAssetAdministrationShellDocument document, AssetAdministrationShellDescriptor descriptor) {
+        document.setId(descriptor.getId());
+        document.setAssetType(descriptor.getAssetType());
+        document.setAssetKind(descriptor.getAssetKind());
+        document.setGlobalAssetId(descriptor.getGlobalAssetId());
+        List<JpaDocumentAssetId> assetIds = Objects.isNull(descriptor.getSpecificAssetIds())
+                ? new ArrayList<>()
+                : descriptor.getSpecificAssetIds().stream()
+                        .map(x -> new JpaDocumentAssetId(x.getName(), x.getValue()))
+                        .collect(Collectors.toCollection(ArrayList::new));
+        // replacing the collection deletes and re-inserts all rows, so keep it if the asset IDs did not change
+        if (!Objects.equals(new ArrayList<>(document.getSpecificAssetIds()), assetIds)) {
+            document.setSpecificAssetIds(assetIds);
+        }
+        setContent(document, descriptor);
+    }
+
+
+    private static void writeSubmodel(JpaSubmodelDocument document, SubmodelDescriptor descriptor) {
+        document.setId(descriptor.getId());
+        List<String> semanticIds = new ArrayList<>(getSemanticIdValues(descriptor));
+        // replacing the collection deletes and re-inserts all rows, so keep it if the semantic IDs did not change
+        if (!Objects.equals(new ArrayList<>(document.getSemanticIds()), semanticIds)) {
+            document.setSemanticIds(semanticIds);
+        }
+        setContent(document, descriptor);
+    }
+
+
+    private static int indexOf(List<SubmodelDescriptor> submodels, String submodelId) {
+        for (int i = 0; i < submodels.size(); i++) {
+            if (Objects.equals(submodels.get(i).getId(), submodelId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    private static void setContent(JpaAssetAdministrationShellDocument document, AssetAdministrationShellDescriptor descriptor) {
+        document.setContentHash(ContentHashHelper.hash(descriptor));
+        document.setContent(DocumentHelper.write(descriptor));
+    }
+
+
+    private static void setContent(JpaSubmodelDocument document, SubmodelDescriptor descriptor) {
+        document.setContentHash(ContentHashHelper.hash(descriptor));
+        document.setContent(DocumentHelper.write(descriptor));
+    }
+}
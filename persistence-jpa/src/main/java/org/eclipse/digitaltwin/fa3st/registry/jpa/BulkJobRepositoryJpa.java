@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.registry.core.BulkJobRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaBulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaBulkJobPayload;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ModelTransformationHelper;
+import org.springframework.stereotype.Repository;
+
+
+/**
+ * Relational database implementation of the bulk job repository. Jobs are stored in the same database as the
+ * descriptors, so jobs that have been interrupted by a restart can be resumed. Failures are stored as an ordered
+ * collection, so updating the progress of a job only inserts the failures that are new since the last update. Leases
+ * are claimed with a conditional update, so instances sharing the database never hold the lease of a job at the same
+ * time.
+ */
+@Repository
+@Transactional
+public class BulkJobRepositoryJpa implements BulkJobRepository {
+
+    @PersistenceContext(name = "AASRepositoryJPA")
+    private final EntityManager entityManager;
+
+    public BulkJobRepositoryJpa(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+
+    @Override
+    public void create(BulkJob job, String payload) throws ResourceAlreadyExistsException {
+        Ensure.requireNonNull(job, "job must be non-null");
+        Ensure.requireNonNull(job.getId(), "job id must be non-null");
+        Ensure.requireNonNull(payload, "payload must be non-null");
+        Ensure.require(Objects.isNull(entityManager.find(JpaBulkJob.class, job.getId())),
+                new ResourceAlreadyExistsException(String.format("Bulk job already exists (id: %s)", job.getId())));
+        entityManager.persist(ModelTransformationHelper.convertBulkJob(job));
+        entityManager.persist(new JpaBulkJobPayload(job.getId(), payload));
+    }
+
+
+    @Override
+    public void update(BulkJob job) throws ResourceNotFoundException {
+        Ensure.requireNonNull(job, "job must be non-null");
+        JpaBulkJob entity = fetchJob(job.getId());
+        entity.setType(job.getType());
+        entity.setStatus(job.getStatus());
+        entity.setTotal(job.getTotal());
+        entity.setProcessed(job.getProcessed());
+        entity.setFailed(job.getFailed());
+        entity.setMessage(job.getMessage());
+        entity.setCreatedAt(job.getCreatedAt());
+        entity.setStartedAt(job.getStartedAt());
+        entity.setFinishedAt(job.getFinishedAt());
+        if (job.getFailures().size() > entity.getFailures().size()) {
+            entity.getFailures().addAll(ModelTransformationHelper.convertBulkItemResults(
+                    job.getFailures().subList(entity.getFailures().size(), job.getFailures().size())));
+        }
+        if (Objects.nonNull(job.getStatus()) && job.getStatus().isFinished()) {
+            JpaBulkJobPayload payload = entityManager.find(JpaBulkJobPayload.class, job.getId());
+            if (Objects.nonNull(payload)) {
+                entityManager.remove(payload);
+            }
+        }
+    }
+
+
+    @Override
+    public boolean claim(String id, String owner, long now, long expiredBefore) {
+        Ensure.requireNonNull(id, "id must be non-null");
+        Ensure.requireNonNull(owner, "owner must be non-null");
+        // a single conditional update, so concurrent claims of several instances are serialized by the row lock
+        return entityManager.createQuery("UPDATE JpaBulkJob j SET j.owner = :owner, j.heartbeat = :now "
+                + "WHERE j.id = :id AND j.status IN :status AND (j.owner IS NULL OR j.owner = :owner OR j.heartbeat < :expiredBefore)")
+                .setParameter("owner", owner)
+                .setParameter("now", now)
+                .setParameter("id", id)
+                .setParameter("status", List.of(BulkJob.Status.PENDING, BulkJob.Status.RUNNING))
+                .setParameter("expiredBefore", expiredBefore)
+                .executeUpdate() == 1;
+    }
+
+
+    @Override
+    public BulkJob get(String id) throws ResourceNotFoundException {
+        Ensure.requireNonNull(id, "id must be non-null");
+        return ModelTransformationHelper.toBulkJob(fetchJob(id));
+    }
+
+
+    @Override
+    public String getPayload(String id) throws ResourceNotFoundException {
+        Ensure.requireNonNull(id, "id must be non-null");
+        JpaBulkJobPayload result = entityManager.find(JpaBulkJobPayload.class, id);
+        Ensure.requireNonNull(result, buildJobNotFoundException(id));
+        return result.getContent();
+    }
+
+
+    @Override
+    public List<BulkJob> getUnfinished() {
+        return entityManager.createQuery("SELECT j FROM JpaBulkJob j WHERE j.status IN :status ORDER BY j.createdAt", JpaBulkJob.class)
+                .setParameter("status", List.of(BulkJob.Status.PENDING, BulkJob.Status.RUNNING))
+                .getResultList()
+                .stream()
+                .map(ModelTransformationHelper::toBulkJob)
+                .toList();
+    }
+
+
+    @Override
+    public List<String> getExpired(long expiredBefore) {
+        return entityManager.createQuery("SELECT j.id FROM JpaBulkJob j WHERE j.status IN :status "
+                + "AND (j.owner IS NULL OR j.heartbeat < :expiredBefore) ORDER BY j.createdAt", String.class)
+                .setParameter("status", List.of(BulkJob.Status.PENDING, BulkJob.Status.RUNNING))
+                .setParameter("expiredBefore", expiredBefore)
+                .getResultList();
+    }
+
+
+    private JpaBulkJob fetchJob(String id) throws ResourceNotFoundException {
+        JpaBulkJob result = entityManager.find(JpaBulkJob.class, id);
+        Ensure.requireNonNull(result, buildJobNotFoundException(id));
+        return result;
+    }
+
+
+    private static ResourceNotFoundException buildJobNotFoundException(String id) {
+        return new ResourceNotFoundException(String.format("Bulk job not found (id: %s)", id));
+    }
+}
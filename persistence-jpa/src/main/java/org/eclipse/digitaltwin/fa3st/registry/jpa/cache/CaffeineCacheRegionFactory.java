@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import javax.cache.Cache;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+
+/**
+ * JCache region factory creating size-bounded Caffeine caches with statistics enabled for all cache regions. The
+ * statistics (hits, misses, puts, evictions) of each region are exposed as JCache MXBeans via JMX.
+ */
+public class CaffeineCacheRegionFactory extends JCacheRegionFactory {
+
+    /**
+     * Name of the property defining the maximum number of entries per cache region.
+     */
+    public static final String MAXIMUM_SIZE = "hibernate.cache.caffeine.maximum_size";
+
+    /**
+     * Default maximum number of entries per cache region.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+        super.prepareForUse(settings, configValues);
+        Object value = configValues.get(MAXIMUM_SIZE);
+        if (Objects.nonNull(value)) {
+            maximumSize = Long.parseLong(value.toString());
+        }
+    }
+
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setStatisticsEnabled(true);
+        configuration.setManagementEnabled(true);
+        return getCacheManager().createCache(regionName, configuration);
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAdministrativeInformation;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDocument;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDataSpecificationIec61360;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDescription;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDisplayName;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaEmbeddedDataSpecification;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaEndpoint;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaExtension;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaKey;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaLangStringDefinitionTypeIec61360;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaLangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaLangStringShortNameTypeIec61360;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaLevelType;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaProtocolInformation;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaReference;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSecurityAttributeObject;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSpecificAssetId;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaString;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptorStandalone;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDocument;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaValueList;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaValueReferencePair;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+
+
+/**
+ * Configures the Hibernate second-level cache for all JPA entities and their collections if the second-level cache is
+ * enabled, i.e., {@code spring.jpa.properties.hibernate.cache.use_second_level_cache=true}. Unless configured
+ * otherwise, {@link CaffeineCacheRegionFactory} is used as region factory.
+ *
+ * <p>All entities and collections use the read-write strategy, i.e., cache entries are invalidated when the
+ * corresponding entity is updated or deleted and other transactions do not see uncommitted changes.
+ */
+public class SecondLevelCacheCustomizer implements HibernatePropertiesCustomizer {
+
+    private static final String USE_SECOND_LEVEL_CACHE = "hibernate.cache.use_second_level_cache";
+    private static final String REGION_FACTORY = "hibernate.cache.region.factory_class";
+    private static final String CACHE_PROVIDER = "hibernate.javax.cache.provider";
+    private static final String CLASS_CACHE_PREFIX = "hibernate.classcache.";
+    private static final String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache.";
+    private static final String STRATEGY = "read-write";
+    private static final String CAFFEINE_PROVIDER = "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider";
+
+    private static final Map<Class<?>, List<String>> ENTITIES = Map.ofEntries(
+            Map.entry(JpaAdministrativeInformation.class, List.of("embeddedDataSpecifications")),
+            Map.entry(JpaAssetAdministrationShellDescriptor.class,
+                    List.of("specificAssetIds", "submodelDescriptors", "extensions", "description", "displayName", "endpoints")),
+            Map.entry(JpaAssetAdministrationShellDocument.class, List.of("specificAssetIds")),
+            Map.entry(JpaDataSpecificationIec61360.class, List.of("definition", "preferredName", "shortName")),
+            Map.entry(JpaDescription.class, List.of()),
+            Map.entry(JpaDisplayName.class, List.of()),
+            Map.entry(JpaEmbeddedDataSpecification.class, List.of()),
+            Map.entry(JpaEndpoint.class, List.of()),
+            Map.entry(JpaExtension.class, List.of("refersTo", "supplementalSemanticIds")),
+            Map.entry(JpaKey.class, List.of()),
+            Map.entry(JpaLangStringDefinitionTypeIec61360.class, List.of()),
+            Map.entry(JpaLangStringPreferredNameTypeIec61360.class, List.of()),
+            Map.entry(JpaLangStringShortNameTypeIec61360.class, List.of()),
+            Map.entry(JpaLevelType.class, List.of()),
+            Map.entry(JpaProtocolInformation.class, List.of("securityAttributes", "jpaEndpointProtocolVersion")),
+            Map.entry(JpaReference.class, List.of("keys")),
+            Map.entry(JpaSecurityAttributeObject.class, List.of()),
+            Map.entry(JpaSpecificAssetId.class, List.of("supplementalSemanticIds")),
+            Map.entry(JpaString.class, List.of()),
+            Map.entry(JpaSubmodelDescriptor.class, List.of("description", "displayName", "endpoints", "supplementalSemanticId", "extensions")),
+            Map.entry(JpaSubmodelDescriptorStandalone.class, List.of("description", "displayName", "endpoints", "supplementalSemanticId", "extensions")),
+            Map.entry(JpaSubmodelDocument.class, List.of("semanticIds")),
+            Map.entry(JpaValueList.class, List.of("valueReferencePairs")),
+            Map.entry(JpaValueReferencePair.class, List.of()));
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (!Boolean.parseBoolean(Objects.toString(hibernateProperties.get(USE_SECOND_LEVEL_CACHE)))) {
+            return;
+        }
+        hibernateProperties.putIfAbsent(REGION_FACTORY, CaffeineCacheRegionFactory.class.getName());
+        hibernateProperties.putIfAbsent(CACHE_PROVIDER, CAFFEINE_PROVIDER);
+        ENTITIES.forEach((type, collections) -> {
+            hibernateProperties.putIfAbsent(CLASS_CACHE_PREFIX + type.getName(), STRATEGY);
+            collections.forEach(x -> hibernateProperties.putIfAbsent(COLLECTION_CACHE_PREFIX + type.getName() + "." + x, STRATEGY));
+        });
+    }
+}
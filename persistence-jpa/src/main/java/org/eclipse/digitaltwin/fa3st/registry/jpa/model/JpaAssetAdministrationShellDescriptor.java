@@ -13,10 +13,12 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.builder.AssetAdministrationShellDescriptorBuilder;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ModelTransformationHelper;
 
 
@@ -25,11 +27,54 @@ import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ModelTransformationHelper
  */
 public class JpaAssetAdministrationShellDescriptor extends DefaultAssetAdministrationShellDescriptor {
 
+    @JsonIgnore
+    private String contentHash;
+
+    @JsonIgnore
+    private long version;
+
+    /**
+     * Gets the content hash of the AAS without its submodels.
+     *
+     * @return the content hash of the AAS without its submodels
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+
+    /**
+     * Gets the optimistic lock version of the AAS. The version is incremented on every write to the AAS including its
+     * submodels.
+     *
+     * @return the version of the AAS
+     */
+    public long getVersion() {
+        return version;
+    }
+
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public abstract static class AbstractBuilder<T extends JpaAssetAdministrationShellDescriptor, B extends AbstractBuilder<T, B>>
             extends AssetAdministrationShellDescriptorBuilder<T, B> {
 
+        public B contentHash(String value) {
+            getBuildingInstance().setContentHash(value);
+            return getSelf();
+        }
+
+
         public B from(AssetAdministrationShellDescriptor other) {
             if (Objects.nonNull(other)) {
+                contentHash(ContentHashHelper.hashShell(other));
                 id(other.getId());
                 idShort(other.getIdShort());
                 assetKind(other.getAssetKind());
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+
+
+/**
+ * Registry Descriptor JPA implementation storing a complete AAS descriptor as a single JSON document. The columns used
+ * for filtering and lookups are extracted from the document.
+ */
+public class JpaAssetAdministrationShellDocument {
+
+    private String id;
+
+    private String assetType;
+
+    private AssetKind assetKind;
+
+    private String globalAssetId;
+
+    private List<JpaDocumentAssetId> specificAssetIds;
+
+    private String contentHash;
+
+    private String content;
+
+    private long version;
+
+    public JpaAssetAdministrationShellDocument() {
+        specificAssetIds = new ArrayList<>();
+    }
+
+
+    public String getId() {
+        return id;
+    }
+
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    public String getAssetType() {
+        return assetType;
+    }
+
+
+    public void setAssetType(String assetType) {
+        this.assetType = assetType;
+    }
+
+
+    public AssetKind getAssetKind() {
+        return assetKind;
+    }
+
+
+    public void setAssetKind(AssetKind assetKind) {
+        this.assetKind = assetKind;
+    }
+
+
+    public String getGlobalAssetId() {
+        return globalAssetId;
+    }
+
+
+    public void setGlobalAssetId(String globalAssetId) {
+        this.globalAssetId = globalAssetId;
+    }
+
+
+    public List<JpaDocumentAssetId> getSpecificAssetIds() {
+        return specificAssetIds;
+    }
+
+
+    public void setSpecificAssetIds(List<JpaDocumentAssetId> specificAssetIds) {
+        this.specificAssetIds = specificAssetIds;
+    }
+
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+
+    public String getContent() {
+        return content;
+    }
+
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+
+    public long getVersion() {
+        return version;
+    }
+
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, assetType, assetKind, globalAssetId, specificAssetIds, contentHash, content, version);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            JpaAssetAdministrationShellDocument other = (JpaAssetAdministrationShellDocument) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.assetType, other.assetType)
+                    && Objects.equals(this.assetKind, other.assetKind)
+                    && Objects.equals(this.globalAssetId, other.globalAssetId)
+                    && Objects.equals(this.specificAssetIds, other.specificAssetIds)
+                    && Objects.equals(this.contentHash, other.contentHash)
+                    && Objects.equals(this.content, other.content)
+                    && this.version == other.version;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
+
+import java.util.Objects;
+
+
+/**
+ * JPA implementation of the result of a failed item of a bulk job.
+ */
+public class JpaBulkItemResult {
+
+    private String id;
+
+    private int status;
+
+    private String message;
+
+    public JpaBulkItemResult() {}
+
+
+    public String getId() {
+        return id;
+    }
+
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    public int getStatus() {
+        return status;
+    }
+
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+
+    public String getMessage() {
+        return message;
+    }
+
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, status, message);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            JpaBulkItemResult other = (JpaBulkItemResult) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.status, other.status)
+                    && Objects.equals(this.message, other.message);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+
+
+/**
+ * Bulk job JPA implementation. The payload of the job is stored separately in {@link JpaBulkJobPayload} so that
+ * polling the state of a job does not load the payload.
+ */
+public class JpaBulkJob {
+
+    private String id;
+
+    private BatchOperation.Type type;
+
+    private BulkJob.Status status;
+
+    private int total;
+
+    private int processed;
+
+    private int failed;
+
+    private List<JpaBulkItemResult> failures;
+
+    private String message;
+
+    private long createdAt;
+
+    private long startedAt;
+
+    private long finishedAt;
+
+    private String owner;
+
+    private long heartbeat;
+
+    public JpaBulkJob() {
+        failures = new ArrayList<>();
+    }
+
+
+    public String getId() {
+        return id;
+    }
+
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    public BatchOperation.Type getType() {
+        return type;
+    }
+
+
+    public void setType(BatchOperation.Type type) {
+        this.type = type;
+    }
+
+
+    public BulkJob.Status getStatus() {
+        return status;
+    }
+
+
+    public void setStatus(BulkJob.Status status) {
+        this.status = status;
+    }
+
+
+    public int getTotal() {
+        return total;
+    }
+
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+
+    public int getProcessed() {
+        return processed;
+    }
+
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+
+    public int getFailed() {
+        return failed;
+    }
+
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+
+    public List<JpaBulkItemResult> getFailures() {
+        return failures;
+    }
+
+
+    public void setFailures(List<JpaBulkItemResult> failures) {
+        this.failures = failures;
+    }
+
+
+    public String getMessage() {
+        return message;
+    }
+
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+
+    public void setStartedAt(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+
+    public void setFinishedAt(long finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+
+    public String getOwner() {
+        return owner;
+    }
+
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+
+    public long getHeartbeat() {
+        return heartbeat;
+    }
+
+
+    public void setHeartbeat(long heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, status, total, processed, failed, failures, message, createdAt, startedAt, finishedAt, owner, heartbeat);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            JpaBulkJob other = (JpaBulkJob) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.type, other.type)
+                    && Objects.equals(this.status, other.status)
+                    && Objects.equals(this.total, other.total)
+                    && Objects.equals(this.processed, other.processed)
+                    && Objects.equals(this.failed, other.failed)
+                    && Objects.equals(this.failures, other.failures)
+                    && Objects.equals(this.message, other.message)
+                    && Objects.equals(this.createdAt, other.createdAt)
+                    && Objects.equals(this.startedAt, other.startedAt)
+                    && Objects.equals(this.finishedAt, other.finishedAt)
+                    && Objects.equals(this.owner, other.owner)
+                    && Objects.equals(this.heartbeat, other.heartbeat);
+        }
+    }
+}
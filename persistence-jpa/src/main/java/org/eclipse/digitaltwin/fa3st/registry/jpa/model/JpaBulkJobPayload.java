@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
+
+import java.util.Objects;
+
+
+/**
+ * Payload of a bulk job, i.e., the JSON array of the submitted items. It is kept until the job has finished.
+ */
+public class JpaBulkJobPayload {
+
+    private String id;
+
+    private String content;
+
+    public JpaBulkJobPayload() {}
+
+
+    public JpaBulkJobPayload(String id, String content) {
+        this.id = id;
+        this.content = content;
+    }
+
+
+    public String getId() {
+        return id;
+    }
+
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    public String getContent() {
+        return content;
+    }
+
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, content);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            JpaBulkJobPayload other = (JpaBulkJobPayload) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.content, other.content);
+        }
+    }
+}
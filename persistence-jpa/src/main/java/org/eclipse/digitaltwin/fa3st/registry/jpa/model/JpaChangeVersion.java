@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
+
+import java.util.Objects;
+
+
+/**
+ * Row holding one stripe of the registry-wide change version, see
+ * {@link org.eclipse.digitaltwin.fa3st.registry.jpa.util.ChangeVersionHelper}.
+ */
+public class JpaChangeVersion {
+
+    private int id;
+
+    private long counter;
+
+    public JpaChangeVersion() {}
+
+
+    public JpaChangeVersion(int id, long counter) {
+        this.id = id;
+        this.counter = counter;
+    }
+
+
+    public int getId() {
+        return id;
+    }
+
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+
+    public long getCounter() {
+        return counter;
+    }
+
+
+    public void setCounter(long counter) {
+        this.counter = counter;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, counter);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            JpaChangeVersion other = (JpaChangeVersion) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.counter, other.counter);
+        }
+    }
+}
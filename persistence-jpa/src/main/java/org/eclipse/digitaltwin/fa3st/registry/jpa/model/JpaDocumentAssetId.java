@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
+
+import java.util.Objects;
+
+
+/**
+ * Specific asset ID extracted from an AAS document for lookups by asset ID.
+ */
+public class JpaDocumentAssetId {
+
+    private String name;
+
+    private String value;
+
+    public JpaDocumentAssetId() {}
+
+
+    public JpaDocumentAssetId(String name, String value) {
+        this.name = name;
+        this.value = value;
+    }
+
+
+    public String getName() {
+        return name;
+    }
+
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+
+    public String getValue() {
+        return value;
+    }
+
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, value);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            JpaDocumentAssetId other = (JpaDocumentAssetId) obj;
+            return Objects.equals(this.name, other.name)
+                    && Objects.equals(this.value, other.value);
+        }
+    }
+}
@@ -13,10 +13,12 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.Objects;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.builder.SubmodelDescriptorBuilder;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ModelTransformationHelper;
 
 
@@ -25,13 +27,38 @@ import org.eclipse.digitaltwin.fa3st.registry.jpa.util.ModelTransformationHelper
  */
 public abstract class JpaSubmodelDescriptorBase extends DefaultSubmodelDescriptor {
 
+    @JsonIgnore
+    private String contentHash;
+
     protected JpaSubmodelDescriptorBase() {}
 
+
+    /**
+     * Gets the content hash of the submodel.
+     *
+     * @return the content hash of the submodel
+     */
+    public String getContentHash() {
+        return contentHash;
+    }
+
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public abstract static class AbstractBuilder<T extends JpaSubmodelDescriptorBase, B extends AbstractBuilder<T, B>>
             extends SubmodelDescriptorBuilder<T, B> {
 
+        public B contentHash(String value) {
+            getBuildingInstance().setContentHash(value);
+            return getSelf();
+        }
+
+
         public B from(SubmodelDescriptor other) {
             if (Objects.nonNull(other)) {
+                contentHash(ContentHashHelper.hash(other));
                 id(other.getId());
                 idShort(other.getIdShort());
                 endpoints(ModelTransformationHelper.convertEndpoints(other.getEndpoints()));
@@ -13,11 +13,31 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+
 /**
  * Registry Descriptor JPA implementation for standalone Submodel.
  */
 public class JpaSubmodelDescriptorStandalone extends JpaSubmodelDescriptorBase {
 
+    @JsonIgnore
+    private long version;
+
+    /**
+     * Gets the optimistic lock version of the submodel. The version is incremented on every write to the submodel.
+     *
+     * @return the version of the submodel
+     */
+    public long getVersion() {
+        return version;
+    }
+
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public abstract static class AbstractBuilder<T extends JpaSubmodelDescriptorStandalone, B extends AbstractBuilder<T, B>>
             extends JpaSubmodelDescriptorBase.AbstractBuilder<T, B> {}
 
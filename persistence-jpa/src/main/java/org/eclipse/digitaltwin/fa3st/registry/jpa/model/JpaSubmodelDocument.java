@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Registry Descriptor JPA implementation storing a complete standalone submodel descriptor as a single JSON document.
+ * The values of the semantic ID are extracted from the document for lookups by semantic ID.
+ */
+public class JpaSubmodelDocument {
+
+    private String id;
+
+    private List<String> semanticIds;
+
+    private String contentHash;
+
+    private String content;
+
+    private long version;
+
+    public JpaSubmodelDocument() {
+        semanticIds = new ArrayList<>();
+    }
+
+
+    public String getId() {
+        return id;
+    }
+
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+
+    public List<String> getSemanticIds() {
+        return semanticIds;
+    }
+
+
+    public void setSemanticIds(List<String> semanticIds) {
+        this.semanticIds = semanticIds;
+    }
+
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+
+    public String getContent() {
+        return content;
+    }
+
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+
+    public long getVersion() {
+        return version;
+    }
+
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, semanticIds, contentHash, content, version);
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        else if (obj == null) {
+            return false;
+        }
+        else if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+        else {
+            JpaSubmodelDocument other = (JpaSubmodelDocument) obj;
+            return Objects.equals(this.id, other.id)
+                    && Objects.equals(this.semanticIds, other.semanticIds)
+                    && Objects.equals(this.contentHash, other.contentHash)
+                    && Objects.equals(this.content, other.content)
+                    && this.version == other.version;
+        }
+    }
+}
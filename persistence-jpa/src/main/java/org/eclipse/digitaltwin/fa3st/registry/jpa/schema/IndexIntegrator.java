@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDocument;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaKey;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSpecificAssetId;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Constraint;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.ManyToOne;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Table;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+
+/**
+ * Adds the secondary indexes of the registry to the schema managed by Hibernate, so they are created together with the
+ * tables by the schema management tool (e.g. {@code spring.jpa.hibernate.ddl-auto=update}) or included in generated
+ * DDL scripts.
+ *
+ * <p>Indexes are created for
+ * <ul>
+ * <li>all foreign key columns, i.e., the columns of join tables and of many-to-one associations, as most databases
+ * (e.g. PostgreSQL) do not index them automatically but they are used for loading collections and for cascaded
+ * deletes, and</li>
+ * <li>the columns used for filtering and lookups, i.e., assetType, assetKind, globalAssetId, specific asset IDs and
+ * semantic IDs.</li>
+ * </ul>
+ *
+ * <p>The indexes are defined on the bound mapping model instead of in a static script, so they always refer to the
+ * table and column names actually generated from the mapping. This integrator is registered via
+ * {@code META-INF/services}.
+ */
+public class IndexIntegrator implements Integrator {
+
+    private static final String INDEX_PREFIX = "IDX";
+    private static final Map<Class<?>, List<List<String>>> LOOKUP_COLUMNS = Map.of(
+            JpaAssetAdministrationShellDescriptor.class, List.of(List.of("assetType"), List.of("assetKind"), List.of("globalAssetId")),
+            JpaAssetAdministrationShellDocument.class, List.of(List.of("assetType"), List.of("assetKind"), List.of("globalAssetId")),
+            JpaSpecificAssetId.class, List.of(List.of("name", "value")),
+            JpaKey.class, List.of(List.of("value")));
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        for (var entity: metadata.getEntityBindings()) {
+            for (var property: entity.getPropertyClosure()) {
+                if (property.getValue() instanceof ManyToOne) {
+                    addIndexPerColumn(entity.getTable(), property.getValue().getColumns());
+                }
+            }
+        }
+        for (var collection: metadata.getCollectionBindings()) {
+            addIndexPerColumn(collection.getCollectionTable(), collection.getKey().getColumns());
+            if (collection.getElement() instanceof ManyToOne) {
+                addIndexPerColumn(collection.getCollectionTable(), collection.getElement().getColumns());
+            }
+            else if (!collection.isOneToMany()) {
+                // element collection of values, e.g. extracted lookup values of documents
+                addIndex(collection.getCollectionTable(), collection.getElement().getColumns());
+            }
+        }
+        LOOKUP_COLUMNS.forEach((type, indexes) -> {
+            PersistentClass entity = metadata.getEntityBinding(type.getName());
+            if (Objects.nonNull(entity)) {
+                indexes.forEach(properties -> addIndex(entity.getTable(), getColumns(entity, properties)));
+            }
+        });
+    }
+
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // nothing to clean up
+    }
+
+
+    private static List<Column> getColumns(PersistentClass entity, List<String> properties) {
+        return properties.stream()
+                .map(entity::getProperty)
+                .map(Property::getValue)
+                .flatMap(x -> x.getColumns().stream())
+                .toList();
+    }
+
+
+    private static void addIndexPerColumn(Table table, List<Column> columns) {
+        columns.forEach(x -> addIndex(table, List.of(x)));
+    }
+
+
+    private static void addIndex(Table table, List<Column> columns) {
+        if (Objects.isNull(table) || columns.isEmpty() || isPrimaryKeyPrefix(table, columns)) {
+            return;
+        }
+        Index index = table.getOrCreateIndex(Constraint.generateName(INDEX_PREFIX, table, columns.toArray(Column[]::new)));
+        if (index.getColumns().isEmpty()) {
+            columns.forEach(index::addColumn);
+        }
+    }
+
+
+    private static boolean isPrimaryKeyPrefix(Table table, List<Column> columns) {
+        return Objects.nonNull(table.getPrimaryKey())
+                && table.getPrimaryKey().getColumns().size() >= columns.size()
+                && table.getPrimaryKey().getColumns().subList(0, columns.size()).equals(columns);
+    }
+}
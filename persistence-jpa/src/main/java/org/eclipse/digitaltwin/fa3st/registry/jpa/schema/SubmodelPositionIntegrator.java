@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.schema;
+
+import jakarta.persistence.PersistenceException;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDescriptor;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.IndexedCollection;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Numbers the join rows of the submodels of an AAS that have been written before the submodels were mapped as indexed
+ * list.
+ *
+ * <p>The schema update adds the order column to the existing join table with the default 0, i.e., all submodels of
+ * such an AAS have the same position and Hibernate would only load one of them. Once the schema management tool has
+ * run, the rows of every AAS with more than one submodel that all have position 0 are numbered by submodel ID. An AAS
+ * with numbered rows always has a row with a position greater than 0, so the statement does not modify up-to-date
+ * databases and is safe to run on every start. This integrator is registered via {@code META-INF/services}.
+ */
+public class SubmodelPositionIntegrator implements Integrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubmodelPositionIntegrator.class);
+    private static final String ROLE = JpaAssetAdministrationShellDescriptor.class.getName() + ".submodelDescriptors";
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        if (!(metadata.getCollectionBinding(ROLE) instanceof IndexedCollection collection)) {
+            return;
+        }
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        String statement = getBackfillStatement(
+                collection.getCollectionTable().getQuotedName(dialect),
+                collection.getKey().getColumns().get(0).getQuotedName(dialect),
+                collection.getElement().getColumns().get(0).getQuotedName(dialect),
+                collection.getIndex().getColumns().get(0).getQuotedName(dialect));
+        // observers are notified after the schema management tool has updated the schema
+        sessionFactory.addObserver(new SessionFactoryObserver() {
+            @Override
+            public void sessionFactoryCreated(SessionFactory factory) {
+                backfill(factory, statement);
+            }
+        });
+    }
+
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // nothing to clean up
+    }
+
+
+    /**
+     * Creates the statement numbering the rows of all owners whose rows all have position 0.
+     *
+     * @param table the join table
+     * @param key the column referencing the owner
+     * @param element the column referencing the element
+     * @param index the order column
+     * @return the statement
+     */
+    static String getBackfillStatement(String table, String key, String element, String index) {
+        return String.format("UPDATE %1$s SET %4$s = (SELECT COUNT(*) FROM %1$s o WHERE o.%2$s = %1$s.%2$s AND o.%3$s < %1$s.%3$s)"
+                + " WHERE %2$s IN (SELECT %2$s FROM %1$s GROUP BY %2$s HAVING COUNT(*) > 1 AND MAX(%4$s) = 0)",
+                table, key, element, index);
+    }
+
+
+    private static void backfill(SessionFactory sessionFactory, String statement) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                int updated = session.createNativeMutationQuery(statement).executeUpdate();
+                transaction.commit();
+                if (updated > 0) {
+                    LOGGER.info("assigned positions to {} join rows of submodels of AASs", updated);
+                }
+            }
+            catch (PersistenceException e) {
+                transaction.rollback();
+                LOGGER.warn("assigning positions to join rows of submodels of AASs failed", e);
+            }
+        }
+    }
+}
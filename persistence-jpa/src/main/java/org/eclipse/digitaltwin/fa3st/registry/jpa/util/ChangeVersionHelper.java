@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.util;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.PersistenceException;
+import java.util.concurrent.ThreadLocalRandom;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaChangeVersion;
+
+
+/**
+ * Helper class for the registry-wide change version.
+ *
+ * <p>The change version is the sum of a fixed number of counters (stripes), each stored in its own row. Every write
+ * increments one of the counters within its own transaction, so the sum changes whenever the result of any listing
+ * may have changed and is shared by all instances using the same database. Reading it sums up a few rows, so clients
+ * can cheaply check whether a listing is still up to date.
+ *
+ * <p>Each thread uses a randomly chosen stripe, i.e., concurrent writes of different threads or instances usually
+ * lock different rows and are not serialized. A transaction only ever locks the row of a single stripe and locks it
+ * before any descriptor, so the lock order is the same for all transactions and incrementing cannot cause deadlocks.
+ * Rows are created on first use in a separate transaction that tolerates a concurrent creation of the same row.
+ */
+public class ChangeVersionHelper {
+
+    private static final int STRIPES = 64;
+    private static final ThreadLocal<Integer> STRIPE = ThreadLocal.withInitial(() -> ThreadLocalRandom.current().nextInt(STRIPES));
+
+    private ChangeVersionHelper() {}
+
+
+    /**
+     * Gets the current change version.
+     *
+     * @param entityManager the entityManager to use
+     * @return the current change version, 0 if nothing has been written yet
+     */
+    public static long get(EntityManager entityManager) {
+        Long result = entityManager.createQuery("SELECT SUM(c.counter) FROM JpaChangeVersion c", Long.class)
+                .getSingleResult();
+        return result == null ? 0 : result;
+    }
+
+
+    /**
+     * Increments the change version. Must be called by every write before it modifies any descriptor. The row of the
+     * stripe is locked until the transaction ends, so concurrent writes using the same stripe are ordered by their
+     * increments.
+     *
+     * @param entityManager the entityManager to use
+     */
+    public static void increment(EntityManager entityManager) {
+        int stripe = STRIPE.get();
+        if (incrementStripe(entityManager, stripe) == 0) {
+            createStripe(entityManager, stripe);
+            if (incrementStripe(entityManager, stripe) == 0) {
+                throw new IllegalStateException(String.format("change version row missing (stripe: %d)", stripe));
+            }
+        }
+    }
+
+
+    private static int incrementStripe(EntityManager entityManager, int stripe) {
+        return entityManager.createQuery("UPDATE JpaChangeVersion c SET c.counter = c.counter + 1 WHERE c.id = :id")
+                .setParameter("id", stripe)
+                .executeUpdate();
+    }
+
+
+    private static void createStripe(EntityManager entityManager, int stripe) {
+        EntityManager creator = entityManager.getEntityManagerFactory().createEntityManager();
+        EntityTransaction transaction = creator.getTransaction();
+        try {
+            transaction.begin();
+            creator.persist(new JpaChangeVersion(stripe, 0));
+            transaction.commit();
+        }
+        catch (PersistenceException e) {
+            // the row has been created concurrently
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+        }
+        finally {
+            creator.close();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.util;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.fa3st.registry.core.AbstractAasRepository;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDocument;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDocumentAssetId;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDocument;
+import org.hibernate.jpa.HibernateHints;
+
+
+/**
+ * Helper class for the document-based JPA persistence, i.e., for converting descriptors to and from JSON documents and
+ * for querying the documents by their extracted columns.
+ */
+public class DocumentHelper {
+
+    private static final JsonSerializer SERIALIZER = new JsonSerializer();
+    private static final JsonDeserializer DESERIALIZER = new JsonDeserializer();
+
+    private DocumentHelper() {}
+
+
+    /**
+     * Serializes a descriptor to JSON.
+     *
+     * @param descriptor The descriptor.
+     * @return The JSON document.
+     * @throws IllegalStateException if serialization fails
+     */
+    public static String write(Object descriptor) {
+        try {
+            return SERIALIZER.write(descriptor);
+        }
+        catch (SerializationException e) {
+            throw new IllegalStateException("serializing descriptor failed", e);
+        }
+    }
+
+
+    /**
+     * Deserializes a descriptor from JSON.
+     *
+     * @param <T> The type of the descriptor.
+     * @param document The JSON document.
+     * @param type The type of the descriptor.
+     * @return The descriptor.
+     * @throws IllegalStateException if deserialization fails
+     */
+    public static <T> T read(String document, Class<T> type) {
+        try {
+            return DESERIALIZER.read(document, type);
+        }
+        catch (DeserializationException e) {
+            throw new IllegalStateException(String.format("deserializing descriptor failed (type: %s)", type.getSimpleName()), e);
+        }
+    }
+
+
+    /**
+     * Fetches the AAS documents matching the given criteria that follow the given ID, ordered by ID.
+     *
+     * @param entityManager The entityManager to use.
+     * @param assetType The desired assetType.
+     * @param assetKind The desired assetKind.
+     * @param lastId The ID after which to start, null to start with the first document.
+     * @param maxResults The maximum number of results.
+     * @return The requested range of documents matching the given criteria.
+     */
+    public static List<JpaAssetAdministrationShellDocument> getAasDocuments(EntityManager entityManager, String assetType, AssetKind assetKind, String lastId,
+                                                                            int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaAssetAdministrationShellDocument.class);
+        var root = queryCriteria.from(JpaAssetAdministrationShellDocument.class);
+        List<Predicate> predicates = new ArrayList<>();
+        if (assetType != null) {
+            predicates.add(builder.equal(root.get("assetType"), assetType));
+        }
+        if (assetKind != null) {
+            predicates.add(builder.equal(root.get("assetKind"), assetKind));
+        }
+        if (lastId != null) {
+            predicates.add(builder.greaterThan(root.get("id"), lastId));
+        }
+        queryCriteria.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(queryCriteria)
+                .setMaxResults(maxResults)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList();
+    }
+
+
+    /**
+     * Fetches the IDs of all AAS documents matching all of the given asset identifiers.
+     *
+     * @param entityManager The entityManager to use.
+     * @param assetIds The asset identifiers to match.
+     * @return The IDs of all matching documents, sorted by ID.
+     */
+    public static List<String> getAasIdsByAssetIds(EntityManager entityManager, List<SpecificAssetId> assetIds) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(String.class);
+        var root = queryCriteria.from(JpaAssetAdministrationShellDocument.class);
+        List<Predicate> predicates = new ArrayList<>();
+        for (var assetId: assetIds) {
+            if (AbstractAasRepository.GLOBAL_ASSET_ID.equals(assetId.getName())) {
+                predicates.add(builder.equal(root.get("globalAssetId"), assetId.getValue()));
+            }
+            else {
+                var subquery = queryCriteria.subquery(String.class);
+                var specificAssetId = subquery.correlate(root).<JpaAssetAdministrationShellDocument, JpaDocumentAssetId> join("specificAssetIds");
+                subquery.select(specificAssetId.<String> get("name"))
+                        .where(builder.equal(specificAssetId.get("name"), assetId.getName()),
+                                builder.equal(specificAssetId.get("value"), assetId.getValue()));
+                predicates.add(builder.exists(subquery));
+            }
+        }
+        queryCriteria.select(root.<String> get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(queryCriteria).getResultList();
+    }
+
+
+    /**
+     * Fetches the standalone submodel documents that follow the given ID, ordered by ID.
+     *
+     * @param entityManager The entityManager to use.
+     * @param lastId The ID after which to start, null to start with the first document.
+     * @param maxResults The maximum number of results.
+     * @return The requested range of documents.
+     */
+    public static List<JpaSubmodelDocument> getSubmodelDocuments(EntityManager entityManager, String lastId, int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaSubmodelDocument.class);
+        var root = queryCriteria.from(JpaSubmodelDocument.class);
+        List<Predicate> predicates = new ArrayList<>();
+        if (lastId != null) {
+            predicates.add(builder.greaterThan(root.get("id"), lastId));
+        }
+        queryCriteria.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(queryCriteria)
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+
+    /**
+     * Fetches all standalone submodel documents with the given semantic ID, i.e., any key of the semantic ID of the
+     * submodel has the given value.
+     *
+     * @param entityManager The entityManager to use.
+     * @param semanticId The desired semantic ID.
+     * @return All standalone submodel documents matching the given semantic ID.
+     */
+    public static List<JpaSubmodelDocument> getSubmodelDocumentsBySemanticId(EntityManager entityManager, String semanticId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaSubmodelDocument.class);
+        var root = queryCriteria.from(JpaSubmodelDocument.class);
+        // the extracted values are distinct per document, so the join does not produce duplicates
+        var value = root.<JpaSubmodelDocument, String> join("semanticIds");
+        queryCriteria.select(root)
+                .where(builder.equal(value, semanticId));
+        return entityManager.createQuery(queryCriteria).getResultList();
+    }
+}
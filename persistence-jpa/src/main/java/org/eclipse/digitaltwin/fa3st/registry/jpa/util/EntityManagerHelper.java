@@ -15,13 +15,22 @@ package org.eclipse.digitaltwin.fa3st.registry.jpa.util;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.AbstractAasRepository;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaKey;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaReference;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptorStandalone;
+import org.hibernate.jpa.HibernateHints;
 
 
 /**
@@ -59,7 +68,8 @@ public class EntityManagerHelper {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         var queryCriteria = builder.createQuery(type);
         queryCriteria.select(queryCriteria.from(type));
-        var query = entityManager.createQuery(queryCriteria);
+        var query = entityManager.createQuery(queryCriteria)
+                .setHint(HibernateHints.HINT_CACHEABLE, true);
         return query.getResultList().stream()
                 .map(returnType::cast)
                 .collect(Collectors.toList());
@@ -67,7 +77,8 @@ public class EntityManagerHelper {
 
 
     /**
-     * Fetches all instances of AssetAdministrationShellDescriptor, matching the given criteria.
+     * Fetches all instances of AssetAdministrationShellDescriptor, matching the given criteria. The query is cacheable,
+     * i.e., its result is taken from the query cache if it is enabled.
      *
      * @param entityManager The entityManager to use.
      * @param assetType The desired assetType.
@@ -78,7 +89,202 @@ public class EntityManagerHelper {
         if ((assetKind == null) && (assetType == null)) {
             return getAll(entityManager, JpaAssetAdministrationShellDescriptor.class, AssetAdministrationShellDescriptor.class);
         }
+        var query = entityManager.createQuery(createAasQuery(entityManager, assetType, assetKind, null, false))
+                .setHint(HibernateHints.HINT_CACHEABLE, true);
+        return query.getResultList().stream()
+                .map(AssetAdministrationShellDescriptor.class::cast)
+                .toList();
+    }
+
+
+    /**
+     * Fetches the instances of AssetAdministrationShellDescriptor matching the given criteria that follow the given ID,
+     * ordered by ID. Only the requested instances are loaded from the database and the start of the range is found by
+     * a seek on the primary key index instead of skipping the preceding rows.
+     *
+     * @param entityManager The entityManager to use.
+     * @param assetType The desired assetType.
+     * @param assetKind The desired assetKind.
+     * @param lastId The ID after which to start, null to start with the first instance.
+     * @param maxResults The maximum number of results.
+     * @return The requested range of instances matching the given criteria.
+     */
+    public static List<AssetAdministrationShellDescriptor> getAas(EntityManager entityManager, String assetType, AssetKind assetKind, String lastId,
+                                                                  int maxResults) {
+        return entityManager.createQuery(createAasQuery(entityManager, assetType, assetKind, lastId, true))
+                .setMaxResults(maxResults)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .getResultList().stream()
+                .map(AssetAdministrationShellDescriptor.class::cast)
+                .toList();
+    }
+
+
+    /**
+     * Fetches the IDs of all instances of AssetAdministrationShellDescriptor matching all of the given asset identifiers.
+     * The lookup is executed as a single query in the database instead of loading and filtering all descriptors.
+     *
+     * @param entityManager The entityManager to use.
+     * @param assetIds The asset identifiers to match.
+     * @return The IDs of all matching instances, sorted by ID.
+     */
+    public static List<String> getAasIdsByAssetIds(EntityManager entityManager, List<SpecificAssetId> assetIds) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(String.class);
+        var root = queryCriteria.from(JpaAssetAdministrationShellDescriptor.class);
+        List<Predicate> predicates = new ArrayList<>();
+        for (var assetId: assetIds) {
+            if (AbstractAasRepository.GLOBAL_ASSET_ID.equals(assetId.getName())) {
+                predicates.add(builder.equal(root.get("globalAssetId"), assetId.getValue()));
+            }
+            else {
+                var subquery = queryCriteria.subquery(String.class);
+                var specificAssetId = subquery.correlate(root).join("specificAssetIds");
+                subquery.select(specificAssetId.<String> get("name"))
+                        .where(builder.equal(specificAssetId.get("name"), assetId.getName()),
+                                builder.equal(specificAssetId.get("value"), assetId.getValue()));
+                predicates.add(builder.exists(subquery));
+            }
+        }
+        queryCriteria.select(root.<String> get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(queryCriteria).getResultList();
+    }
+
 
+    /**
+     * Fetches the submodels of the given AAS that follow the given ID, ordered by ID. Only the requested submodels are
+     * loaded from the database.
+     *
+     * @param entityManager The entityManager to use.
+     * @param aasId The ID of the AAS.
+     * @param lastId The ID after which to start, null to start with the first submodel.
+     * @param maxResults The maximum number of results.
+     * @return The requested range of submodels of the AAS.
+     */
+    public static List<SubmodelDescriptor> getSubmodels(EntityManager entityManager, String aasId, String lastId, int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaSubmodelDescriptor.class);
+        var root = queryCriteria.from(JpaAssetAdministrationShellDescriptor.class);
+        var submodel = root.<JpaAssetAdministrationShellDescriptor, JpaSubmodelDescriptor> join("submodelDescriptors");
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.equal(root.get("id"), aasId));
+        if (lastId != null) {
+            predicates.add(builder.greaterThan(submodel.get("id"), lastId));
+        }
+        queryCriteria.select(submodel)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(submodel.get("id")));
+        return entityManager.createQuery(queryCriteria)
+                .setMaxResults(maxResults)
+                .getResultList().stream()
+                .map(SubmodelDescriptor.class::cast)
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * Fetches the standalone submodels that follow the given ID, ordered by ID. Only the requested submodels are loaded
+     * from the database.
+     *
+     * @param entityManager The entityManager to use.
+     * @param lastId The ID after which to start, null to start with the first submodel.
+     * @param maxResults The maximum number of results.
+     * @return The requested range of standalone submodels.
+     */
+    public static List<SubmodelDescriptor> getSubmodels(EntityManager entityManager, String lastId, int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaSubmodelDescriptorStandalone.class);
+        var root = queryCriteria.from(JpaSubmodelDescriptorStandalone.class);
+        List<Predicate> predicates = new ArrayList<>();
+        if (lastId != null) {
+            predicates.add(builder.greaterThan(root.get("id"), lastId));
+        }
+        queryCriteria.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(root.get("id")));
+        return entityManager.createQuery(queryCriteria)
+                .setMaxResults(maxResults)
+                .getResultList().stream()
+                .map(SubmodelDescriptor.class::cast)
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * Fetches a single submodel of the given AAS without loading the other submodels of the AAS.
+     *
+     * @param entityManager The entityManager to use.
+     * @param aasId The ID of the AAS.
+     * @param submodelId The ID of the submodel.
+     * @return The submodel, null if the AAS does not contain a submodel with the given ID.
+     */
+    public static JpaSubmodelDescriptor getSubmodel(EntityManager entityManager, String aasId, String submodelId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaSubmodelDescriptor.class);
+        var root = queryCriteria.from(JpaAssetAdministrationShellDescriptor.class);
+        var submodel = root.<JpaAssetAdministrationShellDescriptor, JpaSubmodelDescriptor> join("submodelDescriptors");
+        queryCriteria.select(submodel)
+                .where(builder.equal(root.get("id"), aasId),
+                        builder.equal(submodel.get("id"), submodelId));
+        return entityManager.createQuery(queryCriteria)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+
+    /**
+     * Fetches all submodels of the given AAS with the given semantic ID, i.e., any key of the semantic ID of the
+     * submodel has the given value.
+     *
+     * @param entityManager The entityManager to use.
+     * @param aasId The ID of the AAS.
+     * @param semanticId The desired semantic ID.
+     * @return All submodels of the AAS matching the given semantic ID.
+     */
+    public static List<SubmodelDescriptor> getSubmodelsBySemanticId(EntityManager entityManager, String aasId, String semanticId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaSubmodelDescriptor.class);
+        var root = queryCriteria.from(JpaAssetAdministrationShellDescriptor.class);
+        var submodel = root.<JpaAssetAdministrationShellDescriptor, JpaSubmodelDescriptor> join("submodelDescriptors");
+        var key = submodel.<JpaSubmodelDescriptor, JpaReference> join("semanticId").<JpaReference, JpaKey> join("keys");
+        queryCriteria.select(submodel)
+                .distinct(true)
+                .where(builder.equal(root.get("id"), aasId),
+                        builder.equal(key.get("value"), semanticId));
+        return entityManager.createQuery(queryCriteria).getResultList().stream()
+                .map(SubmodelDescriptor.class::cast)
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * Fetches all standalone submodels with the given semantic ID, i.e., any key of the semantic ID of the submodel has
+     * the given value.
+     *
+     * @param entityManager The entityManager to use.
+     * @param semanticId The desired semantic ID.
+     * @return All standalone submodels matching the given semantic ID.
+     */
+    public static List<SubmodelDescriptor> getSubmodelsBySemanticId(EntityManager entityManager, String semanticId) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        var queryCriteria = builder.createQuery(JpaSubmodelDescriptorStandalone.class);
+        var root = queryCriteria.from(JpaSubmodelDescriptorStandalone.class);
+        var key = root.<JpaSubmodelDescriptorStandalone, JpaReference> join("semanticId").<JpaReference, JpaKey> join("keys");
+        queryCriteria.select(root)
+                .distinct(true)
+                .where(builder.equal(key.get("value"), semanticId));
+        return entityManager.createQuery(queryCriteria).getResultList().stream()
+                .map(SubmodelDescriptor.class::cast)
+                .collect(Collectors.toList());
+    }
+
+
+    private static CriteriaQuery<JpaAssetAdministrationShellDescriptor> createAasQuery(EntityManager entityManager, String assetType, AssetKind assetKind,
+                                                                                       String lastId, boolean ordered) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
         var queryCriteria = builder.createQuery(JpaAssetAdministrationShellDescriptor.class);
         var root = queryCriteria.from(JpaAssetAdministrationShellDescriptor.class);
@@ -89,10 +295,13 @@ public class EntityManagerHelper {
         if (assetKind != null) {
             predicates.add(builder.equal(root.get("assetKind"), assetKind));
         }
+        if (lastId != null) {
+            predicates.add(builder.greaterThan(root.get("id"), lastId));
+        }
         queryCriteria.select(root).where(predicates.toArray(Predicate[]::new));
-        var query = entityManager.createQuery(queryCriteria);
-        return query.getResultList().stream()
-                .map(AssetAdministrationShellDescriptor.class::cast)
-                .toList();
+        if (ordered) {
+            queryCriteria.orderBy(builder.asc(root.get("id")));
+        }
+        return queryCriteria;
     }
 }
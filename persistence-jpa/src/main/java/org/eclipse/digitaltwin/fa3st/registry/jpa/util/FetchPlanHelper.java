@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataSpecificationIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Endpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueReferencePair;
+import org.hibernate.Hibernate;
+
+
+/**
+ * Helper class to load the lazy collections of descriptors.
+ *
+ * <p>All to-many associations are mapped lazily, so reading a descriptor only loads the requested rows. The methods of
+ * this class define the fetch plan for returning a descriptor to a caller, i.e., they initialize all collections that
+ * are part of the serialized descriptor while the persistence context is still open. Together with
+ * {@code hibernate.default_batch_fetch_size} the collections of all descriptors of a result list are loaded with one
+ * query per collection type instead of one query per descriptor and collection.
+ */
+public class FetchPlanHelper {
+
+    private FetchPlanHelper() {}
+
+
+    /**
+     * Initializes all collections of the given AAS descriptors including their submodels.
+     *
+     * @param <T> the type of the descriptors
+     * @param aass the descriptors
+     * @return the descriptors
+     */
+    public static <T extends AssetAdministrationShellDescriptor> List<T> initializeAASs(List<T> aass) {
+        aass.forEach(FetchPlanHelper::initialize);
+        return aass;
+    }
+
+
+    /**
+     * Initializes all collections of the given submodel descriptors.
+     *
+     * @param <T> the type of the descriptors
+     * @param submodels the descriptors
+     * @return the descriptors
+     */
+    public static <T extends SubmodelDescriptor> List<T> initializeSubmodels(List<T> submodels) {
+        submodels.forEach(FetchPlanHelper::initialize);
+        return submodels;
+    }
+
+
+    /**
+     * Initializes all collections of the given AAS descriptor including its submodels.
+     *
+     * @param <T> the type of the descriptor
+     * @param aas the descriptor
+     * @return the descriptor
+     */
+    public static <T extends AssetAdministrationShellDescriptor> T initialize(T aas) {
+        if (Objects.isNull(aas)) {
+            return aas;
+        }
+        initialize(aas.getAdministration());
+        initialize(aas.getDescription(), null);
+        initialize(aas.getDisplayName(), null);
+        initialize(aas.getEndpoints(), FetchPlanHelper::initialize);
+        initialize(aas.getExtensions(), FetchPlanHelper::initialize);
+        initialize(aas.getSpecificAssetIds(), FetchPlanHelper::initialize);
+        initialize(aas.getSubmodelDescriptors(), FetchPlanHelper::initialize);
+        return aas;
+    }
+
+
+    /**
+     * Initializes all collections of the given submodel descriptor.
+     *
+     * @param <T> the type of the descriptor
+     * @param submodel the descriptor
+     * @return the descriptor
+     */
+    public static <T extends SubmodelDescriptor> T initialize(T submodel) {
+        if (Objects.isNull(submodel)) {
+            return submodel;
+        }
+        initialize(submodel.getAdministration());
+        initialize(submodel.getDescription(), null);
+        initialize(submodel.getDisplayName(), null);
+        initialize(submodel.getEndpoints(), FetchPlanHelper::initialize);
+        initialize(submodel.getExtensions(), FetchPlanHelper::initialize);
+        initialize(submodel.getSemanticId());
+        initialize(submodel.getSupplementalSemanticId(), FetchPlanHelper::initialize);
+        return submodel;
+    }
+
+
+    private static void initialize(AdministrativeInformation administration) {
+        if (Objects.isNull(administration)) {
+            return;
+        }
+        initialize(administration.getCreator());
+        initialize(administration.getEmbeddedDataSpecifications(), FetchPlanHelper::initialize);
+    }
+
+
+    private static void initialize(EmbeddedDataSpecification embeddedDataSpecification) {
+        initialize(embeddedDataSpecification.getDataSpecification());
+        if (embeddedDataSpecification.getDataSpecificationContent() instanceof DataSpecificationIec61360 content) {
+            initialize(content.getDefinition(), null);
+            initialize(content.getPreferredName(), null);
+            initialize(content.getShortName(), null);
+            initialize(content.getUnitId());
+            if (Objects.nonNull(content.getValueList())) {
+                initialize(content.getValueList().getValueReferencePairs(), FetchPlanHelper::initialize);
+            }
+        }
+    }
+
+
+    private static void initialize(Endpoint endpoint) {
+        if (Objects.nonNull(endpoint.getProtocolInformation())) {
+            initialize(endpoint.getProtocolInformation().getSecurityAttributes(), null);
+        }
+    }
+
+
+    private static void initialize(Extension extension) {
+        initialize(extension.getSemanticId());
+        initialize(extension.getSupplementalSemanticIds(), FetchPlanHelper::initialize);
+        initialize(extension.getRefersTo(), FetchPlanHelper::initialize);
+    }
+
+
+    private static void initialize(SpecificAssetId specificAssetId) {
+        initialize(specificAssetId.getSemanticId());
+        initialize(specificAssetId.getExternalSubjectId());
+        initialize(specificAssetId.getSupplementalSemanticIds(), FetchPlanHelper::initialize);
+    }
+
+
+    private static void initialize(ValueReferencePair valueReferencePair) {
+        initialize(valueReferencePair.getValueId());
+    }
+
+
+    private static void initialize(Reference reference) {
+        if (Objects.isNull(reference)) {
+            return;
+        }
+        initialize(reference.getKeys(), null);
+        initialize(reference.getReferredSemanticId());
+    }
+
+
+    private static <T> void initialize(Collection<T> collection, Consumer<T> elementInitializer) {
+        if (Objects.isNull(collection)) {
+            return;
+        }
+        Hibernate.initialize(collection);
+        if (Objects.nonNull(elementInitializer)) {
+            collection.forEach(elementInitializer);
+        }
+    }
+}
@@ -37,8 +37,12 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.ValueList;
 import org.eclipse.digitaltwin.aas4j.v3.model.ValueReferencePair;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAdministrativeInformation;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaBulkItemResult;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaBulkJob;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDataSpecificationIec61360;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDescription;
 import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaDisplayName;
@@ -62,7 +66,8 @@ import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaValueReferencePair;
 
 
 /**
- * Helper class to transform AAS model classes to JPA model classes.
+ * Helper class to transform AAS model classes to JPA model classes. Bulk jobs are transformed in both directions as
+ * their JPA model classes do not extend the core model classes.
  */
 public class ModelTransformationHelper {
 
@@ -448,4 +453,81 @@ public class ModelTransformationHelper {
                 .map(x -> new JpaString.Builder().value(x).build())
                 .collect(Collectors.toList());
     }
+
+
+    /**
+     * Converts BulkJob to JpaBulkJob.
+     *
+     * @param job The BulkJob.
+     * @return The converted JpaBulkJob.
+     */
+    public static JpaBulkJob convertBulkJob(BulkJob job) {
+        if (job == null) {
+            return null;
+        }
+        JpaBulkJob result = new JpaBulkJob();
+        result.setId(job.getId());
+        result.setType(job.getType());
+        result.setStatus(job.getStatus());
+        result.setTotal(job.getTotal());
+        result.setProcessed(job.getProcessed());
+        result.setFailed(job.getFailed());
+        result.setFailures(convertBulkItemResults(job.getFailures()));
+        result.setMessage(job.getMessage());
+        result.setCreatedAt(job.getCreatedAt());
+        result.setStartedAt(job.getStartedAt());
+        result.setFinishedAt(job.getFinishedAt());
+        result.setOwner(job.getOwner());
+        result.setHeartbeat(job.getHeartbeat());
+        return result;
+    }
+
+
+    /**
+     * Converts a list of BulkItemResults to a list of JpaBulkItemResults.
+     *
+     * @param results The list of BulkItemResults.
+     * @return The converted list of BulkItemResults.
+     */
+    public static List<JpaBulkItemResult> convertBulkItemResults(List<BulkItemResult> results) {
+        return results.stream()
+                .map(x -> {
+                    JpaBulkItemResult result = new JpaBulkItemResult();
+                    result.setId(x.getId());
+                    result.setStatus(x.getStatus());
+                    result.setMessage(x.getMessage());
+                    return result;
+                })
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * Converts JpaBulkJob back to BulkJob.
+     *
+     * @param job The JpaBulkJob.
+     * @return The converted BulkJob.
+     */
+    public static BulkJob toBulkJob(JpaBulkJob job) {
+        if (job == null) {
+            return null;
+        }
+        BulkJob result = new BulkJob();
+        result.setId(job.getId());
+        result.setType(job.getType());
+        result.setStatus(job.getStatus());
+        result.setTotal(job.getTotal());
+        result.setProcessed(job.getProcessed());
+        result.setFailed(job.getFailed());
+        result.setFailures(job.getFailures().stream()
+                .map(x -> new BulkItemResult(x.getId(), x.getStatus(), x.getMessage()))
+                .collect(Collectors.toList()));
+        result.setMessage(job.getMessage());
+        result.setCreatedAt(job.getCreatedAt());
+        result.setStartedAt(job.getStartedAt());
+        result.setFinishedAt(job.getFinishedAt());
+        result.setOwner(job.getOwner());
+        result.setHeartbeat(job.getHeartbeat());
+        return result;
+    }
 }
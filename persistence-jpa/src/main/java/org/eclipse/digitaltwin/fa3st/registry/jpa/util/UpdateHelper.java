@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.util;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.model.JpaSubmodelDescriptorBase;
+
+
+/**
+ * Helper class to update persisted descriptors in place.
+ *
+ * <p>Instead of replacing the complete graph of a descriptor, the incoming descriptor is compared with the persisted
+ * one and only the parts that changed are written. Elements of child collections (e.g. endpoints, specific asset IDs or
+ * extensions) that are equal by value to a persisted element keep the persisted entity, i.e., they cause no writes at
+ * all. Submodels are matched by their ID and updated recursively. Persisted elements without a counterpart in the
+ * incoming descriptor are deleted.
+ */
+public class UpdateHelper {
+
+    private UpdateHelper() {}
+
+
+    /**
+     * Updates a persisted AAS descriptor to match the given descriptor.
+     *
+     * @param entityManager The entityManager to use.
+     * @param persisted The persisted descriptor, must be managed by the entityManager.
+     * @param descriptor The new state of the descriptor.
+     * @return The persisted descriptor.
+     */
+    public static JpaAssetAdministrationShellDescriptor update(EntityManager entityManager, JpaAssetAdministrationShellDescriptor persisted,
+                                                               AssetAdministrationShellDescriptor descriptor) {
+        persisted.setContentHash(ContentHashHelper.hashShell(descriptor));
+        persisted.setIdShort(descriptor.getIdShort());
+        persisted.setAssetKind(descriptor.getAssetKind());
+        persisted.setAssetType(descriptor.getAssetType());
+        persisted.setGlobalAssetId(descriptor.getGlobalAssetId());
+        updateReference(entityManager, persisted.getAdministration(), ModelTransformationHelper.convertAdministrativeInformation(descriptor.getAdministration()),
+                persisted::setAdministration);
+        updateList(entityManager, persisted.getDescription(), ModelTransformationHelper.convertDescriptions(nonNull(descriptor.getDescription())));
+        updateList(entityManager, persisted.getDisplayName(), ModelTransformationHelper.convertDisplayNames(nonNull(descriptor.getDisplayName())));
+        updateList(entityManager, persisted.getEndpoints(), ModelTransformationHelper.convertEndpoints(nonNull(descriptor.getEndpoints())));
+        updateList(entityManager, persisted.getSpecificAssetIds(), ModelTransformationHelper.convertSpecificAssetIds(nonNull(descriptor.getSpecificAssetIds())));
+        updateList(entityManager, persisted.getExtensions(), ModelTransformationHelper.convertExtensions(nonNull(descriptor.getExtensions())));
+        updateSubmodels(entityManager, persisted.getSubmodelDescriptors(), nonNull(descriptor.getSubmodelDescriptors()));
+        return persisted;
+    }
+
+
+    /**
+     * Updates a persisted submodel descriptor to match the given descriptor.
+     *
+     * @param <T> The type of the persisted descriptor.
+     * @param entityManager The entityManager to use.
+     * @param persisted The persisted descriptor, must be managed by the entityManager.
+     * @param descriptor The new state of the descriptor.
+     * @return The persisted descriptor.
+     */
+    public static <T extends JpaSubmodelDescriptorBase> T update(EntityManager entityManager, T persisted, SubmodelDescriptor descriptor) {
+        persisted.setContentHash(ContentHashHelper.hash(descriptor));
+        persisted.setIdShort(descriptor.getIdShort());
+        updateReference(entityManager, persisted.getAdministration(), ModelTransformationHelper.convertAdministrativeInformation(descriptor.getAdministration()),
+                persisted::setAdministration);
+        updateReference(entityManager, persisted.getSemanticId(), ModelTransformationHelper.convertReference(descriptor.getSemanticId()),
+                persisted::setSemanticId);
+        updateList(entityManager, persisted.getDescription(), ModelTransformationHelper.convertDescriptions(nonNull(descriptor.getDescription())));
+        updateList(entityManager, persisted.getDisplayName(), ModelTransformationHelper.convertDisplayNames(nonNull(descriptor.getDisplayName())));
+        updateList(entityManager, persisted.getEndpoints(), ModelTransformationHelper.convertEndpoints(nonNull(descriptor.getEndpoints())));
+        updateList(entityManager, persisted.getSupplementalSemanticId(), ModelTransformationHelper.convertReferences(nonNull(descriptor.getSupplementalSemanticId())));
+        updateList(entityManager, persisted.getExtensions(), ModelTransformationHelper.convertExtensions(nonNull(descriptor.getExtensions())));
+        return persisted;
+    }
+
+
+    private static void updateSubmodels(EntityManager entityManager, List<SubmodelDescriptor> persisted, List<SubmodelDescriptor> submodels) {
+        Map<String, Deque<SubmodelDescriptor>> unmatched = groupBy(persisted, SubmodelDescriptor::getId);
+        List<SubmodelDescriptor> result = new ArrayList<>(submodels.size());
+        for (var submodel: submodels) {
+            SubmodelDescriptor match = poll(unmatched, submodel.getId());
+            result.add(Objects.isNull(match)
+                    ? ModelTransformationHelper.convertSubmodel(submodel)
+                    : update(entityManager, (JpaSubmodelDescriptorBase) match, submodel));
+        }
+        replaceIfChanged(entityManager, persisted, result, unmatched);
+    }
+
+
+    private static <T> void updateList(EntityManager entityManager, List<T> persisted, List<T> elements) {
+        // every element is serialized once and matched by its JSON instead of comparing each pair of elements
+        Map<String, Deque<T>> unmatched = groupBy(persisted, DocumentHelper::write);
+        List<T> result = new ArrayList<>(elements.size());
+        for (var element: elements) {
+            T match = poll(unmatched, DocumentHelper.write(element));
+            result.add(Objects.isNull(match) ? element : match);
+        }
+        replaceIfChanged(entityManager, persisted, result, unmatched);
+    }
+
+
+    private static <T> void updateReference(EntityManager entityManager, T persisted, T value, Consumer<T> setter) {
+        if (Objects.isNull(persisted) && Objects.isNull(value)) {
+            return;
+        }
+        if (Objects.nonNull(persisted) && Objects.nonNull(value) && DocumentHelper.write(persisted).equals(DocumentHelper.write(value))) {
+            return;
+        }
+        setter.accept(value);
+        if (Objects.nonNull(persisted)) {
+            entityManager.remove(persisted);
+        }
+    }
+
+
+    private static <T> void replaceIfChanged(EntityManager entityManager, List<T> persisted, List<T> result, Map<String, Deque<T>> removed) {
+        // replacing the content of a collection re-writes its join table rows, so only do so if any element changed
+        boolean changed = persisted.size() != result.size();
+        for (int i = 0; !changed && i < result.size(); i++) {
+            changed = persisted.get(i) != result.get(i);
+        }
+        if (changed) {
+            persisted.clear();
+            persisted.addAll(result);
+        }
+        removed.values().forEach(x -> x.forEach(entityManager::remove));
+    }
+
+
+    private static <T> Map<String, Deque<T>> groupBy(List<T> elements, Function<T, String> keyExtractor) {
+        Map<String, Deque<T>> result = new HashMap<>();
+        for (var element: elements) {
+            result.computeIfAbsent(keyExtractor.apply(element), x -> new ArrayDeque<>()).add(element);
+        }
+        return result;
+    }
+
+
+    private static <T> T poll(Map<String, Deque<T>> elements, String key) {
+        Deque<T> matches = elements.get(key);
+        return Objects.isNull(matches) ? null : matches.poll();
+    }
+
+
+    private static <T> List<T> nonNull(List<T> list) {
+        return Objects.isNull(list) ? List.of() : list;
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa;
+
+import static org.junit.Assert.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.util.stream.IntStream;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.SecurityTypeEnum;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEndpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProtocolInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSecurityAttributeObject;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * Ensures that the rows of a descriptor graph are written with JDBC batches, i.e., the number of round-trips needed to
+ * create a descriptor does not depend on the number of its submodels.
+ */
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@ContextConfiguration(classes = AasRepositoryJpaBatchInsertTest.class)
+@DataJpaTest
+@EntityScan(basePackages = {
+        "org.eclipse.digitaltwin.fa3st.registry.jpa.model"
+})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true"
+})
+public class AasRepositoryJpaBatchInsertTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private AasRepositoryJpa repository;
+    private Statistics statistics;
+
+    @Before
+    public void setup() {
+        repository = new AasRepositoryJpa(entityManager);
+        statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+    }
+
+
+    @Test
+    public void createStatementCountIndependentOfNumberOfSubmodels() throws Exception {
+        long statementsSmall = countStatements(getAAS("BatchInsertSmall", 3));
+        long statementsLarge = countStatements(getAAS("BatchInsertLarge", 30));
+        assertTrue(String.format("number of statements grows with number of submodels (3 submodels: %d, 30 submodels: %d)", statementsSmall, statementsLarge),
+                statementsLarge <= statementsSmall);
+    }
+
+
+    @Test
+    public void createUsesBatches() throws Exception {
+        long statements = countStatements(getAAS("BatchInsert", 30));
+        long rows = statistics.getEntityInsertCount();
+        assertTrue(String.format("rows are not inserted in batches (inserted entities: %d, statements: %d)", rows, statements),
+                statements * 5 < rows);
+    }
+
+
+    private long countStatements(AssetAdministrationShellDescriptor aas) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        repository.create(aas);
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAAS(String id, int submodelCount) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .id(id)
+                .idShort(id)
+                .endpoints(getEndpoint(id))
+                .submodelDescriptors(IntStream.range(0, submodelCount)
+                        .mapToObj(i -> getSubmodel(id, i))
+                        .toList())
+                .build();
+    }
+
+
+    private static SubmodelDescriptor getSubmodel(String aasId, int index) {
+        String id = String.format("%s-Submodel%02d", aasId, index);
+        return new DefaultSubmodelDescriptor.Builder()
+                .id(id)
+                .idShort("Submodel" + index)
+                .semanticId(new DefaultReference.Builder()
+                        .keys(new DefaultKey.Builder()
+                                .type(KeyTypes.GLOBAL_REFERENCE)
+                                .value("http://example.org/submodel" + index)
+                                .build())
+                        .type(ReferenceTypes.EXTERNAL_REFERENCE)
+                        .build())
+                .endpoints(getEndpoint(id))
+                .build();
+    }
+
+
+    private static DefaultEndpoint getEndpoint(String href) {
+        return new DefaultEndpoint.Builder()
+                ._interface("http")
+                .protocolInformation(new DefaultProtocolInformation.Builder()
+                        .href(href)
+                        .endpointProtocol("http")
+                        .securityAttributes(new DefaultSecurityAttributeObject.Builder()
+                                .type(SecurityTypeEnum.NONE)
+                                .key("key")
+                                .value("value")
+                                .build())
+                        .build())
+                .build();
+    }
+}
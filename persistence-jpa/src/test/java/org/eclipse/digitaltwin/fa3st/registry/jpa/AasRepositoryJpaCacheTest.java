@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.jpa.cache.SecondLevelCacheCustomizer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+
+/**
+ * Tests the second-level and query cache of the JPA repository. Each repository call runs in its own transaction as
+ * cached data only becomes visible to other transactions after commit.
+ */
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@ContextConfiguration(classes = AasRepositoryJpaCacheTest.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SecondLevelCacheCustomizer.class)
+@EntityScan(basePackages = {
+        "org.eclipse.digitaltwin.fa3st.registry.jpa.model"
+})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.caffeine.maximum_size=1000",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class AasRepositoryJpaCacheTest {
+
+    private static final String ASSET_TYPE = "CacheTest";
+    private static final String AAS_ID_1 = "CacheTestAAS1";
+    private static final String AAS_ID_2 = "CacheTestAAS2";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AasRepositoryJpa repository;
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @Before
+    public void setup() throws Exception {
+        repository = new AasRepositoryJpa(entityManager);
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        inTransaction(() -> repository.create(getAAS(AAS_ID_1, "initial")));
+    }
+
+
+    @After
+    public void cleanup() throws Exception {
+        for (var id: List.of(AAS_ID_1, AAS_ID_2)) {
+            inTransaction(() -> {
+                if (repository.getAASs(ASSET_TYPE, null).stream().anyMatch(x -> id.equals(x.getId()))) {
+                    repository.deleteAAS(id);
+                }
+                return null;
+            });
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+
+    @Test
+    public void getAASServedFromSecondLevelCache() throws Exception {
+        inTransaction(() -> repository.getAAS(AAS_ID_1));
+        statistics.clear();
+        AssetAdministrationShellDescriptor actual = inTransaction(() -> repository.getAAS(AAS_ID_1));
+        assertEquals(AAS_ID_1, actual.getId());
+        assertTrue("AAS not served from second-level cache", statistics.getSecondLevelCacheHitCount() > 0);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+
+    @Test
+    public void getAASsServedFromQueryCache() throws Exception {
+        inTransaction(() -> repository.getAASs(ASSET_TYPE, null));
+        statistics.clear();
+        List<AssetAdministrationShellDescriptor> actual = inTransaction(() -> repository.getAASs(ASSET_TYPE, null));
+        assertEquals(1, actual.size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getQueryExecutionCount());
+    }
+
+
+    @Test
+    public void cacheInvalidatedOnUpdate() throws Exception {
+        inTransaction(() -> repository.getAAS(AAS_ID_1));
+        inTransaction(() -> repository.getAASs(ASSET_TYPE, null));
+        inTransaction(() -> repository.update(AAS_ID_1, getAAS(AAS_ID_1, "updated")));
+        assertEquals("updated", inTransaction(() -> repository.getAAS(AAS_ID_1)).getDescription().get(0).getText());
+        assertEquals("updated", inTransaction(() -> repository.getAASs(ASSET_TYPE, null)).get(0).getDescription().get(0).getText());
+    }
+
+
+    @Test
+    public void cacheInvalidatedOnCreateAndDelete() throws Exception {
+        inTransaction(() -> repository.getAASs(ASSET_TYPE, null));
+        inTransaction(() -> repository.create(getAAS(AAS_ID_2, "other")));
+        assertEquals(2, inTransaction(() -> repository.getAASs(ASSET_TYPE, null)).size());
+        inTransaction(() -> repository.getAAS(AAS_ID_1));
+        inTransaction(() -> {
+            repository.deleteAAS(AAS_ID_1);
+            return null;
+        });
+        assertEquals(List.of(AAS_ID_2), inTransaction(() -> repository.getAASs(ASSET_TYPE, null)).stream()
+                .map(AssetAdministrationShellDescriptor::getId)
+                .toList());
+        try {
+            inTransaction(() -> repository.getAAS(AAS_ID_1));
+            throw new AssertionError("deleted AAS still served from cache");
+        }
+        catch (ResourceNotFoundException e) {
+            // expected
+        }
+    }
+
+
+    private <T> T inTransaction(Callable<T> action) throws Exception {
+        try {
+            return transaction.execute(status -> {
+                try {
+                    return action.call();
+                }
+                catch (Exception e) {
+                    throw new TransactionActionException(e);
+                }
+            });
+        }
+        catch (TransactionActionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAAS(String id, String description) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .id(id)
+                .idShort(id)
+                .assetType(ASSET_TYPE)
+                .description(new DefaultLangStringTextType.Builder().text(description).language("en-US").build())
+                .build();
+    }
+
+
+    private static class TransactionActionException extends RuntimeException {
+
+        TransactionActionException(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.Callable;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.AasRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.AbstractAasRepositoryTest;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@ContextConfiguration(classes = AasRepositoryJpaDocumentTest.class)
+@DataJpaTest
+@EntityScan(basePackages = {
+        "org.eclipse.digitaltwin.fa3st.registry.jpa.model"
+})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=64"
+})
+public class AasRepositoryJpaDocumentTest extends AbstractAasRepositoryTest<AasRepositoryJpaDocument> {
+
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @Before
+    public void setup() {
+        repository = new AasRepositoryJpaDocument(entityManager);
+        statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+    }
+
+
+    @Test
+    public void singleRowOperationsComparedToNormalizedSchema() throws Exception {
+        AasRepository normalized = new AasRepositoryJpa(entityManager);
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        // both repositories use different tables, so the same AAS can be stored in both
+        long normalizedWrite = countStatements(() -> normalized.create(aas));
+        long documentWrite = countStatements(() -> repository.create(aas));
+        long normalizedRead = countStatements(() -> normalized.getAAS(aas.getId()));
+        long documentRead = countStatements(() -> repository.getAAS(aas.getId()));
+        long normalizedReadTime = measureReadTime(() -> normalized.getAAS(aas.getId()));
+        long documentReadTime = measureReadTime(() -> repository.getAAS(aas.getId()));
+        String result = String.format("statements for write (document: %d, normalized: %d), statements for read (document: %d, normalized: %d), "
+                + "average read time in ns (document: %d, normalized: %d)",
+                documentWrite, normalizedWrite, documentRead, normalizedRead, documentReadTime, normalizedReadTime);
+        assertEquals(result, 1, documentRead);
+        assertTrue(result, documentRead < normalizedRead);
+        assertTrue(result, documentWrite < normalizedWrite);
+    }
+
+
+    private long countStatements(Callable<?> action) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.call();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+
+    private long measureReadTime(Callable<?> action) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            entityManager.clear();
+            action.call();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEndpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProtocolInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+/**
+ * Ensures that the number of SQL statements needed to read descriptors does not depend on the number of descriptors and
+ * that modifications only write the affected rows.
+ */
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@ContextConfiguration(classes = AasRepositoryJpaQueryCountTest.class)
+@DataJpaTest
+@EntityScan(basePackages = {
+        "org.eclipse.digitaltwin.fa3st.registry.jpa.model"
+})
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.default_batch_fetch_size=64"
+})
+public class AasRepositoryJpaQueryCountTest {
+
+    private static final String ASSET_TYPE = "QueryCount";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private AasRepositoryJpa repository;
+    private Statistics statistics;
+
+    @Before
+    public void setup() {
+        repository = new AasRepositoryJpa(entityManager);
+        statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+    }
+
+
+    @Test
+    public void getAASsQueryCountIndependentOfResultSize() throws Exception {
+        createAASs(0, 4);
+        long statementsSmall = countStatements(4, () -> repository.getAASs(ASSET_TYPE, null).size());
+        createAASs(4, 12);
+        long statementsLarge = countStatements(12, () -> repository.getAASs(ASSET_TYPE, null).size());
+        assertTrue(String.format("number of statements grows with number of AASs (4 AASs: %d, 12 AASs: %d)", statementsSmall, statementsLarge),
+                statementsLarge <= statementsSmall);
+    }
+
+
+    @Test
+    public void getAASsPageQueryCountIndependentOfPageSize() throws Exception {
+        createAASs(0, 12);
+        long statementsSmall = countStatements(4, () -> repository.getAASs(ASSET_TYPE, null, PagingInfo.builder()
+                .limit(4)
+                .build()).getContent().size());
+        long statementsLarge = countStatements(12, () -> repository.getAASs(ASSET_TYPE, null, PagingInfo.builder()
+                .limit(12)
+                .build()).getContent().size());
+        assertTrue(String.format("number of statements grows with page size (4 AASs: %d, 12 AASs: %d)", statementsSmall, statementsLarge),
+                statementsLarge <= statementsSmall);
+    }
+
+
+    @Test
+    public void getSubmodelsQueryCountIndependentOfResultSize() throws Exception {
+        createAASs(0, 1);
+        long statementsSmall = countStatements(2, () -> repository.getSubmodels(getAASId(0)).size());
+        repository.addSubmodel(getAASId(0), getSubmodel(0, 2));
+        repository.addSubmodel(getAASId(0), getSubmodel(0, 3));
+        repository.addSubmodel(getAASId(0), getSubmodel(0, 4));
+        long statementsLarge = countStatements(5, () -> repository.getSubmodels(getAASId(0)).size());
+        assertTrue(String.format("number of statements grows with number of submodels (2 submodels: %d, 5 submodels: %d)", statementsSmall, statementsLarge),
+                statementsLarge <= statementsSmall);
+    }
+
+
+    @Test
+    public void returnedDescriptorsFullyLoaded() throws Exception {
+        createAASs(0, 2);
+        entityManager.flush();
+        entityManager.clear();
+        List<AssetAdministrationShellDescriptor> actual = repository.getAASs(ASSET_TYPE, null);
+        entityManager.clear();
+        for (var aas: actual) {
+            assertEquals(1, aas.getDescription().size());
+            assertEquals(1, aas.getEndpoints().size());
+            assertEquals(1, aas.getSpecificAssetIds().get(0).getExternalSubjectId().getKeys().size());
+            assertEquals(2, aas.getSubmodelDescriptors().size());
+            for (var submodel: aas.getSubmodelDescriptors()) {
+                assertEquals(1, submodel.getEndpoints().size());
+                assertEquals(1, submodel.getSemanticId().getKeys().size());
+            }
+        }
+    }
+
+
+    @Test
+    public void deleteSubmodelOnlyDeletesRowsOfSubmodel() throws Exception {
+        createAASs(0, 1);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        repository.deleteSubmodel(getAASId(0), getSubmodel(0, 1).getId());
+        entityManager.flush();
+        assertEquals(0, statistics.getEntityInsertCount());
+        // version of the AAS
+        assertEquals(1, statistics.getEntityUpdateCount());
+        // submodel, semanticId, key, endpoint, protocolInformation
+        assertEquals(5, statistics.getEntityDeleteCount());
+        // the submodel is the last one, so only its join row is deleted
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        entityManager.clear();
+        List<SubmodelDescriptor> actual = repository.getSubmodels(getAASId(0));
+        assertEquals(1, actual.size());
+        assertEquals(getSubmodel(0, 0).getId(), actual.get(0).getId());
+        assertEquals(1, repository.getAAS(getAASId(0)).getEndpoints().size());
+    }
+
+
+    @Test
+    public void deleteFirstSubmodelKeepsOrderOfFollowingSubmodels() throws Exception {
+        createAASs(0, 1);
+        repository.addSubmodel(getAASId(0), getSubmodel(0, 2));
+        repository.addSubmodel(getAASId(0), getSubmodel(0, 3));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        repository.deleteSubmodel(getAASId(0), getSubmodel(0, 0).getId());
+        entityManager.flush();
+        assertEquals(0, statistics.getEntityInsertCount());
+        // version of the AAS
+        assertEquals(1, statistics.getEntityUpdateCount());
+        // submodel, semanticId, key, endpoint, protocolInformation
+        assertEquals(5, statistics.getEntityDeleteCount());
+        // the join rows of the following submodels are shifted by one position and the last one is deleted
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(1, statistics.getCollectionUpdateCount());
+        entityManager.clear();
+        assertEquals(List.of(getSubmodel(0, 1).getId(), getSubmodel(0, 2).getId(), getSubmodel(0, 3).getId()),
+                repository.getSubmodels(getAASId(0)).stream()
+                        .map(SubmodelDescriptor::getId)
+                        .toList());
+    }
+
+
+    @Test
+    public void updateUnchangedAASWritesNothing() throws Exception {
+        createAASs(0, 1);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        repository.update(getAASId(0), getAAS(0));
+        entityManager.flush();
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+    }
+
+
+    @Test
+    public void updateOnlyWritesChangedRows() throws Exception {
+        createAASs(0, 1);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        AssetAdministrationShellDescriptor expected = getAAS(0);
+        expected.setIdShort("changed");
+        expected.setEndpoints(List.of(getEndpoint("localhost:8080/changed")));
+        repository.update(getAASId(0), expected);
+        entityManager.flush();
+        // endpoint, protocolInformation
+        assertEquals(2, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getEntityDeleteCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        entityManager.clear();
+        AssetAdministrationShellDescriptor actual = repository.getAAS(getAASId(0));
+        assertEquals("changed", actual.getIdShort());
+        assertEquals("localhost:8080/changed", actual.getEndpoints().get(0).getProtocolInformation().getHref());
+        assertEquals(2, actual.getSubmodelDescriptors().size());
+    }
+
+
+    @Test
+    public void replaceSubmodelOnlyWritesChangedRows() throws Exception {
+        createAASs(0, 1);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        SubmodelDescriptor expected = getSubmodel(0, 1);
+        expected.setIdShort("changed");
+        repository.replaceSubmodel(getAASId(0), expected.getId(), expected);
+        entityManager.flush();
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        entityManager.clear();
+        assertEquals("changed", repository.getSubmodel(getAASId(0), expected.getId()).getIdShort());
+    }
+
+
+    @Test
+    public void contentHashMatchesStoredDescriptor() throws Exception {
+        createAASs(0, 1);
+        SubmodelDescriptor submodel = getSubmodel(0, 2);
+        repository.addSubmodel(getAASId(0), submodel);
+        entityManager.flush();
+        entityManager.clear();
+        AssetAdministrationShellDescriptor expected = getAAS(0);
+        expected.getSubmodelDescriptors().add(submodel);
+        assertEquals(ContentHashHelper.hash(expected), repository.getAASContentHash(getAASId(0)));
+        assertEquals(ContentHashHelper.hash(submodel), repository.getSubmodelContentHash(getAASId(0), submodel.getId()));
+    }
+
+
+    private long countStatements(int expectedSize, Callable<Integer> action) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(expectedSize, (int) action.call());
+        return statistics.getPrepareStatementCount();
+    }
+
+
+    private void createAASs(int from, int to) throws Exception {
+        for (int i = from; i < to; i++) {
+            repository.create(getAAS(i));
+        }
+    }
+
+
+    private static String getAASId(int index) {
+        return String.format("QueryCountAAS%02d", index);
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAAS(int index) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .id(getAASId(index))
+                .idShort("QueryCount" + index)
+                .assetType(ASSET_TYPE)
+                .description(new DefaultLangStringTextType.Builder().text("some aas").language("en-US").build())
+                .specificAssetIds(new DefaultSpecificAssetId.Builder()
+                        .name("TestKey")
+                        .value("Value" + index)
+                        .externalSubjectId(getReference("http://example.org/aas" + index))
+                        .build())
+                .endpoints(getEndpoint("localhost:8080/aas" + index))
+                .submodelDescriptors(getSubmodel(index, 0))
+                .submodelDescriptors(getSubmodel(index, 1))
+                .build();
+    }
+
+
+    private static SubmodelDescriptor getSubmodel(int aasIndex, int index) {
+        return new DefaultSubmodelDescriptor.Builder()
+                .id(String.format("QueryCountSubmodel%02d-%d", aasIndex, index))
+                .idShort("Submodel" + index)
+                .semanticId(getReference("http://example.org/submodel" + index))
+                .endpoints(getEndpoint(String.format("localhost:8080/aas%d/submodel%d", aasIndex, index)))
+                .build();
+    }
+
+
+    private static DefaultReference getReference(String value) {
+        return new DefaultReference.Builder()
+                .keys(new DefaultKey.Builder()
+                        .type(KeyTypes.GLOBAL_REFERENCE)
+                        .value(value)
+                        .build())
+                .type(ReferenceTypes.EXTERNAL_REFERENCE)
+                .build();
+    }
+
+
+    private static DefaultEndpoint getEndpoint(String href) {
+        return new DefaultEndpoint.Builder()
+                ._interface("http")
+                .protocolInformation(new DefaultProtocolInformation.Builder()
+                        .href(href)
+                        .endpointProtocol("http")
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@ContextConfiguration(classes = BulkJobRepositoryJpaTest.class)
+@DataJpaTest
+@EntityScan(basePackages = {
+        "org.eclipse.digitaltwin.fa3st.registry.jpa.model"
+})
+public class BulkJobRepositoryJpaTest {
+
+    private static final String PAYLOAD = "[\"http://example.org/Submodel1\",\"http://example.org/Submodel2\",\"http://example.org/Submodel3\"]";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private BulkJobRepositoryJpa repository;
+
+    @Before
+    public void setup() {
+        repository = new BulkJobRepositoryJpa(entityManager);
+    }
+
+
+    @Test
+    public void testProgressSurvivesReload() throws Exception {
+        BulkJob job = getJob("job1", 1);
+        repository.create(job, PAYLOAD);
+        assertThrows(ResourceAlreadyExistsException.class, () -> repository.create(job, PAYLOAD));
+
+        job.setStatus(BulkJob.Status.RUNNING);
+        job.setStartedAt(2);
+        job.setProcessed(2);
+        job.setFailed(1);
+        job.getFailures().add(new BulkItemResult("http://example.org/Submodel1", 404, "Submodel not found"));
+        repository.update(job);
+        job.setProcessed(3);
+        job.setFailed(2);
+        job.getFailures().add(new BulkItemResult("http://example.org/Submodel3", 404, "Submodel not found"));
+        repository.update(job);
+        reload();
+
+        assertEquals(job, repository.get(job.getId()));
+        assertEquals(List.of(job), repository.getUnfinished());
+        assertEquals(PAYLOAD, repository.getPayload(job.getId()));
+    }
+
+
+    @Test
+    public void testFinishedJobs() throws Exception {
+        BulkJob finished = getJob("job1", 1);
+        BulkJob pending = getJob("job2", 2);
+        repository.create(pending, PAYLOAD);
+        repository.create(finished, PAYLOAD);
+        finished.setStatus(BulkJob.Status.COMPLETED);
+        finished.setProcessed(3);
+        finished.setStartedAt(2);
+        finished.setFinishedAt(3);
+        repository.update(finished);
+        reload();
+
+        assertEquals(finished, repository.get(finished.getId()));
+        assertEquals(List.of(pending), repository.getUnfinished());
+        assertThrows(ResourceNotFoundException.class, () -> repository.getPayload(finished.getId()));
+        assertTrue(repository.get(finished.getId()).getThroughput() > 0);
+    }
+
+
+    @Test
+    public void testClaim() throws Exception {
+        BulkJob job = getJob("job1", 1);
+        job.setOwner("instance1");
+        job.setHeartbeat(10);
+        repository.create(job, PAYLOAD);
+        reload();
+
+        assertEquals(List.of(), repository.getExpired(10));
+        assertFalse(repository.claim(job.getId(), "instance2", 20, 10));
+        assertTrue(repository.claim(job.getId(), "instance1", 20, 10));
+        reload();
+        assertEquals(List.of(job.getId()), repository.getExpired(21));
+        assertTrue(repository.claim(job.getId(), "instance2", 30, 21));
+        reload();
+        assertEquals("instance2", repository.get(job.getId()).getOwner());
+        assertEquals(30, repository.get(job.getId()).getHeartbeat());
+
+        // progress updates do not change the lease
+        BulkJob stale = repository.get(job.getId());
+        stale.setOwner("instance1");
+        stale.setStatus(BulkJob.Status.COMPLETED);
+        repository.update(stale);
+        reload();
+        assertEquals("instance2", repository.get(job.getId()).getOwner());
+        assertFalse(repository.claim(job.getId(), "instance2", 40, 0));
+        assertFalse(repository.claim("unknown", "instance2", 40, 0));
+    }
+
+
+    @Test
+    public void testUnknownJob() {
+        assertThrows(ResourceNotFoundException.class, () -> repository.get("unknown"));
+        assertThrows(ResourceNotFoundException.class, () -> repository.update(getJob("unknown", 1)));
+    }
+
+
+    private void reload() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+
+    private static BulkJob getJob(String id, long createdAt) {
+        BulkJob result = new BulkJob();
+        result.setId(id);
+        result.setType(BatchOperation.Type.DELETE_SUBMODEL);
+        result.setStatus(BulkJob.Status.PENDING);
+        result.setTotal(3);
+        result.setCreatedAt(createdAt);
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.schema;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@ContextConfiguration(classes = IndexIntegratorTest.class)
+@DataJpaTest
+@EntityScan(basePackages = {
+        "org.eclipse.digitaltwin.fa3st.registry.jpa.model"
+})
+public class IndexIntegratorTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void foreignKeysIndexed() {
+        List<String> foreignKeys = query("SELECT k.TABLE_NAME || '.' || k.COLUMN_NAME"
+                + " FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS c"
+                + " JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k"
+                + " ON c.CONSTRAINT_SCHEMA = k.CONSTRAINT_SCHEMA AND c.CONSTRAINT_NAME = k.CONSTRAINT_NAME"
+                + " WHERE c.CONSTRAINT_TYPE = 'FOREIGN KEY' AND c.TABLE_SCHEMA = 'PUBLIC'");
+        Set<String> indexed = getIndexedColumns();
+        assertFalse(foreignKeys.isEmpty());
+        List<String> missing = foreignKeys.stream()
+                .filter(x -> !indexed.contains(x))
+                .toList();
+        assertTrue(String.format("foreign key columns without index: %s", missing), missing.isEmpty());
+    }
+
+
+    @Test
+    public void lookupColumnsIndexed() {
+        Set<String> indexed = getIndexedColumns();
+        for (var column: List.of(
+                "ASSET_ADMINISTRATION_SHELL.ASSET_TYPE",
+                "ASSET_ADMINISTRATION_SHELL.ASSET_KIND",
+                "ASSET_ADMINISTRATION_SHELL.GLOBAL_ASSET_ID",
+                "SPECIFIC_ASSET_ID.NAME",
+                "KEY_TABLE.VALUE_COL",
+                "AAS_DOCUMENT.ASSET_TYPE",
+                "AAS_DOCUMENT.ASSET_KIND",
+                "AAS_DOCUMENT.GLOBAL_ASSET_ID",
+                "AAS_DOCUMENT_ASSET_ID.NAME",
+                "SUBMODEL_DOCUMENT_SEMANTIC_ID.SEMANTIC_ID")) {
+            assertTrue(String.format("missing index for %s", column), indexed.contains(column));
+        }
+    }
+
+
+    private Set<String> getIndexedColumns() {
+        // only the leading column of an index can be used for a lookup by that column alone
+        return query("SELECT TABLE_NAME || '.' || COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS"
+                + " WHERE ORDINAL_POSITION = 1 AND TABLE_SCHEMA = 'PUBLIC' AND INDEX_NAME LIKE 'IDX%'").stream()
+                .collect(Collectors.toSet());
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private List<String> query(String sql) {
+        return entityManager.createNativeQuery(sql, String.class).getResultList();
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.jpa.schema;
+
+import static org.junit.Assert.assertEquals;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+@RunWith(SpringRunner.class)
+@EnableAutoConfiguration
+@ContextConfiguration(classes = SubmodelPositionIntegratorTest.class)
+@DataJpaTest
+@EntityScan(basePackages = {
+        "org.eclipse.digitaltwin.fa3st.registry.jpa.model"
+})
+public class SubmodelPositionIntegratorTest {
+
+    private static final String STATEMENT = SubmodelPositionIntegrator.getBackfillStatement("legacy_join", "aas_id", "submodel_id", "position");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void backfillNumbersRowsWithoutPosition() {
+        entityManager.createNativeQuery("CREATE TABLE legacy_join (aas_id VARCHAR(255), submodel_id VARCHAR(255), position INTEGER DEFAULT 0)")
+                .executeUpdate();
+        insert("AAS1", "SM3", 0);
+        insert("AAS1", "SM1", 0);
+        insert("AAS1", "SM2", 0);
+        insert("AAS2", "SM4", 0);
+        insert("AAS3", "SM6", 0);
+        insert("AAS3", "SM5", 1);
+        assertEquals(3, entityManager.createNativeQuery(STATEMENT).executeUpdate());
+        assertEquals(List.of("AAS1.SM1.0", "AAS1.SM2.1", "AAS1.SM3.2", "AAS2.SM4.0", "AAS3.SM5.1", "AAS3.SM6.0"), getRows());
+        assertEquals(0, entityManager.createNativeQuery(STATEMENT).executeUpdate());
+    }
+
+
+    private void insert(String aasId, String submodelId, int position) {
+        entityManager.createNativeQuery("INSERT INTO legacy_join (aas_id, submodel_id, position) VALUES (?, ?, ?)")
+                .setParameter(1, aasId)
+                .setParameter(2, submodelId)
+                .setParameter(3, position)
+                .executeUpdate();
+    }
+
+
+    private List<String> getRows() {
+        return entityManager.createNativeQuery("SELECT aas_id || '.' || submodel_id || '.' || position FROM legacy_join ORDER BY aas_id, submodel_id", String.class)
+                .getResultList();
+    }
+}
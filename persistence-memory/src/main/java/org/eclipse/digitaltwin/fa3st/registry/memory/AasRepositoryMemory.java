@@ -14,31 +14,86 @@
 package org.eclipse.digitaltwin.fa3st.registry.memory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
 import org.eclipse.digitaltwin.fa3st.registry.core.AbstractAasRepository;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.PagingHelper;
+import org.eclipse.digitaltwin.fa3st.registry.memory.ShellDescriptorIndex.Attribute;
 
 
 /**
  * In-memory implementation of the Repository.
+ *
+ * <p>The repository is thread-safe. Reads are lock-free while writes to the same AAS or standalone submodel are
+ * serialized using striped locks. A registry-wide change version is incremented after each write has become visible.
+ * AASs and standalone submodels are kept sorted by ID so that paged queries seek to the ID encoded in the cursor and
+ * only touch the elements of the requested page. Each AAS is stored as a {@link ShellEntry} that allows accessing,
+ * adding and removing a single submodel without scanning all submodels of the AAS.
+ *
+ * <p>A bitmap index on low-cardinality attributes like assetType and assetKind is maintained on every write so that
+ * filtered queries are evaluated as bitmap operations and only touch the matching descriptors instead of scanning the
+ * whole repository. Additionally, a hash index maps global and specific asset IDs to the IDs of the AASs referencing
+ * them to support discovery lookups and a semantic ID index maps semantic IDs to the submodels (contained in an AAS or
+ * registered standalone) referencing them.
+ *
+ * <p>The content hashes of AASs and submodels are computed once when they are written and stored next to them, so
+ * checking whether an update changes a descriptor does not serialize the stored descriptor.
  */
 public class AasRepositoryMemory extends AbstractAasRepository {
 
-    private final Map<String, AssetAdministrationShellDescriptor> shellDescriptors;
-    private final Map<String, SubmodelDescriptor> submodelDescriptors;
+    private static final int LOCK_STRIPES = 64;
+
+    private final NavigableMap<String, ShellEntry> shellDescriptors;
+    private final NavigableMap<String, SubmodelDescriptor> submodelDescriptors;
+    private final Map<String, Long> submodelStamps;
+    private final Map<String, String> submodelContentHashes;
+    private final ShellDescriptorIndex index;
+    private final InvertedIndex<AssetIdentifier, String> assetIdIndex;
+    private final InvertedIndex<String, SubmodelReference> semanticIdIndex;
+    private final Lock[] locks;
+    private final AtomicLong stamps;
+    private final AtomicLong changeVersion;
 
     public AasRepositoryMemory() {
-        shellDescriptors = new HashMap<>();
-        submodelDescriptors = new HashMap<>();
+        shellDescriptors = new ConcurrentSkipListMap<>();
+        submodelDescriptors = new ConcurrentSkipListMap<>();
+        submodelStamps = new ConcurrentHashMap<>();
+        submodelContentHashes = new ConcurrentHashMap<>();
+        index = new ShellDescriptorIndex();
+        assetIdIndex = new InvertedIndex<>();
+        semanticIdIndex = new InvertedIndex<>();
+        locks = new Lock[LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        // versions start with the current time so that clients do not match versions handed out before a restart
+        long start = System.currentTimeMillis();
+        stamps = new AtomicLong(start);
+        changeVersion = new AtomicLong(start);
     }
 
 
@@ -48,63 +103,168 @@ public class AasRepositoryMemory extends AbstractAasRepository {
     public void clear() {
         shellDescriptors.clear();
         submodelDescriptors.clear();
+        submodelStamps.clear();
+        submodelContentHashes.clear();
+        index.clear();
+        assetIdIndex.clear();
+        semanticIdIndex.clear();
+        changeVersion.incrementAndGet();
     }
 
 
     @Override
     public List<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind) {
-        return new ArrayList<>(
-                shellDescriptors.values().stream().filter(a -> filterAssetType(a, assetType)).filter(b -> filterAssetKind(b, assetKind)).toList());
+        return new ArrayList<>(findAASs(assetType, assetKind, null, Integer.MAX_VALUE)
+                .map(ShellEntry::getDescriptor)
+                .toList());
+    }
+
+
+    @Override
+    public Page<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind, PagingInfo paging) {
+        String lastId = PagingHelper.getLastId(paging);
+        int fetchSize = PagingHelper.getFetchSize(paging);
+        // descriptors are only materialized for the entries of the requested page
+        return PagingHelper.map(PagingHelper.toPage(findAASs(assetType, assetKind, lastId, fetchSize)
+                .limit(fetchSize)
+                .toList(), paging, ShellEntry::getId), ShellEntry::getDescriptor);
+    }
+
+
+    @Override
+    public List<String> getAASIdsByAssetIds(List<SpecificAssetId> assetIds) {
+        ensureAssetIds(assetIds);
+        if (assetIds.isEmpty()) {
+            return shellDescriptors.keySet().stream().sorted().toList();
+        }
+        List<Set<String>> matches = assetIds.stream()
+                .map(x -> assetIdIndex.get(AssetIdentifier.of(x)))
+                .toList();
+        Set<String> result = new HashSet<>(matches.stream().min(Comparator.comparingInt(Set::size)).get());
+        for (var match: matches) {
+            if (result.isEmpty()) {
+                break;
+            }
+            result.retainAll(match);
+        }
+        return result.stream().sorted().toList();
     }
 
 
     @Override
     public AssetAdministrationShellDescriptor getAAS(String id) throws ResourceNotFoundException {
         Ensure.requireNonNull(id, "id must be non-null");
-        AssetAdministrationShellDescriptor aas = fetchAAS(id);
+        ShellEntry aas = fetchAAS(id);
         Ensure.requireNonNull(aas, buildAASNotFoundException(id));
-        return aas;
+        return aas.getDescriptor();
+    }
+
+
+    @Override
+    public String getAASContentHash(String aasId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ShellEntry aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        return aas.getContentHash();
+    }
+
+
+    @Override
+    public long getAASVersion(String aasId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ShellEntry aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        return aas.getStamp();
+    }
+
+
+    @Override
+    public long getChangeVersion() {
+        return changeVersion.get();
     }
 
 
     @Override
     public AssetAdministrationShellDescriptor create(AssetAdministrationShellDescriptor descriptor) throws ResourceAlreadyExistsException {
         ensureDescriptorId(descriptor);
-        AssetAdministrationShellDescriptor aas = fetchAAS(descriptor.getId());
-        Ensure.require(Objects.isNull(aas), buildAASAlreadyExistsException(descriptor.getId()));
-        shellDescriptors.put(descriptor.getId(), descriptor);
-        return descriptor;
+        Lock lock = lockFor(descriptor.getId());
+        lock.lock();
+        try {
+            ShellEntry aas = fetchAAS(descriptor.getId());
+            Ensure.require(Objects.isNull(aas), buildAASAlreadyExistsException(descriptor.getId()));
+            aas = new ShellEntry(descriptor, stamps.incrementAndGet());
+            shellDescriptors.put(aas.getId(), aas);
+            index.add(aas.getShell());
+            addToAssetIdIndex(aas.getShell());
+            addToSemanticIdIndex(aas);
+            changeVersion.incrementAndGet();
+            return aas.getDescriptor();
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
 
     @Override
-    public void deleteAAS(String aasId) throws ResourceNotFoundException {
+    public void deleteAAS(String aasId, Long expectedVersion) throws ResourceNotFoundException {
         ensureAasId(aasId);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
-        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        shellDescriptors.remove(aasId);
+        Lock lock = lockFor(aasId);
+        lock.lock();
+        try {
+            ShellEntry aas = fetchAAS(aasId);
+            Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+            ensureAASVersion(aasId, expectedVersion, aas.getStamp());
+            shellDescriptors.remove(aasId);
+            index.remove(aas.getShell());
+            removeFromAssetIdIndex(aas.getShell());
+            removeFromSemanticIdIndex(aas);
+            changeVersion.incrementAndGet();
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
 
     @Override
-    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor) throws ResourceNotFoundException {
+    public AssetAdministrationShellDescriptor update(String aasId, AssetAdministrationShellDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         ensureAasId(aasId);
         ensureDescriptorId(descriptor);
-        AssetAdministrationShellDescriptor oldAAS = getAAS(aasId);
-        if (Objects.nonNull(oldAAS)) {
-            shellDescriptors.remove(aasId);
+        List<Lock> lockList = locksFor(aasId, descriptor.getId());
+        lockList.forEach(Lock::lock);
+        try {
+            ShellEntry oldAAS = fetchAAS(aasId);
+            Ensure.requireNonNull(oldAAS, buildAASNotFoundException(aasId));
+            ensureAASVersion(aasId, expectedVersion, oldAAS.getStamp());
+            Ensure.require(Objects.equals(aasId, descriptor.getId()) || Objects.isNull(fetchAAS(descriptor.getId())),
+                    buildAASAlreadyExistsException(descriptor.getId()));
+            ShellEntry aas = new ShellEntry(descriptor, stamps.incrementAndGet());
+            if (!Objects.equals(aasId, aas.getId())) {
+                shellDescriptors.remove(aasId);
+            }
+            shellDescriptors.put(aas.getId(), aas);
+            index.replace(oldAAS.getShell(), aas.getShell());
+            removeFromAssetIdIndex(oldAAS.getShell());
+            addToAssetIdIndex(aas.getShell());
+            removeFromSemanticIdIndex(oldAAS);
+            addToSemanticIdIndex(aas);
+            changeVersion.incrementAndGet();
+            return aas.getDescriptor();
+        }
+        finally {
+            lockList.forEach(Lock::unlock);
         }
-        shellDescriptors.put(descriptor.getId(), descriptor);
-        return descriptor;
     }
 
 
     @Override
     public List<SubmodelDescriptor> getSubmodels(String aasId) throws ResourceNotFoundException {
         ensureAasId(aasId);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        ShellEntry aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        return aas.getSubmodelDescriptors();
+        return aas.getSubmodels();
     }
 
 
@@ -114,24 +274,105 @@ public class AasRepositoryMemory extends AbstractAasRepository {
     }
 
 
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(String aasId, PagingInfo paging) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        String lastId = PagingHelper.getLastId(paging);
+        ShellEntry aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        return PagingHelper.toPage(aas.getSubmodelsAfter(lastId)
+                .limit(PagingHelper.getFetchSize(paging))
+                .toList(), paging, SubmodelDescriptor::getId);
+    }
+
+
+    @Override
+    public Page<SubmodelDescriptor> getSubmodels(PagingInfo paging) {
+        String lastId = PagingHelper.getLastId(paging);
+        Map<String, SubmodelDescriptor> submodels = Objects.isNull(lastId)
+                ? submodelDescriptors
+                : submodelDescriptors.tailMap(lastId, false);
+        return PagingHelper.toPage(submodels.values().stream()
+                .limit(PagingHelper.getFetchSize(paging))
+                .toList(), paging, SubmodelDescriptor::getId);
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String aasId, String semanticId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSemanticId(semanticId);
+        ShellEntry aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        return semanticIdIndex.get(semanticId).stream()
+                .filter(x -> Objects.equals(aasId, x.aasId()))
+                .map(x -> aas.getSubmodel(x.submodelId()))
+                .filter(Objects::nonNull)
+                .filter(x -> hasSemanticId(x, semanticId))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+
+    @Override
+    public List<SubmodelDescriptor> getSubmodelsBySemanticId(String semanticId) {
+        ensureSemanticId(semanticId);
+        return semanticIdIndex.get(semanticId).stream()
+                .filter(SubmodelReference::isStandalone)
+                .map(x -> submodelDescriptors.get(x.submodelId()))
+                .filter(Objects::nonNull)
+                .filter(x -> hasSemanticId(x, semanticId))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+
     @Override
     public SubmodelDescriptor getSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
         ensureAasId(aasId);
         ensureSubmodelId(submodelId);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
+        ShellEntry aas = fetchAAS(aasId);
         Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        List<SubmodelDescriptor> submodels = aas.getSubmodelDescriptors();
-        Optional<SubmodelDescriptor> submodel = getSubmodelInternal(submodels, submodelId);
-        Ensure.require(submodel.isPresent(), buildSubmodelNotFoundInAASException(aasId, submodelId));
-        return submodel.get();
+        SubmodelDescriptor submodel = aas.getSubmodel(submodelId);
+        Ensure.requireNonNull(submodel, buildSubmodelNotFoundInAASException(aasId, submodelId));
+        return submodel;
     }
 
 
     @Override
     public SubmodelDescriptor getSubmodel(String submodelId) throws ResourceNotFoundException {
         ensureSubmodelId(submodelId);
-        Ensure.require(submodelDescriptors.containsKey(submodelId), buildSubmodelNotFoundException(submodelId));
-        return submodelDescriptors.get(submodelId);
+        SubmodelDescriptor submodel = submodelDescriptors.get(submodelId);
+        Ensure.requireNonNull(submodel, buildSubmodelNotFoundException(submodelId));
+        return submodel;
+    }
+
+
+    @Override
+    public String getSubmodelContentHash(String aasId, String submodelId) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSubmodelId(submodelId);
+        ShellEntry aas = fetchAAS(aasId);
+        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+        String contentHash = aas.getSubmodelContentHash(submodelId);
+        Ensure.requireNonNull(contentHash, buildSubmodelNotFoundInAASException(aasId, submodelId));
+        return contentHash;
+    }
+
+
+    @Override
+    public String getSubmodelContentHash(String submodelId) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        String contentHash = submodelContentHashes.get(submodelId);
+        Ensure.requireNonNull(contentHash, buildSubmodelNotFoundException(submodelId));
+        return contentHash;
+    }
+
+
+    @Override
+    public long getSubmodelVersion(String submodelId) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        Long stamp = submodelStamps.get(submodelId);
+        Ensure.requireNonNull(stamp, buildSubmodelNotFoundException(submodelId));
+        return stamp;
     }
 
 
@@ -139,59 +380,363 @@ public class AasRepositoryMemory extends AbstractAasRepository {
     public SubmodelDescriptor addSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException, ResourceAlreadyExistsException {
         ensureAasId(aasId);
         ensureDescriptorId(descriptor);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
-        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        if (getSubmodelInternal(aas.getSubmodelDescriptors(), descriptor.getId()).isPresent()) {
-            throw buildSubmodelAlreadyExistsException(descriptor.getId());
+        Lock lock = lockFor(aasId);
+        lock.lock();
+        try {
+            ShellEntry aas = fetchAAS(aasId);
+            Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+            Ensure.require(aas.addSubmodel(descriptor), buildSubmodelAlreadyExistsException(descriptor.getId()));
+            aas.setStamp(stamps.incrementAndGet());
+            addToSemanticIdIndex(new SubmodelReference(aasId, descriptor.getId()), descriptor);
+            changeVersion.incrementAndGet();
+            return descriptor;
+        }
+        finally {
+            lock.unlock();
         }
-        aas.getSubmodelDescriptors().add(descriptor);
-        return descriptor;
     }
 
 
     @Override
     public SubmodelDescriptor addSubmodel(SubmodelDescriptor descriptor) throws ResourceAlreadyExistsException {
         ensureDescriptorId(descriptor);
-        Ensure.require(
-                !submodelDescriptors.containsKey(descriptor.getId()),
-                buildSubmodelAlreadyExistsException(descriptor.getId()));
-        submodelDescriptors.put(descriptor.getId(), descriptor);
-        return descriptor;
+        Lock lock = lockFor(descriptor.getId());
+        lock.lock();
+        try {
+            Ensure.require(!submodelDescriptors.containsKey(descriptor.getId()), buildSubmodelAlreadyExistsException(descriptor.getId()));
+            submodelDescriptors.put(descriptor.getId(), descriptor);
+            submodelContentHashes.put(descriptor.getId(), ContentHashHelper.hash(descriptor));
+            submodelStamps.put(descriptor.getId(), stamps.incrementAndGet());
+            addToSemanticIdIndex(SubmodelReference.standalone(descriptor.getId()), descriptor);
+            changeVersion.incrementAndGet();
+            return descriptor;
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
 
     @Override
-    public void deleteSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+    public SubmodelDescriptor replaceSubmodel(String aasId, String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         ensureAasId(aasId);
         ensureSubmodelId(submodelId);
-        AssetAdministrationShellDescriptor aas = fetchAAS(aasId);
-        Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
-        boolean found = aas.getSubmodelDescriptors().removeIf(x -> Objects.equals(x.getId(), submodelId));
-        Ensure.require(found, buildSubmodelNotFoundException(submodelId));
-        submodelDescriptors.remove(submodelId);
+        ensureDescriptorId(descriptor);
+        Lock lock = lockFor(aasId);
+        lock.lock();
+        try {
+            ShellEntry aas = fetchAAS(aasId);
+            Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+            ensureAASVersion(aasId, expectedVersion, aas.getStamp());
+            SubmodelDescriptor oldSubmodel = aas.getSubmodel(submodelId);
+            Ensure.requireNonNull(oldSubmodel, buildSubmodelNotFoundInAASException(aasId, submodelId));
+            Ensure.require(Objects.equals(submodelId, descriptor.getId()) || Objects.isNull(aas.getSubmodel(descriptor.getId())),
+                    buildSubmodelAlreadyExistsException(descriptor.getId()));
+            replaceInAAS(aas, oldSubmodel, descriptor);
+            return descriptor;
+        }
+        finally {
+            lock.unlock();
+        }
     }
 
 
     @Override
-    public void deleteSubmodel(String submodelId) throws ResourceNotFoundException {
+    public SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor descriptor, Long expectedVersion)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         ensureSubmodelId(submodelId);
-        Ensure.require(submodelDescriptors.containsKey(submodelId), buildSubmodelNotFoundException(submodelId));
-        submodelDescriptors.remove(submodelId);
+        ensureDescriptorId(descriptor);
+        List<Lock> lockList = locksFor(submodelId, descriptor.getId());
+        lockList.forEach(Lock::lock);
+        try {
+            SubmodelDescriptor oldSubmodel = submodelDescriptors.get(submodelId);
+            Ensure.requireNonNull(oldSubmodel, buildSubmodelNotFoundException(submodelId));
+            ensureSubmodelVersion(submodelId, expectedVersion, submodelStamps.get(submodelId));
+            Ensure.require(Objects.equals(submodelId, descriptor.getId()) || !submodelDescriptors.containsKey(descriptor.getId()),
+                    buildSubmodelAlreadyExistsException(descriptor.getId()));
+            replaceStandalone(oldSubmodel, descriptor);
+            return descriptor;
+        }
+        finally {
+            lockList.forEach(Lock::unlock);
+        }
     }
 
 
-    private AssetAdministrationShellDescriptor fetchAAS(String aasId) {
+    @Override
+    public SubmodelDescriptor upsertSubmodel(String aasId, SubmodelDescriptor descriptor) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureDescriptorId(descriptor);
+        Lock lock = lockFor(aasId);
+        lock.lock();
+        try {
+            ShellEntry aas = fetchAAS(aasId);
+            Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+            SubmodelDescriptor oldSubmodel = aas.getSubmodel(descriptor.getId());
+            if (Objects.isNull(oldSubmodel)) {
+                aas.addSubmodel(descriptor);
+                aas.setStamp(stamps.incrementAndGet());
+                addToSemanticIdIndex(new SubmodelReference(aasId, descriptor.getId()), descriptor);
+                changeVersion.incrementAndGet();
+            }
+            else {
+                replaceInAAS(aas, oldSubmodel, descriptor);
+            }
+            return descriptor;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public SubmodelDescriptor upsertSubmodel(SubmodelDescriptor descriptor) {
+        ensureDescriptorId(descriptor);
+        Lock lock = lockFor(descriptor.getId());
+        lock.lock();
+        try {
+            SubmodelDescriptor oldSubmodel = submodelDescriptors.get(descriptor.getId());
+            if (Objects.isNull(oldSubmodel)) {
+                submodelDescriptors.put(descriptor.getId(), descriptor);
+                submodelContentHashes.put(descriptor.getId(), ContentHashHelper.hash(descriptor));
+                submodelStamps.put(descriptor.getId(), stamps.incrementAndGet());
+                addToSemanticIdIndex(SubmodelReference.standalone(descriptor.getId()), descriptor);
+                changeVersion.incrementAndGet();
+            }
+            else {
+                replaceStandalone(oldSubmodel, descriptor);
+            }
+            return descriptor;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void deleteSubmodel(String aasId, String submodelId, Long expectedVersion) throws ResourceNotFoundException {
+        ensureAasId(aasId);
+        ensureSubmodelId(submodelId);
+        Lock lock = lockFor(aasId);
+        lock.lock();
+        try {
+            ShellEntry aas = fetchAAS(aasId);
+            Ensure.requireNonNull(aas, buildAASNotFoundException(aasId));
+            ensureAASVersion(aasId, expectedVersion, aas.getStamp());
+            SubmodelDescriptor submodel = aas.removeSubmodel(submodelId);
+            Ensure.requireNonNull(submodel, buildSubmodelNotFoundException(submodelId));
+            aas.setStamp(stamps.incrementAndGet());
+            removeFromSemanticIdIndex(new SubmodelReference(aasId, submodelId), submodel);
+            changeVersion.incrementAndGet();
+        }
+        finally {
+            lock.unlock();
+        }
+        removeStandaloneSubmodel(submodelId, null);
+    }
+
+
+    @Override
+    public void deleteSubmodel(String submodelId, Long expectedVersion) throws ResourceNotFoundException {
+        ensureSubmodelId(submodelId);
+        Ensure.requireNonNull(removeStandaloneSubmodel(submodelId, expectedVersion), buildSubmodelNotFoundException(submodelId));
+    }
+
+
+    private ShellEntry fetchAAS(String aasId) {
         ensureAasId(aasId);
         return shellDescriptors.getOrDefault(aasId, null);
     }
 
 
+    private SubmodelDescriptor removeStandaloneSubmodel(String submodelId, Long expectedVersion) {
+        Lock lock = lockFor(submodelId);
+        lock.lock();
+        try {
+            Long stamp = submodelStamps.get(submodelId);
+            if (Objects.isNull(stamp)) {
+                return null;
+            }
+            ensureSubmodelVersion(submodelId, expectedVersion, stamp);
+            SubmodelDescriptor submodel = submodelDescriptors.remove(submodelId);
+            submodelStamps.remove(submodelId);
+            submodelContentHashes.remove(submodelId);
+            removeFromSemanticIdIndex(SubmodelReference.standalone(submodelId), submodel);
+            changeVersion.incrementAndGet();
+            return submodel;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Replaces a submodel of an AAS. Must only be called while holding the write lock of the AAS.
+     *
+     * @param aas the AAS
+     * @param oldSubmodel the submodel to replace
+     * @param newSubmodel the new submodel
+     */
+    private void replaceInAAS(ShellEntry aas, SubmodelDescriptor oldSubmodel, SubmodelDescriptor newSubmodel) {
+        SubmodelReference oldReference = new SubmodelReference(aas.getId(), oldSubmodel.getId());
+        SubmodelReference newReference = new SubmodelReference(aas.getId(), newSubmodel.getId());
+        addToSemanticIdIndex(newReference, newSubmodel);
+        aas.replaceSubmodel(oldSubmodel.getId(), newSubmodel);
+        aas.setStamp(stamps.incrementAndGet());
+        removeFromSemanticIdIndex(oldReference, oldSubmodel, newReference, newSubmodel);
+        changeVersion.incrementAndGet();
+    }
+
+
+    /**
+     * Replaces a standalone submodel. Must only be called while holding the write locks of both submodel IDs.
+     *
+     * @param oldSubmodel the submodel to replace
+     * @param newSubmodel the new submodel
+     */
+    private void replaceStandalone(SubmodelDescriptor oldSubmodel, SubmodelDescriptor newSubmodel) {
+        SubmodelReference oldReference = SubmodelReference.standalone(oldSubmodel.getId());
+        SubmodelReference newReference = SubmodelReference.standalone(newSubmodel.getId());
+        addToSemanticIdIndex(newReference, newSubmodel);
+        // the stamp must not be newer than the visible descriptor
+        submodelDescriptors.put(newSubmodel.getId(), newSubmodel);
+        submodelContentHashes.put(newSubmodel.getId(), ContentHashHelper.hash(newSubmodel));
+        submodelStamps.put(newSubmodel.getId(), stamps.incrementAndGet());
+        if (!Objects.equals(oldSubmodel.getId(), newSubmodel.getId())) {
+            submodelDescriptors.remove(oldSubmodel.getId());
+            submodelStamps.remove(oldSubmodel.getId());
+            submodelContentHashes.remove(oldSubmodel.getId());
+        }
+        removeFromSemanticIdIndex(oldReference, oldSubmodel, newReference, newSubmodel);
+        changeVersion.incrementAndGet();
+    }
+
+
+    /**
+     * Finds the AASs matching the given criteria with an ID greater than the given ID, ordered by ID.
+     *
+     * @param assetType the desired asset type, null to match all
+     * @param assetKind the desired asset kind, null to match all
+     * @param lastId the ID after which to start, null to start with the first AAS
+     * @param limit the number of AASs needed by the caller, filtered queries return at most this many AASs
+     * @return the matching AASs
+     */
+    private Stream<ShellEntry> findAASs(String assetType, AssetKind assetKind, String lastId, int limit) {
+        if (Objects.isNull(assetType) && Objects.isNull(assetKind)) {
+            return (Objects.isNull(lastId) ? shellDescriptors : shellDescriptors.tailMap(lastId, false)).values().stream();
+        }
+        Map<Attribute, Collection<?>> criteria = new EnumMap<>(Attribute.class);
+        if (Objects.nonNull(assetType)) {
+            criteria.put(Attribute.ASSET_TYPE, List.of(assetType));
+        }
+        if (Objects.nonNull(assetKind)) {
+            criteria.put(Attribute.ASSET_KIND, List.of(assetKind));
+        }
+        // index and descriptors are updated separately, therefore the filter is re-checked on the (few) matching
+        // descriptors to never return a descriptor that has been modified concurrently
+        return index.find(criteria, lastId, limit).stream()
+                .map(shellDescriptors::get)
+                .filter(Objects::nonNull)
+                .filter(a -> filterAssetType(a.getShell(), assetType))
+                .filter(b -> filterAssetKind(b.getShell(), assetKind));
+    }
+
+
+    private void addToSemanticIdIndex(ShellEntry aas) {
+        aas.getSubmodels().forEach(x -> addToSemanticIdIndex(new SubmodelReference(aas.getId(), x.getId()), x));
+    }
+
+
+    private void removeFromSemanticIdIndex(ShellEntry aas) {
+        aas.getSubmodels().forEach(x -> removeFromSemanticIdIndex(new SubmodelReference(aas.getId(), x.getId()), x));
+    }
+
+
+    private void addToSemanticIdIndex(SubmodelReference reference, SubmodelDescriptor submodel) {
+        getSemanticIdValues(submodel).forEach(x -> semanticIdIndex.add(x, reference));
+    }
+
+
+    private void removeFromSemanticIdIndex(SubmodelReference reference, SubmodelDescriptor submodel) {
+        getSemanticIdValues(submodel).forEach(x -> semanticIdIndex.remove(x, reference));
+    }
+
+
+    /**
+     * Removes the entries of a replaced submodel from the semantic ID index. Entries that are also entries of the new
+     * submodel are kept, i.e., the new submodel must be added to the index beforehand.
+     *
+     * @param oldReference the reference of the replaced submodel
+     * @param oldSubmodel the replaced submodel
+     * @param newReference the reference of the new submodel
+     * @param newSubmodel the new submodel
+     */
+    private void removeFromSemanticIdIndex(SubmodelReference oldReference, SubmodelDescriptor oldSubmodel, SubmodelReference newReference,
+                                           SubmodelDescriptor newSubmodel) {
+        List<String> newValues = Objects.equals(oldReference, newReference)
+                ? getSemanticIdValues(newSubmodel)
+                : List.of();
+        getSemanticIdValues(oldSubmodel).stream()
+                .filter(x -> !newValues.contains(x))
+                .forEach(x -> semanticIdIndex.remove(x, oldReference));
+    }
+
+
+    private void addToAssetIdIndex(AssetAdministrationShellDescriptor aas) {
+        assetIdIndex.add(getAssetIdentifier(aas), aas.getId());
+        if (Objects.nonNull(aas.getSpecificAssetIds())) {
+            aas.getSpecificAssetIds().forEach(x -> assetIdIndex.add(AssetIdentifier.of(x), aas.getId()));
+        }
+    }
+
+
+    private void removeFromAssetIdIndex(AssetAdministrationShellDescriptor aas) {
+        assetIdIndex.remove(getAssetIdentifier(aas), aas.getId());
+        if (Objects.nonNull(aas.getSpecificAssetIds())) {
+            aas.getSpecificAssetIds().forEach(x -> assetIdIndex.remove(AssetIdentifier.of(x), aas.getId()));
+        }
+    }
+
+
+    private static AssetIdentifier getAssetIdentifier(AssetAdministrationShellDescriptor aas) {
+        return Objects.isNull(aas.getGlobalAssetId())
+                ? null
+                : new AssetIdentifier(GLOBAL_ASSET_ID, aas.getGlobalAssetId());
+    }
+
+
+    private Lock lockFor(String id) {
+        return locks[Math.floorMod(id.hashCode(), locks.length)];
+    }
+
+
+    /**
+     * Gets the distinct locks for the given IDs in a global order so that acquiring them in the returned order cannot
+     * deadlock.
+     *
+     * @param ids the IDs
+     * @return the locks to acquire in the given order
+     */
+    private List<Lock> locksFor(String... ids) {
+        return Stream.of(ids)
+                .mapToInt(x -> Math.floorMod(x.hashCode(), locks.length))
+                .distinct()
+                .sorted()
+                .mapToObj(x -> locks[x])
+                .toList();
+    }
+
+
     private static boolean filterAssetType(AssetAdministrationShellDescriptor aas, String assetType) {
         if (assetType == null) {
             return true;
         }
         else {
-            return aas.getAssetType().equals(assetType);
+            return Objects.equals(aas.getAssetType(), assetType);
         }
     }
 
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+
+
+/**
+ * Key of the asset identifier index consisting of name and value of an asset identifier.
+ *
+ * @param name the name of the asset identifier
+ * @param value the value of the asset identifier
+ */
+record AssetIdentifier(String name, String value) {
+
+    /**
+     * Creates the key for the given specific asset ID.
+     *
+     * @param assetId the specific asset ID
+     * @return the key
+     */
+    static AssetIdentifier of(SpecificAssetId assetId) {
+        return new AssetIdentifier(assetId.getName(), assetId.getValue());
+    }
+}
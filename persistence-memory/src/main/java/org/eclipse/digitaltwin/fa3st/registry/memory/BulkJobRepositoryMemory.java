@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.registry.core.BulkJobRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+
+
+/**
+ * In-memory implementation of the bulk job repository. Jobs are lost on restart, so interrupted jobs are never
+ * resumed. Only the most recently finished jobs are kept, older finished jobs are removed.
+ *
+ * <p>Stored jobs are updated in place while holding their monitor, so an update only appends the new failures instead
+ * of copying all failures of the job.
+ */
+public class BulkJobRepositoryMemory implements BulkJobRepository {
+
+    private static final int DEFAULT_MAX_FINISHED_JOBS = 1000;
+
+    private final Map<String, BulkJob> jobs;
+    private final Map<String, String> payloads;
+    private final Queue<String> finishedJobs;
+    private final AtomicInteger finishedJobCount;
+    private final int maxFinishedJobs;
+
+    public BulkJobRepositoryMemory() {
+        this(DEFAULT_MAX_FINISHED_JOBS);
+    }
+
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxFinishedJobs the maximum number of finished jobs to keep
+     */
+    public BulkJobRepositoryMemory(int maxFinishedJobs) {
+        Ensure.require(maxFinishedJobs >= 0, "maxFinishedJobs must be >= 0");
+        this.maxFinishedJobs = maxFinishedJobs;
+        jobs = new ConcurrentHashMap<>();
+        payloads = new ConcurrentHashMap<>();
+        finishedJobs = new ConcurrentLinkedQueue<>();
+        finishedJobCount = new AtomicInteger();
+    }
+
+
+    @Override
+    public void create(BulkJob job, String payload) throws ResourceAlreadyExistsException {
+        Ensure.requireNonNull(job, "job must be non-null");
+        Ensure.requireNonNull(job.getId(), "job id must be non-null");
+        Ensure.requireNonNull(payload, "payload must be non-null");
+        Ensure.require(Objects.isNull(jobs.putIfAbsent(job.getId(), new BulkJob(job))),
+                new ResourceAlreadyExistsException(String.format("Bulk job already exists (id: %s)", job.getId())));
+        payloads.put(job.getId(), payload);
+    }
+
+
+    @Override
+    public void update(BulkJob job) throws ResourceNotFoundException {
+        Ensure.requireNonNull(job, "job must be non-null");
+        BulkJob stored = jobs.get(job.getId());
+        Ensure.requireNonNull(stored, buildJobNotFoundException(job.getId()));
+        boolean finished;
+        synchronized (stored) {
+            finished = !isFinished(stored) && isFinished(job);
+            stored.setType(job.getType());
+            stored.setStatus(job.getStatus());
+            stored.setTotal(job.getTotal());
+            stored.setProcessed(job.getProcessed());
+            stored.setFailed(job.getFailed());
+            stored.setMessage(job.getMessage());
+            stored.setCreatedAt(job.getCreatedAt());
+            stored.setStartedAt(job.getStartedAt());
+            stored.setFinishedAt(job.getFinishedAt());
+            if (job.getFailures().size() > stored.getFailures().size()) {
+                stored.getFailures().addAll(job.getFailures().subList(stored.getFailures().size(), job.getFailures().size()));
+            }
+        }
+        if (finished) {
+            payloads.remove(job.getId());
+            finishedJobs.add(job.getId());
+            evictFinishedJobs();
+        }
+    }
+
+
+    @Override
+    public boolean claim(String id, String owner, long now, long expiredBefore) {
+        Ensure.requireNonNull(id, "id must be non-null");
+        Ensure.requireNonNull(owner, "owner must be non-null");
+        BulkJob stored = jobs.get(id);
+        if (Objects.isNull(stored)) {
+            return false;
+        }
+        synchronized (stored) {
+            if (isFinished(stored)
+                    || (Objects.nonNull(stored.getOwner()) && !Objects.equals(owner, stored.getOwner()) && stored.getHeartbeat() >= expiredBefore)) {
+                return false;
+            }
+            stored.setOwner(owner);
+            stored.setHeartbeat(now);
+            return true;
+        }
+    }
+
+
+    @Override
+    public BulkJob get(String id) throws ResourceNotFoundException {
+        Ensure.requireNonNull(id, "id must be non-null");
+        BulkJob result = jobs.get(id);
+        Ensure.requireNonNull(result, buildJobNotFoundException(id));
+        return copy(result);
+    }
+
+
+    @Override
+    public String getPayload(String id) throws ResourceNotFoundException {
+        Ensure.requireNonNull(id, "id must be non-null");
+        String result = payloads.get(id);
+        Ensure.requireNonNull(result, buildJobNotFoundException(id));
+        return result;
+    }
+
+
+    @Override
+    public List<BulkJob> getUnfinished() {
+        return jobs.values().stream()
+                .map(BulkJobRepositoryMemory::copy)
+                .filter(x -> !isFinished(x))
+                .sorted(Comparator.comparingLong(BulkJob::getCreatedAt))
+                .toList();
+    }
+
+
+    @Override
+    public List<String> getExpired(long expiredBefore) {
+        return jobs.values().stream()
+                .map(BulkJobRepositoryMemory::copy)
+                .filter(x -> !isFinished(x) && (Objects.isNull(x.getOwner()) || x.getHeartbeat() < expiredBefore))
+                .sorted(Comparator.comparingLong(BulkJob::getCreatedAt))
+                .map(BulkJob::getId)
+                .toList();
+    }
+
+
+    /**
+     * Removes all jobs.
+     */
+    public void clear() {
+        jobs.clear();
+        payloads.clear();
+        finishedJobs.clear();
+        finishedJobCount.set(0);
+    }
+
+
+    private void evictFinishedJobs() {
+        // the counter may briefly differ from the size of the queue, which only delays the eviction of a job
+        if (finishedJobCount.incrementAndGet() <= maxFinishedJobs) {
+            return;
+        }
+        String id = finishedJobs.poll();
+        if (Objects.nonNull(id)) {
+            jobs.remove(id);
+            finishedJobCount.decrementAndGet();
+        }
+    }
+
+
+    private static BulkJob copy(BulkJob job) {
+        synchronized (job) {
+            return new BulkJob(job);
+        }
+    }
+
+
+    private static boolean isFinished(BulkJob job) {
+        return Objects.nonNull(job.getStatus()) && job.getStatus().isFinished();
+    }
+
+
+    private static ResourceNotFoundException buildJobNotFoundException(String id) {
+        return new ResourceNotFoundException(String.format("Bulk job not found (id: %s)", id));
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * Thread-safe inverted index mapping a key to all entries referencing this key.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the entries
+ */
+class InvertedIndex<K, V> {
+
+    private final Map<K, Set<V>> index = new ConcurrentHashMap<>();
+
+    /**
+     * Adds an entry to the index. Null keys are ignored.
+     *
+     * @param key the key
+     * @param entry the entry
+     */
+    void add(K key, V entry) {
+        if (Objects.isNull(key)) {
+            return;
+        }
+        index.compute(key, (k, entries) -> {
+            Set<V> result = Objects.isNull(entries) ? ConcurrentHashMap.newKeySet() : entries;
+            result.add(entry);
+            return result;
+        });
+    }
+
+
+    /**
+     * Removes an entry from the index. Null keys are ignored.
+     *
+     * @param key the key
+     * @param entry the entry
+     */
+    void remove(K key, V entry) {
+        if (Objects.isNull(key)) {
+            return;
+        }
+        index.computeIfPresent(key, (k, entries) -> {
+            entries.remove(entry);
+            return entries.isEmpty() ? null : entries;
+        });
+    }
+
+
+    /**
+     * Gets all entries referencing the given key.
+     *
+     * @param key the key
+     * @return a live view of all entries referencing the given key
+     */
+    Set<V> get(K key) {
+        return Collections.unmodifiableSet(index.getOrDefault(key, Collections.emptySet()));
+    }
+
+
+    /**
+     * Removes all entries from the index.
+     */
+    void clear() {
+        index.clear();
+    }
+}
@@ -0,0 +1,348 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+
+
+/**
+ * Bitmap index on low-cardinality attributes of shell descriptors.
+ *
+ * <p>Every indexed descriptor is assigned a dense int surrogate. For each attribute value a bitmap is kept that has the
+ * bits of all descriptors with this value set. Multi-criteria queries are therefore evaluated as bitmap AND (across
+ * attributes) and OR (across values of the same attribute) operations. Surrogates of removed descriptors are re-used
+ * to keep the bitmaps dense.
+ *
+ * <p>The index is split into segments by the hash of the ID, each with its own surrogates, bitmaps and read-write
+ * lock. Writes to descriptors in different segments therefore do not block each other, and queries evaluate the
+ * segments one after another.
+ *
+ * <p>Queries return the matching IDs ordered by ID starting after a given ID, i.e., the ID of the paging cursor. Each
+ * segment keeps its surrogates sorted by ID and contributes at most the requested number of IDs. If many descriptors
+ * match, a segment seeks to the given ID and walks its IDs in order until the page is full, otherwise it only sorts
+ * its few matches. A page therefore never sorts all matching descriptors and its cost does not depend on its position.
+ */
+class ShellDescriptorIndex {
+
+    private static final int DEFAULT_SEGMENTS = 16;
+
+    /**
+     * The attributes covered by the index.
+     */
+    enum Attribute {
+        ASSET_TYPE(aas -> Stream.ofNullable(aas.getAssetType()).toList()),
+        ASSET_KIND(aas -> Stream.ofNullable(aas.getAssetKind()).toList());
+
+        private final Function<AssetAdministrationShellDescriptor, Collection<?>> extractor;
+
+        private Attribute(Function<AssetAdministrationShellDescriptor, Collection<?>> extractor) {
+            this.extractor = extractor;
+        }
+
+
+        private Collection<?> valuesOf(AssetAdministrationShellDescriptor aas) {
+            return extractor.apply(aas);
+        }
+    }
+
+    private final Segment[] segments;
+
+    ShellDescriptorIndex() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+
+    /**
+     * Creates a new index.
+     *
+     * @param segmentCount the number of segments
+     */
+    ShellDescriptorIndex(int segmentCount) {
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+
+    /**
+     * Adds a descriptor to the index.
+     *
+     * @param aas the descriptor to add
+     */
+    void add(AssetAdministrationShellDescriptor aas) {
+        Segment segment = segmentFor(aas);
+        segment.lock.writeLock().lock();
+        try {
+            segment.add(aas);
+        }
+        finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Removes a descriptor from the index.
+     *
+     * @param aas the descriptor to remove, must be the instance (or equal to the instance) that has been added
+     */
+    void remove(AssetAdministrationShellDescriptor aas) {
+        Segment segment = segmentFor(aas);
+        segment.lock.writeLock().lock();
+        try {
+            segment.remove(aas);
+        }
+        finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Atomically replaces a descriptor in the index, i.e., concurrent queries either see the old or the new descriptor.
+     * If the ID changes, queries may see both or none of them.
+     *
+     * @param oldAAS the descriptor to remove
+     * @param newAAS the descriptor to add
+     */
+    void replace(AssetAdministrationShellDescriptor oldAAS, AssetAdministrationShellDescriptor newAAS) {
+        int oldIndex = segmentIndexFor(oldAAS);
+        int newIndex = segmentIndexFor(newAAS);
+        // segments are locked in ascending order so that concurrent replacements cannot deadlock
+        Lock first = segments[Math.min(oldIndex, newIndex)].lock.writeLock();
+        Lock second = segments[Math.max(oldIndex, newIndex)].lock.writeLock();
+        first.lock();
+        second.lock();
+        try {
+            segments[oldIndex].remove(oldAAS);
+            segments[newIndex].add(newAAS);
+        }
+        finally {
+            second.unlock();
+            first.unlock();
+        }
+    }
+
+
+    /**
+     * Finds the IDs of all descriptors matching the given criteria ordered by ID. Criteria of different attributes are
+     * combined using AND, multiple values of the same attribute are combined using OR.
+     *
+     * @param criteria the values to match per attribute
+     * @return the IDs of all matching descriptors
+     */
+    List<String> find(Map<Attribute, ? extends Collection<?>> criteria) {
+        return find(criteria, null, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Finds the IDs of the descriptors matching the given criteria with an ID greater than the given ID ordered by ID.
+     * Criteria of different attributes are combined using AND, multiple values of the same attribute are combined
+     * using OR.
+     *
+     * @param criteria the values to match per attribute
+     * @param lastId the ID after which to start, null to start with the first ID
+     * @param limit the maximum number of IDs to return
+     * @return the IDs of the matching descriptors
+     */
+    List<String> find(Map<Attribute, ? extends Collection<?>> criteria, String lastId, int limit) {
+        List<String> result = new ArrayList<>();
+        for (var segment: segments) {
+            segment.lock.readLock().lock();
+            try {
+                segment.find(criteria, lastId, limit, result);
+            }
+            finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+        // every segment contributes its first IDs in order, so the first IDs of the merged result are the requested ones
+        result.sort(null);
+        return result.size() > limit
+                ? new ArrayList<>(result.subList(0, limit))
+                : result;
+    }
+
+
+    /**
+     * Removes all entries from the index.
+     */
+    void clear() {
+        for (var segment: segments) {
+            segment.lock.writeLock().lock();
+            try {
+                segment.clear();
+            }
+            finally {
+                segment.lock.writeLock().unlock();
+            }
+        }
+    }
+
+
+    private Segment segmentFor(AssetAdministrationShellDescriptor aas) {
+        return segments[segmentIndexFor(aas)];
+    }
+
+
+    private int segmentIndexFor(AssetAdministrationShellDescriptor aas) {
+        return Math.floorMod(Objects.hashCode(aas.getId()), segments.length);
+    }
+
+    /**
+     * A segment of the index. All methods must only be called while holding the lock of the segment.
+     */
+    private static class Segment {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final NavigableMap<String, Integer> surrogates = new TreeMap<>();
+        private final List<String> ids = new ArrayList<>();
+        private final Deque<Integer> freeSurrogates = new ArrayDeque<>();
+        private final Map<Attribute, Map<Object, BitSet>> bitmaps = new EnumMap<>(Attribute.class);
+
+        private Segment() {
+            for (Attribute attribute: Attribute.values()) {
+                bitmaps.put(attribute, new HashMap<>());
+            }
+        }
+
+
+        private void find(Map<Attribute, ? extends Collection<?>> criteria, String lastId, int limit, List<String> matchingIds) {
+            BitSet result = evaluate(criteria);
+            if (Objects.isNull(result) || result.isEmpty()) {
+                return;
+            }
+            // walking the IDs in order visits about limit * size / count IDs until the page is full while collecting
+            // the set bits visits count IDs, so the cheaper one is used
+            long count = result.cardinality();
+            if ((long) limit * surrogates.size() < count * count) {
+                int found = 0;
+                for (var entry: (Objects.isNull(lastId) ? surrogates : surrogates.tailMap(lastId, false)).entrySet()) {
+                    if (found == limit) {
+                        break;
+                    }
+                    if (result.get(entry.getValue())) {
+                        matchingIds.add(entry.getKey());
+                        found++;
+                    }
+                }
+                return;
+            }
+            List<String> matches = new ArrayList<>();
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                String id = ids.get(i);
+                if (Objects.isNull(lastId) || id.compareTo(lastId) > 0) {
+                    matches.add(id);
+                }
+            }
+            matches.sort(null);
+            matchingIds.addAll(matches.size() > limit ? matches.subList(0, limit) : matches);
+        }
+
+
+        private BitSet evaluate(Map<Attribute, ? extends Collection<?>> criteria) {
+            BitSet result = null;
+            for (var criterion: criteria.entrySet()) {
+                BitSet matches = new BitSet();
+                for (var value: criterion.getValue()) {
+                    BitSet bitmap = bitmaps.get(criterion.getKey()).get(value);
+                    if (Objects.nonNull(bitmap)) {
+                        matches.or(bitmap);
+                    }
+                }
+                if (Objects.isNull(result)) {
+                    result = matches;
+                }
+                else {
+                    result.and(matches);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+
+
+        private void clear() {
+            surrogates.clear();
+            ids.clear();
+            freeSurrogates.clear();
+            bitmaps.values().forEach(Map::clear);
+        }
+
+
+        private void add(AssetAdministrationShellDescriptor aas) {
+            if (surrogates.containsKey(aas.getId())) {
+                return;
+            }
+            int surrogate;
+            if (freeSurrogates.isEmpty()) {
+                surrogate = ids.size();
+                ids.add(aas.getId());
+            }
+            else {
+                surrogate = freeSurrogates.pop();
+                ids.set(surrogate, aas.getId());
+            }
+            surrogates.put(aas.getId(), surrogate);
+            for (Attribute attribute: Attribute.values()) {
+                for (var value: attribute.valuesOf(aas)) {
+                    bitmaps.get(attribute).computeIfAbsent(value, x -> new BitSet()).set(surrogate);
+                }
+            }
+        }
+
+
+        private void remove(AssetAdministrationShellDescriptor aas) {
+            Integer surrogate = surrogates.remove(aas.getId());
+            if (Objects.isNull(surrogate)) {
+                return;
+            }
+            for (Attribute attribute: Attribute.values()) {
+                Map<Object, BitSet> attributeBitmaps = bitmaps.get(attribute);
+                for (var value: attribute.valuesOf(aas)) {
+                    BitSet bitmap = attributeBitmaps.get(value);
+                    if (Objects.nonNull(bitmap)) {
+                        bitmap.clear(surrogate);
+                        if (bitmap.isEmpty()) {
+                            attributeBitmaps.remove(value);
+                        }
+                    }
+                }
+            }
+            ids.set(surrogate, null);
+            freeSurrogates.push(surrogate);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
+
+
+/**
+ * Entry of an AAS in the in-memory repository.
+ *
+ * <p>The submodels of the AAS are kept in a map ordered by insertion position together with a map from submodel ID to
+ * position sorted by ID, so accessing, adding or removing a single submodel as well as seeking to a submodel ID for
+ * paging does not require scanning all submodels of the AAS. Writes must be serialized by the caller while reads are
+ * lock-free. The descriptor including all submodels is materialized lazily and cached until the next write. The
+ * content hashes of the AAS and of each submodel are computed once when they are written.
+ */
+class ShellEntry {
+
+    private final AssetAdministrationShellDescriptor shell;
+    private final String shellContentHash;
+    private final NavigableMap<String, Long> positions = new ConcurrentSkipListMap<>();
+    private final NavigableMap<Long, StoredSubmodel> submodels = new ConcurrentSkipListMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private long nextPosition;
+    private volatile long stamp;
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(long version, AssetAdministrationShellDescriptor descriptor) {}
+
+    private record StoredSubmodel(SubmodelDescriptor descriptor, String contentHash) {}
+
+    /**
+     * Creates a new entry for the given AAS including its submodels. Submodels with duplicate IDs are ignored.
+     *
+     * @param aas the AAS
+     * @param stamp the stamp of the entry
+     */
+    ShellEntry(AssetAdministrationShellDescriptor aas, long stamp) {
+        this.shell = copy(aas, Collections.emptyList());
+        this.shellContentHash = ContentHashHelper.hashShell(aas);
+        this.stamp = stamp;
+        if (Objects.nonNull(aas.getSubmodelDescriptors())) {
+            aas.getSubmodelDescriptors().forEach(this::addSubmodel);
+        }
+    }
+
+
+    /**
+     * Gets the ID of the AAS.
+     *
+     * @return the ID of the AAS
+     */
+    String getId() {
+        return shell.getId();
+    }
+
+
+    /**
+     * Gets the stamp of the entry, i.e., the version of the AAS used for optimistic concurrency control.
+     *
+     * @return the stamp
+     */
+    long getStamp() {
+        return stamp;
+    }
+
+
+    /**
+     * Sets the stamp of the entry. Must only be called while holding the write lock of the AAS.
+     *
+     * @param stamp the new stamp
+     */
+    void setStamp(long stamp) {
+        this.stamp = stamp;
+    }
+
+
+    /**
+     * Gets the AAS without its submodels.
+     *
+     * @return the AAS without its submodels
+     */
+    AssetAdministrationShellDescriptor getShell() {
+        return shell;
+    }
+
+
+    /**
+     * Gets the AAS including all submodels. The returned instance must not be modified.
+     *
+     * @return the AAS including all submodels
+     */
+    AssetAdministrationShellDescriptor getDescriptor() {
+        long currentVersion = version.get();
+        Snapshot current = snapshot;
+        if (Objects.nonNull(current) && current.version() == currentVersion) {
+            return current.descriptor();
+        }
+        AssetAdministrationShellDescriptor result = copy(shell, submodels.values().stream()
+                .map(StoredSubmodel::descriptor)
+                .collect(Collectors.toCollection(ArrayList::new)));
+        if (version.get() == currentVersion) {
+            snapshot = new Snapshot(currentVersion, result);
+        }
+        return result;
+    }
+
+
+    /**
+     * Gets the content hash of the AAS including all submodels.
+     *
+     * @return the content hash
+     */
+    String getContentHash() {
+        return ContentHashHelper.combine(shellContentHash, submodels.values().stream()
+                .map(StoredSubmodel::contentHash)
+                .toList());
+    }
+
+
+    /**
+     * Gets all submodels in insertion order. The returned list must not be modified.
+     *
+     * @return all submodels
+     */
+    List<SubmodelDescriptor> getSubmodels() {
+        return getDescriptor().getSubmodelDescriptors();
+    }
+
+
+    /**
+     * Gets the submodel with the given ID.
+     *
+     * @param submodelId the ID of the submodel
+     * @return the submodel, null if the AAS does not contain a submodel with the given ID
+     */
+    SubmodelDescriptor getSubmodel(String submodelId) {
+        StoredSubmodel submodel = getStoredSubmodel(submodelId);
+        return Objects.isNull(submodel) ? null : submodel.descriptor();
+    }
+
+
+    /**
+     * Gets the content hash of the submodel with the given ID.
+     *
+     * @param submodelId the ID of the submodel
+     * @return the content hash, null if the AAS does not contain a submodel with the given ID
+     */
+    String getSubmodelContentHash(String submodelId) {
+        StoredSubmodel submodel = getStoredSubmodel(submodelId);
+        return Objects.isNull(submodel) ? null : submodel.contentHash();
+    }
+
+
+    /**
+     * Gets the submodels with an ID greater than the given ID, ordered by ID.
+     *
+     * @param lastId the ID after which to start, null to start with the first submodel
+     * @return the submodels following the given ID
+     */
+    Stream<SubmodelDescriptor> getSubmodelsAfter(String lastId) {
+        return (Objects.isNull(lastId) ? positions : positions.tailMap(lastId, false)).values().stream()
+                .map(submodels::get)
+                .filter(Objects::nonNull)
+                .map(StoredSubmodel::descriptor);
+    }
+
+
+    /**
+     * Adds a submodel. Must only be called while holding the write lock of the AAS.
+     *
+     * @param submodel the submodel to add
+     * @return true if the submodel has been added, false if the AAS already contains a submodel with the same ID
+     */
+    boolean addSubmodel(SubmodelDescriptor submodel) {
+        if (positions.containsKey(submodel.getId())) {
+            return false;
+        }
+        long position = nextPosition++;
+        submodels.put(position, new StoredSubmodel(submodel, ContentHashHelper.hash(submodel)));
+        positions.put(submodel.getId(), position);
+        version.incrementAndGet();
+        return true;
+    }
+
+
+    /**
+     * Replaces a submodel keeping its position. Must only be called while holding the write lock of the AAS. The new
+     * submodel is visible under its ID before the old ID is removed, so concurrent readers never miss the submodel.
+     *
+     * @param submodelId the ID of the submodel to replace
+     * @param submodel the new submodel, the AAS must not contain another submodel with the same ID
+     * @return the replaced submodel, null if the AAS does not contain a submodel with the given ID
+     */
+    SubmodelDescriptor replaceSubmodel(String submodelId, SubmodelDescriptor submodel) {
+        Long position = positions.get(submodelId);
+        if (Objects.isNull(position)) {
+            return null;
+        }
+        StoredSubmodel result = submodels.put(position, new StoredSubmodel(submodel, ContentHashHelper.hash(submodel)));
+        if (!Objects.equals(submodelId, submodel.getId())) {
+            positions.put(submodel.getId(), position);
+            positions.remove(submodelId);
+        }
+        version.incrementAndGet();
+        return result.descriptor();
+    }
+
+
+    /**
+     * Removes a submodel. Must only be called while holding the write lock of the AAS.
+     *
+     * @param submodelId the ID of the submodel to remove
+     * @return the removed submodel, null if the AAS does not contain a submodel with the given ID
+     */
+    SubmodelDescriptor removeSubmodel(String submodelId) {
+        Long position = positions.remove(submodelId);
+        if (Objects.isNull(position)) {
+            return null;
+        }
+        StoredSubmodel result = submodels.remove(position);
+        version.incrementAndGet();
+        return result.descriptor();
+    }
+
+
+    private StoredSubmodel getStoredSubmodel(String submodelId) {
+        Long position = positions.get(submodelId);
+        return Objects.isNull(position) ? null : submodels.get(position);
+    }
+
+
+    /**
+     * Creates a shallow copy of the given AAS with the given submodels.
+     *
+     * @param aas the AAS to copy
+     * @param submodels the submodels of the copy
+     * @return the copy
+     */
+    private static AssetAdministrationShellDescriptor copy(AssetAdministrationShellDescriptor aas, List<SubmodelDescriptor> submodels) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .administration(aas.getAdministration())
+                .assetKind(aas.getAssetKind())
+                .assetType(aas.getAssetType())
+                .description(aas.getDescription())
+                .displayName(aas.getDisplayName())
+                .endpoints(aas.getEndpoints())
+                .extensions(aas.getExtensions())
+                .globalAssetId(aas.getGlobalAssetId())
+                .id(aas.getId())
+                .idShort(aas.getIdShort())
+                .specificAssetIds(aas.getSpecificAssetIds())
+                .submodelDescriptors(Collections.unmodifiableList(submodels))
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+/**
+ * Entry of the semantic ID index referencing a submodel either contained in an AAS or registered standalone.
+ *
+ * @param aasId the ID of the AAS containing the submodel, null for standalone submodels
+ * @param submodelId the ID of the submodel
+ */
+record SubmodelReference(String aasId, String submodelId) {
+
+    /**
+     * Creates a reference to a standalone submodel.
+     *
+     * @param submodelId the ID of the submodel
+     * @return the reference
+     */
+    static SubmodelReference standalone(String submodelId) {
+        return new SubmodelReference(null, submodelId);
+    }
+
+
+    /**
+     * Checks whether the referenced submodel is a standalone submodel.
+     *
+     * @return true if the referenced submodel is a standalone submodel, false otherwise
+     */
+    boolean isStandalone() {
+        return aasId == null;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class BulkJobRepositoryMemoryTest {
+
+    private static final String PAYLOAD = "[\"http://example.org/Submodel1\",\"http://example.org/Submodel2\",\"http://example.org/Submodel3\"]";
+    private static final int MAX_FINISHED_JOBS = 2;
+
+    private BulkJobRepositoryMemory repository;
+
+    @Before
+    public void setup() {
+        repository = new BulkJobRepositoryMemory(MAX_FINISHED_JOBS);
+    }
+
+
+    @Test
+    public void testFailuresAreAppended() throws Exception {
+        BulkJob job = getJob("job1", 1);
+        repository.create(job, PAYLOAD);
+        job.setStatus(BulkJob.Status.RUNNING);
+        job.setProcessed(2);
+        job.setFailed(1);
+        job.getFailures().add(new BulkItemResult("http://example.org/Submodel1", 404, "Submodel not found"));
+        repository.update(job);
+        job.setProcessed(3);
+        job.setFailed(2);
+        job.getFailures().add(new BulkItemResult("http://example.org/Submodel3", 404, "Submodel not found"));
+        repository.update(job);
+
+        assertEquals(job, repository.get(job.getId()));
+        assertEquals(List.of(job), repository.getUnfinished());
+        // returned jobs are copies
+        repository.get(job.getId()).getFailures().clear();
+        assertEquals(2, repository.get(job.getId()).getFailures().size());
+    }
+
+
+    @Test
+    public void testOnlyMostRecentlyFinishedJobsAreKept() throws Exception {
+        BulkJob pending = getJob("pending", 0);
+        repository.create(pending, PAYLOAD);
+        for (int i = 1; i <= MAX_FINISHED_JOBS + 1; i++) {
+            BulkJob job = getJob("job" + i, i);
+            repository.create(job, PAYLOAD);
+            job.setStatus(BulkJob.Status.COMPLETED);
+            job.setProcessed(3);
+            repository.update(job);
+            // updating a finished job again must not count it twice
+            repository.update(job);
+            assertThrows(ResourceNotFoundException.class, () -> repository.getPayload(job.getId()));
+        }
+        assertThrows(ResourceNotFoundException.class, () -> repository.get("job1"));
+        assertEquals(BulkJob.Status.COMPLETED, repository.get("job2").getStatus());
+        assertEquals(BulkJob.Status.COMPLETED, repository.get("job3").getStatus());
+        assertEquals(List.of(pending), repository.getUnfinished());
+    }
+
+
+    @Test
+    public void testClaim() throws Exception {
+        BulkJob job = getJob("job1", 1);
+        job.setOwner("instance1");
+        job.setHeartbeat(10);
+        repository.create(job, PAYLOAD);
+
+        assertEquals(List.of(), repository.getExpired(10));
+        assertFalse(repository.claim(job.getId(), "instance2", 20, 10));
+        assertTrue(repository.claim(job.getId(), "instance1", 20, 10));
+        assertEquals(List.of(job.getId()), repository.getExpired(21));
+        assertTrue(repository.claim(job.getId(), "instance2", 30, 21));
+        assertEquals("instance2", repository.get(job.getId()).getOwner());
+
+        job.setStatus(BulkJob.Status.COMPLETED);
+        repository.update(job);
+        assertEquals("instance2", repository.get(job.getId()).getOwner());
+        assertFalse(repository.claim(job.getId(), "instance2", 40, 0));
+        assertFalse(repository.claim("unknown", "instance2", 40, 0));
+    }
+
+
+    private static BulkJob getJob(String id, long createdAt) {
+        BulkJob result = new BulkJob();
+        result.setId(id);
+        result.setType(BatchOperation.Type.DELETE_SUBMODEL);
+        result.setStatus(BulkJob.Status.PENDING);
+        result.setTotal(3);
+        result.setCreatedAt(createdAt);
+        return result;
+    }
+}
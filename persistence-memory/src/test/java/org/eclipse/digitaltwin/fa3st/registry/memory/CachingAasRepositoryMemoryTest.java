@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.AbstractAasRepositoryTest;
+import org.eclipse.digitaltwin.fa3st.registry.core.CachingAasRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class CachingAasRepositoryMemoryTest extends AbstractAasRepositoryTest<CachingAasRepository> {
+
+    private static final long EXPIRE_AFTER_WRITE_SECONDS = 60;
+
+    private CountingAasRepositoryMemory backend;
+    private AtomicLong time;
+
+    @Before
+    public void setup() throws Exception {
+        backend = new CountingAasRepositoryMemory();
+        time = new AtomicLong();
+        repository = new CachingAasRepository(backend, 100, EXPIRE_AFTER_WRITE_SECONDS, time::get);
+    }
+
+
+    @Override
+    public void clearDatastore() {
+        backend.clear();
+        repository.invalidateAll();
+    }
+
+
+    @Test
+    public void readsAreCached() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        repository.addSubmodel(getSubmodel());
+        repository.getAAS(aas.getId());
+        repository.getAAS(aas.getId());
+        repository.getSubmodel(aas.getId(), "TestSubmodel1");
+        Assert.assertEquals(1, backend.aasLoads.get());
+        repository.getSubmodel(getSubmodel().getId());
+        repository.getSubmodel(getSubmodel().getId());
+        Assert.assertEquals(1, backend.submodelLoads.get());
+        repository.getAASs(null, null);
+        repository.getAASs(null, null);
+        Assert.assertEquals(1, backend.listLoads.get());
+    }
+
+
+    @Test
+    public void unknownIdsAreNotLoaded() throws Exception {
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAAS("UnknownAAS"));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAAS("UnknownAAS"));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodel("UnknownSubmodel"));
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodel("UnknownSubmodel"));
+        Assert.assertEquals(0, backend.aasLoads.get());
+        Assert.assertEquals(0, backend.submodelLoads.get());
+        Assert.assertEquals(1, backend.aasVersionLoads.get());
+        Assert.assertEquals(1, backend.submodelVersionLoads.get());
+
+        // IDs that were not found before are found as soon as they exist, also if written by another instance
+        backend.create(getAASWithSubmodel());
+        backend.addSubmodel(getSubmodel());
+        Assert.assertEquals("TestAAS1", repository.getAAS("TestAAS1").getId());
+        Assert.assertEquals("TestSubmodel2", repository.getSubmodel("TestSubmodel2").getId());
+
+        // any write changes the change version and thereby invalidates cached unknown IDs
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAAS("UnknownAAS"));
+        backend.deleteSubmodel("TestSubmodel2");
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAAS("UnknownAAS"));
+        Assert.assertEquals(4, backend.aasVersionLoads.get());
+    }
+
+
+    @Test
+    public void writesInvalidateAAS() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        repository.getAAS(aas.getId());
+
+        aas.setIdShort("NewIdShort");
+        repository.update(aas.getId(), aas);
+        Assert.assertEquals("NewIdShort", repository.getAAS(aas.getId()).getIdShort());
+
+        repository.addSubmodel(aas.getId(), getSubmodel());
+        Assert.assertEquals(2, repository.getAAS(aas.getId()).getSubmodelDescriptors().size());
+
+        SubmodelDescriptor submodel = getSubmodel();
+        submodel.setIdShort("NewIdShort");
+        repository.replaceSubmodel(aas.getId(), submodel.getId(), submodel);
+        Assert.assertEquals("NewIdShort", repository.getSubmodel(aas.getId(), submodel.getId()).getIdShort());
+
+        submodel.setIdShort("OtherIdShort");
+        repository.upsertSubmodel(aas.getId(), submodel);
+        Assert.assertEquals("OtherIdShort", repository.getSubmodel(aas.getId(), submodel.getId()).getIdShort());
+
+        repository.deleteSubmodel(aas.getId(), submodel.getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodel(aas.getId(), submodel.getId()));
+
+        repository.deleteAAS(aas.getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAAS(aas.getId()));
+
+        repository.executeBatch(List.of(BatchOperation.createAAS(getAASWithSubmodel())));
+        Assert.assertEquals("Test1", repository.getAAS(aas.getId()).getIdShort());
+        Assert.assertEquals(7, backend.aasLoads.get());
+    }
+
+
+    @Test
+    public void writesInvalidateSubmodel() throws Exception {
+        SubmodelDescriptor submodel = getSubmodel();
+        repository.addSubmodel(submodel);
+        repository.getSubmodel(submodel.getId());
+
+        submodel.setIdShort("NewIdShort");
+        repository.replaceSubmodel(submodel.getId(), submodel);
+        Assert.assertEquals("NewIdShort", repository.getSubmodel(submodel.getId()).getIdShort());
+
+        submodel.setIdShort("OtherIdShort");
+        repository.upsertSubmodel(submodel);
+        Assert.assertEquals("OtherIdShort", repository.getSubmodel(submodel.getId()).getIdShort());
+
+        repository.deleteSubmodel(submodel.getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getSubmodel(submodel.getId()));
+
+        repository.executeBatch(List.of(BatchOperation.createSubmodel(getSubmodel())));
+        Assert.assertEquals("Submodel2", repository.getSubmodel(submodel.getId()).getIdShort());
+        Assert.assertEquals(4, backend.submodelLoads.get());
+    }
+
+
+    @Test
+    public void writesToBackendAreDetected() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        backend.create(aas);
+        repository.getAAS(aas.getId());
+        repository.getAASs(null, null);
+        aas.setIdShort("NewIdShort");
+        backend.update(aas.getId(), aas);
+        Assert.assertEquals("NewIdShort", repository.getAAS(aas.getId()).getIdShort());
+        Assert.assertEquals("NewIdShort", repository.getAASs(null, null).get(0).getIdShort());
+        backend.deleteAAS(aas.getId());
+        Assert.assertThrows(ResourceNotFoundException.class, () -> repository.getAAS(aas.getId()));
+        Assert.assertEquals(List.of(), repository.getAASs(null, null));
+    }
+
+
+    @Test
+    public void entriesExpire() throws Exception {
+        AssetAdministrationShellDescriptor aas = getAASWithSubmodel();
+        repository.create(aas);
+        repository.getAAS(aas.getId());
+        time.addAndGet(TimeUnit.SECONDS.toNanos(EXPIRE_AFTER_WRITE_SECONDS - 1));
+        repository.getAAS(aas.getId());
+        Assert.assertEquals(1, backend.aasLoads.get());
+        time.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        repository.getAAS(aas.getId());
+        Assert.assertEquals(2, backend.aasLoads.get());
+    }
+
+    private static class CountingAasRepositoryMemory extends AasRepositoryMemory {
+
+        private final AtomicInteger aasLoads = new AtomicInteger();
+        private final AtomicInteger submodelLoads = new AtomicInteger();
+        private final AtomicInteger listLoads = new AtomicInteger();
+        private final AtomicInteger aasVersionLoads = new AtomicInteger();
+        private final AtomicInteger submodelVersionLoads = new AtomicInteger();
+
+        @Override
+        public List<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind) {
+            listLoads.incrementAndGet();
+            return super.getAASs(assetType, assetKind);
+        }
+
+
+        @Override
+        public AssetAdministrationShellDescriptor getAAS(String id) throws ResourceNotFoundException {
+            aasLoads.incrementAndGet();
+            return super.getAAS(id);
+        }
+
+
+        @Override
+        public SubmodelDescriptor getSubmodel(String submodelId) throws ResourceNotFoundException {
+            submodelLoads.incrementAndGet();
+            return super.getSubmodel(submodelId);
+        }
+
+
+        @Override
+        public long getAASVersion(String aasId) throws ResourceNotFoundException {
+            aasVersionLoads.incrementAndGet();
+            return super.getAASVersion(aasId);
+        }
+
+
+        @Override
+        public long getSubmodelVersion(String submodelId) throws ResourceNotFoundException {
+            submodelVersionLoads.incrementAndGet();
+            return super.getSubmodelVersion(submodelId);
+        }
+    }
+}
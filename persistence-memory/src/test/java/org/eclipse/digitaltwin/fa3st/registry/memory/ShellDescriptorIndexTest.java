@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.memory.ShellDescriptorIndex.Attribute;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class ShellDescriptorIndexTest {
+
+    private ShellDescriptorIndex index;
+
+    @Before
+    public void setup() {
+        index = new ShellDescriptorIndex(1);
+    }
+
+
+    @Test
+    public void findWithAndAcrossAttributesAndOrWithinAttribute() {
+        index.add(getAAS("AAS1", "TypeA", AssetKind.INSTANCE));
+        index.add(getAAS("AAS2", "TypeB", AssetKind.INSTANCE));
+        index.add(getAAS("AAS3", "TypeA", AssetKind.TYPE));
+
+        Assert.assertEquals(List.of("AAS1", "AAS3"), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA"))));
+        Assert.assertEquals(List.of("AAS1", "AAS2"), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA", "TypeB"),
+                Attribute.ASSET_KIND, List.of(AssetKind.INSTANCE))));
+        Assert.assertEquals(List.of("AAS3"), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA"),
+                Attribute.ASSET_KIND, List.of(AssetKind.TYPE))));
+        Assert.assertEquals(List.of(), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeC"))));
+    }
+
+
+    @Test
+    public void replaceAndRemoveUpdateBitmaps() {
+        AssetAdministrationShellDescriptor aas1 = getAAS("AAS1", "TypeA", AssetKind.INSTANCE);
+        AssetAdministrationShellDescriptor aas2 = getAAS("AAS2", "TypeA", AssetKind.INSTANCE);
+        index.add(aas1);
+        index.add(aas2);
+
+        AssetAdministrationShellDescriptor updated = getAAS("AAS1", "TypeB", AssetKind.INSTANCE);
+        index.replace(aas1, updated);
+        Assert.assertEquals(List.of("AAS2"), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA"))));
+        Assert.assertEquals(List.of("AAS1"), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeB"))));
+
+        index.remove(aas2);
+        Assert.assertEquals(List.of(), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA"))));
+        Assert.assertEquals(List.of("AAS1"), index.find(Map.of(Attribute.ASSET_KIND, List.of(AssetKind.INSTANCE))));
+    }
+
+
+    @Test
+    public void surrogatesAreReused() {
+        AssetAdministrationShellDescriptor aas1 = getAAS("AAS1", "TypeA", AssetKind.INSTANCE);
+        index.add(aas1);
+        index.add(getAAS("AAS2", "TypeA", AssetKind.INSTANCE));
+        index.remove(aas1);
+        index.add(getAAS("AAS3", "TypeA", AssetKind.INSTANCE));
+
+        // AAS3 re-uses the surrogate freed by AAS1 but IDs are still returned ordered by ID
+        Assert.assertEquals(List.of("AAS2", "AAS3"), index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA"))));
+    }
+
+
+    @Test
+    public void findPagesInIdOrder() {
+        index = new ShellDescriptorIndex(16);
+        for (int i = 0; i < 1000; i++) {
+            index.add(getAAS(String.format("AAS%04d", i), i % 100 == 0 ? "Rare" : "Common", AssetKind.INSTANCE));
+        }
+        for (var assetType: List.of("Rare", "Common")) {
+            List<String> expected = index.find(Map.of(Attribute.ASSET_TYPE, List.of(assetType)));
+            Assert.assertEquals(expected.stream().sorted().toList(), expected);
+            List<String> actual = new ArrayList<>();
+            List<String> page = index.find(Map.of(Attribute.ASSET_TYPE, List.of(assetType)), null, 7);
+            while (!page.isEmpty()) {
+                Assert.assertTrue(page.size() <= 7);
+                actual.addAll(page);
+                page = index.find(Map.of(Attribute.ASSET_TYPE, List.of(assetType)), page.get(page.size() - 1), 7);
+            }
+            Assert.assertEquals(expected, actual);
+        }
+    }
+
+
+    @Test
+    public void replaceAcrossSegments() {
+        index = new ShellDescriptorIndex(16);
+        List<AssetAdministrationShellDescriptor> aass = IntStream.range(0, 100)
+                .mapToObj(i -> getAAS("AAS" + i, i % 2 == 0 ? "TypeA" : "TypeB", AssetKind.INSTANCE))
+                .toList();
+        aass.forEach(index::add);
+        Assert.assertEquals(50, index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA"))).size());
+
+        AssetAdministrationShellDescriptor renamed = getAAS("Renamed", "TypeA", AssetKind.TYPE);
+        index.replace(aass.get(1), renamed);
+        Assert.assertEquals(List.of("Renamed"), index.find(Map.of(Attribute.ASSET_KIND, List.of(AssetKind.TYPE))));
+        Assert.assertEquals(49, index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeB"))).size());
+        Assert.assertEquals(51, index.find(Map.of(Attribute.ASSET_TYPE, List.of("TypeA"))).size());
+
+        index.clear();
+        Assert.assertEquals(List.of(), index.find(Map.of(Attribute.ASSET_KIND, List.of(AssetKind.INSTANCE, AssetKind.TYPE))));
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAAS(String id, String assetType, AssetKind assetKind) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .id(id)
+                .assetType(assetType)
+                .assetKind(assetKind)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.memory;
+
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.junit.Assert;
+import org.junit.Test;
+
+
+public class ShellEntryTest {
+
+    @Test
+    public void submodelsKeepInsertionOrder() {
+        ShellEntry entry = new ShellEntry(getAAS("AAS1", "SM1", "SM2", "SM1"), 1);
+        Assert.assertEquals(List.of("SM1", "SM2"), getSubmodelIds(entry));
+
+        Assert.assertTrue(entry.addSubmodel(getSubmodel("SM0")));
+        Assert.assertFalse(entry.addSubmodel(getSubmodel("SM2")));
+        Assert.assertEquals(List.of("SM1", "SM2", "SM0"), getSubmodelIds(entry));
+
+        Assert.assertEquals("SM1", entry.removeSubmodel("SM1").getId());
+        Assert.assertNull(entry.removeSubmodel("SM1"));
+        Assert.assertTrue(entry.addSubmodel(getSubmodel("SM1")));
+        Assert.assertEquals(List.of("SM2", "SM0", "SM1"), getSubmodelIds(entry));
+    }
+
+
+    @Test
+    public void getSubmodelById() {
+        ShellEntry entry = new ShellEntry(getAAS("AAS1", "SM1", "SM2"), 1);
+        Assert.assertEquals("SM2", entry.getSubmodel("SM2").getId());
+        Assert.assertNull(entry.getSubmodel("SM3"));
+        Assert.assertTrue(entry.getShell().getSubmodelDescriptors().isEmpty());
+    }
+
+
+    @Test
+    public void getSubmodelsAfterIsOrderedById() {
+        ShellEntry entry = new ShellEntry(getAAS("AAS1", "SM3", "SM1", "SM2"), 1);
+        Assert.assertEquals(List.of("SM1", "SM2", "SM3"), entry.getSubmodelsAfter(null).map(SubmodelDescriptor::getId).toList());
+        Assert.assertEquals(List.of("SM3"), entry.getSubmodelsAfter("SM2").map(SubmodelDescriptor::getId).toList());
+        Assert.assertEquals(List.of("SM2", "SM3"), entry.getSubmodelsAfter("SM10").map(SubmodelDescriptor::getId).toList());
+    }
+
+
+    @Test
+    public void descriptorIsCachedUntilNextWrite() {
+        ShellEntry entry = new ShellEntry(getAAS("AAS1", "SM1"), 1);
+        AssetAdministrationShellDescriptor descriptor = entry.getDescriptor();
+        Assert.assertSame(descriptor, entry.getDescriptor());
+
+        entry.addSubmodel(getSubmodel("SM2"));
+        Assert.assertNotSame(descriptor, entry.getDescriptor());
+        Assert.assertEquals(1, descriptor.getSubmodelDescriptors().size());
+        Assert.assertEquals(2, entry.getDescriptor().getSubmodelDescriptors().size());
+    }
+
+
+    private static List<String> getSubmodelIds(ShellEntry entry) {
+        return entry.getSubmodels().stream()
+                .map(SubmodelDescriptor::getId)
+                .toList();
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAAS(String id, String... submodelIds) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .id(id)
+                .submodelDescriptors(Arrays.stream(submodelIds)
+                        .map(ShellEntryTest::getSubmodel)
+                        .toList())
+                .build();
+    }
+
+
+    private static SubmodelDescriptor getSubmodel(String id) {
+        return new DefaultSubmodelDescriptor.Builder()
+                .id(id)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+
+/**
+ * REST controller for creating, updating and deleting many descriptors with a single request. Each item is processed
+ * on its own, i.e., failed items do not affect the other items, and the result of each item is reported in the
+ * response in the order of the request. IDs are passed as plain strings, i.e., not Base64URL encoded. Large amounts of
+ * descriptors can be imported from newline-delimited JSON without buffering the request, see {@link BulkImportService}.
+ */
+@RestController
+@RequestMapping("/api/v3.0/bulk")
+public class BulkController {
+
+    @Autowired
+    RegistryService service;
+
+    @Autowired
+    BulkImportService importService;
+
+    /**
+     * Creates the given Asset Administration Shells.
+     *
+     * @param aass The Asset Administration Shells to create.
+     * @return The results of the Asset Administration Shells.
+     */
+    @PostMapping(value = "/shell-descriptors")
+    public List<BulkItemResult> createAASs(@RequestBody List<AssetAdministrationShellDescriptor> aass) {
+        return execute(aass, BatchOperation::createAAS);
+    }
+
+
+    /**
+     * Updates the given Asset Administration Shells, identified by their IDs.
+     *
+     * @param aass The new Asset Administration Shells.
+     * @return The results of the Asset Administration Shells.
+     */
+    @PutMapping(value = "/shell-descriptors")
+    public List<BulkItemResult> updateAASs(@RequestBody List<AssetAdministrationShellDescriptor> aass) {
+        return execute(aass, BatchOperation::updateAAS);
+    }
+
+
+    /**
+     * Deletes the Asset Administration Shells with the given IDs.
+     *
+     * @param aasIds The IDs of the Asset Administration Shells to delete.
+     * @return The results of the Asset Administration Shells.
+     */
+    @DeleteMapping(value = "/shell-descriptors")
+    public List<BulkItemResult> deleteAASs(@RequestBody List<String> aasIds) {
+        return execute(aasIds, BatchOperation::deleteAAS);
+    }
+
+
+    /**
+     * Creates the given Submodels.
+     *
+     * @param submodels The Submodels to create.
+     * @return The results of the Submodels.
+     */
+    @PostMapping(value = "/submodel-descriptors")
+    public List<BulkItemResult> createSubmodels(@RequestBody List<SubmodelDescriptor> submodels) {
+        return execute(submodels, BatchOperation::createSubmodel);
+    }
+
+
+    /**
+     * Updates the given Submodels, identified by their IDs.
+     *
+     * @param submodels The new Submodels.
+     * @return The results of the Submodels.
+     */
+    @PutMapping(value = "/submodel-descriptors")
+    public List<BulkItemResult> updateSubmodels(@RequestBody List<SubmodelDescriptor> submodels) {
+        return execute(submodels, BatchOperation::updateSubmodel);
+    }
+
+
+    /**
+     * Deletes the Submodels with the given IDs.
+     *
+     * @param submodelIds The IDs of the Submodels to delete.
+     * @return The results of the Submodels.
+     */
+    @DeleteMapping(value = "/submodel-descriptors")
+    public List<BulkItemResult> deleteSubmodels(@RequestBody List<String> submodelIds) {
+        return execute(submodelIds, BatchOperation::deleteSubmodel);
+    }
+
+
+    /**
+     * Creates the Asset Administration Shells read from newline-delimited JSON.
+     *
+     * @param input The request body with one Asset Administration Shell per line.
+     * @return The summary of the import.
+     * @throws IOException When reading the request body fails.
+     */
+    @PostMapping(value = "/import/shell-descriptors", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportResult importAASs(InputStream input) throws IOException {
+        return importService.importAASs(input, false);
+    }
+
+
+    /**
+     * Updates the Asset Administration Shells read from newline-delimited JSON, identified by their IDs.
+     *
+     * @param input The request body with one Asset Administration Shell per line.
+     * @return The summary of the import.
+     * @throws IOException When reading the request body fails.
+     */
+    @PutMapping(value = "/import/shell-descriptors", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportResult importUpdatedAASs(InputStream input) throws IOException {
+        return importService.importAASs(input, true);
+    }
+
+
+    /**
+     * Creates the Submodels read from newline-delimited JSON.
+     *
+     * @param input The request body with one Submodel per line.
+     * @return The summary of the import.
+     * @throws IOException When reading the request body fails.
+     */
+    @PostMapping(value = "/import/submodel-descriptors", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportResult importSubmodels(InputStream input) throws IOException {
+        return importService.importSubmodels(input, false);
+    }
+
+
+    /**
+     * Updates the Submodels read from newline-delimited JSON, identified by their IDs.
+     *
+     * @param input The request body with one Submodel per line.
+     * @return The summary of the import.
+     * @throws IOException When reading the request body fails.
+     */
+    @PutMapping(value = "/import/submodel-descriptors", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportResult importUpdatedSubmodels(InputStream input) throws IOException {
+        return importService.importSubmodels(input, true);
+    }
+
+
+    private <T> List<BulkItemResult> execute(List<T> items, Function<T, BatchOperation> operation) {
+        if (Objects.isNull(items) || items.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("bulk request must be an array without null elements");
+        }
+        return service.executeBulk(items.stream()
+                .map(operation)
+                .toList());
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
+
+
+/**
+ * Summary of an import. In contrast to the synchronous bulk requests, an import does not report a result per item
+ * because the number of items is not bounded. Instead, it reports the number of processed and failed items as well as
+ * the results of the first failed items.
+ */
+public class BulkImportResult {
+
+    private long processed;
+    private long failed;
+    private final List<BulkItemResult> failures;
+    private String message;
+
+    public BulkImportResult() {
+        this.failures = new ArrayList<>();
+    }
+
+
+    /**
+     * Gets the number of items that have been read, either successfully or not.
+     *
+     * @return the number of processed items
+     */
+    public long getProcessed() {
+        return processed;
+    }
+
+
+    /**
+     * Gets the number of items that failed.
+     *
+     * @return the number of failed items
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+
+    /**
+     * Gets the results of the first failed items, limited to {@code bulk.import.maxFailures} results. The message of
+     * each result starts with the line of the item.
+     *
+     * @return the results of the first failed items
+     */
+    public List<BulkItemResult> getFailures() {
+        return failures;
+    }
+
+
+    /**
+     * Gets the reason why the import stopped before the end of the input.
+     *
+     * @return the reason, null if the complete input has been read
+     */
+    public String getMessage() {
+        return message;
+    }
+
+
+    void addProcessed(long count) {
+        processed += count;
+    }
+
+
+    void addFailure(BulkItemResult failure, int maxFailures) {
+        failed++;
+        if (failures.size() < maxFailures) {
+            failures.add(failure);
+        }
+    }
+
+
+    void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.registry.core.AasRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
+import org.eclipse.digitaltwin.fa3st.registry.starter.helper.ConstraintHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * Service importing descriptors from newline-delimited JSON (NDJSON), i.e., one descriptor per line.
+ *
+ * <p>The input is read with a streaming parser one descriptor at a time. Descriptors are collected until
+ * {@code bulk.batchSize} descriptors have been read, then the batch is validated using {@link ConstraintHelper} and
+ * written through {@link AasRepository#executeBatch(List)} before the next descriptor is read. The heap usage therefore
+ * depends on the batch size but not on the size of the input, and a client sending faster than the registry writes is
+ * slowed down by the flow control of the connection. Each written batch is committed on its own, so a failed import
+ * keeps the batches written before.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkImportService.class);
+
+    private final RegistryService registryService;
+    private final ObjectMapper mapper;
+    private final int batchSize;
+    private final int maxFailures;
+
+    public BulkImportService(RegistryService registryService,
+            ObjectMapper mapper,
+            @Value("${bulk.batchSize:100}") int batchSize,
+            @Value("${bulk.import.maxFailures:1000}") int maxFailures) {
+        Ensure.require(batchSize > 0, "bulk.batchSize must be > 0");
+        Ensure.require(maxFailures >= 0, "bulk.import.maxFailures must be >= 0");
+        this.registryService = registryService;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+        this.maxFailures = maxFailures;
+    }
+
+
+    /**
+     * Imports Asset Administration Shells.
+     *
+     * @param input The NDJSON input with one Asset Administration Shell per line.
+     * @param update True if existing Asset Administration Shells are updated, false if new ones are created.
+     * @return The summary of the import.
+     * @throws IOException When reading the input fails.
+     */
+    public BulkImportResult importAASs(InputStream input, boolean update) throws IOException {
+        return importDescriptors(input, AssetAdministrationShellDescriptor.class, update
+                ? BatchOperation::updateAAS
+                : BatchOperation::createAAS);
+    }
+
+
+    /**
+     * Imports standalone Submodels.
+     *
+     * @param input The NDJSON input with one Submodel per line.
+     * @param update True if existing Submodels are updated, false if new ones are created.
+     * @return The summary of the import.
+     * @throws IOException When reading the input fails.
+     */
+    public BulkImportResult importSubmodels(InputStream input, boolean update) throws IOException {
+        return importDescriptors(input, SubmodelDescriptor.class, update
+                ? BatchOperation::updateSubmodel
+                : BatchOperation::createSubmodel);
+    }
+
+
+    private <T> BulkImportResult importDescriptors(InputStream input, Class<T> type, Function<T, BatchOperation> operation) throws IOException {
+        Ensure.requireNonNull(input, "input must be non-null");
+        BulkImportResult result = new BulkImportResult();
+        List<BatchOperation> batch = new ArrayList<>(batchSize);
+        List<Integer> lines = new ArrayList<>(batchSize);
+        try (MappingIterator<T> iterator = mapper.readerFor(type).readValues(input)) {
+            while (iterator.hasNextValue()) {
+                int line = iterator.getCurrentLocation().getLineNr();
+                try {
+                    T descriptor = iterator.nextValue();
+                    if (Objects.isNull(descriptor)) {
+                        addFailure(result, line, null, "descriptor must be non-null");
+                        result.addProcessed(1);
+                        continue;
+                    }
+                    batch.add(operation.apply(descriptor));
+                    lines.add(line);
+                }
+                catch (DatabindException e) {
+                    addFailure(result, line, null, e.getOriginalMessage());
+                    result.addProcessed(1);
+                }
+                if (batch.size() >= batchSize) {
+                    execute(batch, lines, result);
+                }
+            }
+        }
+        catch (StreamReadException e) {
+            // the position of the next descriptor is unknown after a syntax error, so the rest of the input is skipped
+            int line = Objects.nonNull(e.getLocation()) ? e.getLocation().getLineNr() : -1;
+            LOGGER.debug("import aborted because of malformed JSON (line: {})", line, e);
+            result.setMessage(String.format("import aborted because of malformed JSON (line: %d): %s", line, e.getOriginalMessage()));
+        }
+        execute(batch, lines, result);
+        return result;
+    }
+
+
+    private void execute(List<BatchOperation> batch, List<Integer> lines, BulkImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BulkItemResult> executed = registryService.executeBulk(batch);
+        for (int i = 0; i < executed.size(); i++) {
+            BulkItemResult item = executed.get(i);
+            if (item.getStatus() >= HttpStatus.BAD_REQUEST.value()) {
+                addFailure(result, lines.get(i), item, item.getMessage());
+            }
+        }
+        result.addProcessed(batch.size());
+        batch.clear();
+        lines.clear();
+    }
+
+
+    private void addFailure(BulkImportResult result, int line, BulkItemResult item, String message) {
+        result.addFailure(new BulkItemResult(
+                Objects.nonNull(item) ? item.getId() : null,
+                Objects.nonNull(item) ? item.getStatus() : HttpStatus.BAD_REQUEST.value(),
+                String.format("line %d: %s", line, message)),
+                maxFailures);
+    }
+}
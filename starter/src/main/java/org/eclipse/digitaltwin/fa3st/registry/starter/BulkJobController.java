@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import java.net.URI;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+
+/**
+ * REST controller for asynchronous bulk requests. The payload is the same as for the synchronous bulk requests of
+ * {@link BulkController}, but the request returns immediately with the submitted job, whose state can be polled until
+ * it has finished.
+ */
+@RestController
+@RequestMapping("/api/v3.0/bulk/jobs")
+public class BulkJobController {
+
+    @Autowired
+    BulkJobService service;
+
+    /**
+     * Submits a job creating the given Asset Administration Shells.
+     *
+     * @param payload The JSON array of the Asset Administration Shells to create.
+     * @return The submitted job.
+     */
+    @PostMapping(value = "/shell-descriptors")
+    public ResponseEntity<BulkJob> createAASs(@RequestBody String payload) {
+        return submit(BatchOperation.Type.CREATE_AAS, payload);
+    }
+
+
+    /**
+     * Submits a job updating the given Asset Administration Shells, identified by their IDs.
+     *
+     * @param payload The JSON array of the new Asset Administration Shells.
+     * @return The submitted job.
+     */
+    @PutMapping(value = "/shell-descriptors")
+    public ResponseEntity<BulkJob> updateAASs(@RequestBody String payload) {
+        return submit(BatchOperation.Type.UPDATE_AAS, payload);
+    }
+
+
+    /**
+     * Submits a job deleting the Asset Administration Shells with the given IDs.
+     *
+     * @param payload The JSON array of the IDs of the Asset Administration Shells to delete.
+     * @return The submitted job.
+     */
+    @DeleteMapping(value = "/shell-descriptors")
+    public ResponseEntity<BulkJob> deleteAASs(@RequestBody String payload) {
+        return submit(BatchOperation.Type.DELETE_AAS, payload);
+    }
+
+
+    /**
+     * Submits a job creating the given Submodels.
+     *
+     * @param payload The JSON array of the Submodels to create.
+     * @return The submitted job.
+     */
+    @PostMapping(value = "/submodel-descriptors")
+    public ResponseEntity<BulkJob> createSubmodels(@RequestBody String payload) {
+        return submit(BatchOperation.Type.CREATE_SUBMODEL, payload);
+    }
+
+
+    /**
+     * Submits a job updating the given Submodels, identified by their IDs.
+     *
+     * @param payload The JSON array of the new Submodels.
+     * @return The submitted job.
+     */
+    @PutMapping(value = "/submodel-descriptors")
+    public ResponseEntity<BulkJob> updateSubmodels(@RequestBody String payload) {
+        return submit(BatchOperation.Type.UPDATE_SUBMODEL, payload);
+    }
+
+
+    /**
+     * Submits a job deleting the Submodels with the given IDs.
+     *
+     * @param payload The JSON array of the IDs of the Submodels to delete.
+     * @return The submitted job.
+     */
+    @DeleteMapping(value = "/submodel-descriptors")
+    public ResponseEntity<BulkJob> deleteSubmodels(@RequestBody String payload) {
+        return submit(BatchOperation.Type.DELETE_SUBMODEL, payload);
+    }
+
+
+    /**
+     * Gets the state of a job including its progress, the failed items and its throughput.
+     *
+     * @param jobId The ID of the job.
+     * @return The job.
+     * @throws ResourceNotFoundException When the job was not found.
+     */
+    @GetMapping(value = "/{jobId}")
+    public BulkJob getJob(@PathVariable("jobId") String jobId) throws ResourceNotFoundException {
+        return service.getJob(jobId);
+    }
+
+
+    private ResponseEntity<BulkJob> submit(BatchOperation.Type type, String payload) {
+        BulkJob job = service.submit(type, payload);
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/api/v3.0/bulk/jobs/{jobId}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(job);
+    }
+}
@@ -0,0 +1,419 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.registry.core.AasRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.BulkJobRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkJob;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+
+/**
+ * Service executing bulk requests asynchronously.
+ *
+ * <p>Submitted jobs are stored in the {@link BulkJobRepository} and executed by a fixed number of threads. Jobs that
+ * cannot be started right away wait in a bounded queue, and submitting a job while the queue is full is rejected. A job
+ * is executed in batches of {@code bulk.batchSize} items using {@link RegistryService#executeBulk(List)}, i.e., each
+ * batch is written with a single call of {@link AasRepository#executeBatch(List)}. The batches are pipelined: while a
+ * batch is written, the items of the next batch are deserialized in parallel. The progress is stored after each batch,
+ * so jobs interrupted by a restart are resumed with the first batch that has not been stored yet. Resuming therefore
+ * may execute the items of the interrupted batch a second time, e.g., creating a descriptor again fails with 409.
+ *
+ * <p>Instances sharing the {@link BulkJobRepository} only execute jobs they hold the lease of. The lease of a submitted
+ * job is held by the instance it has been submitted to. Every {@code bulk.jobs.heartbeatInterval} milliseconds, each
+ * instance renews the leases of the jobs it has queued or is running and claims the unfinished jobs whose lease has not
+ * been renewed for {@code bulk.jobs.leaseTimeout} milliseconds, i.e., whose owner has stopped. The lease is renewed
+ * before each batch as well, and a job whose lease has been taken over by another instance is not executed any further.
+ */
+@Service
+public class BulkJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkJobService.class);
+    private static final String MSG_INVALID_PAYLOAD = "bulk request must be an array without null elements";
+
+    private final RegistryService registryService;
+    private final BulkJobRepository jobRepository;
+    private final ObjectMapper mapper;
+    private final int batchSize;
+    private final int queueSize;
+    private final long leaseTimeout;
+    private final long heartbeatInterval;
+    private final String instanceId;
+    private final Set<String> ownedJobs;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService scheduler;
+
+    public BulkJobService(RegistryService registryService,
+            BulkJobRepository jobRepository,
+            ObjectMapper mapper,
+            @Value("${bulk.batchSize:100}") int batchSize,
+            @Value("${bulk.jobs.threads:2}") int threads,
+            @Value("${bulk.jobs.queueSize:100}") int queueSize,
+            @Value("${bulk.jobs.leaseTimeout:60000}") long leaseTimeout,
+            @Value("${bulk.jobs.heartbeatInterval:10000}") long heartbeatInterval) {
+        Ensure.require(batchSize > 0, "bulk.batchSize must be > 0");
+        Ensure.require(threads > 0, "bulk.jobs.threads must be > 0");
+        Ensure.require(queueSize > 0, "bulk.jobs.queueSize must be > 0");
+        Ensure.require(heartbeatInterval > 0, "bulk.jobs.heartbeatInterval must be > 0");
+        Ensure.require(leaseTimeout > heartbeatInterval, "bulk.jobs.leaseTimeout must be > bulk.jobs.heartbeatInterval");
+        this.registryService = registryService;
+        this.jobRepository = jobRepository;
+        this.mapper = mapper;
+        this.batchSize = batchSize;
+        this.queueSize = queueSize;
+        this.leaseTimeout = leaseTimeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.instanceId = UUID.randomUUID().toString();
+        this.ownedJobs = ConcurrentHashMap.newKeySet();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                x -> new Thread(x, String.format("bulk-job-%d", threadCount.incrementAndGet())));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(x -> new Thread(x, "bulk-job-heartbeat"));
+    }
+
+
+    /**
+     * Submits a bulk job.
+     *
+     * @param type The type of the operations.
+     * @param payload The JSON array of the items, i.e., descriptors for create and update operations, plain IDs for
+     *            delete operations.
+     * @return The submitted job.
+     * @throws BadRequestException When the payload is not a JSON array of items of the expected kind.
+     * @throws ServiceUnavailableException When the queue of jobs waiting to be executed is full.
+     */
+    public BulkJob submit(BatchOperation.Type type, String payload) {
+        Ensure.requireNonNull(type, "type must be non-null");
+        JsonNode items = readItems(type, payload);
+        BulkJob job = new BulkJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setType(type);
+        job.setStatus(BulkJob.Status.PENDING);
+        job.setTotal(items.size());
+        job.setCreatedAt(System.currentTimeMillis());
+        job.setOwner(instanceId);
+        job.setHeartbeat(job.getCreatedAt());
+        try {
+            jobRepository.create(job, payload);
+        }
+        catch (ResourceAlreadyExistsException e) {
+            throw new IllegalStateException(String.format("generated bulk job id already in use (id: %s)", job.getId()), e);
+        }
+        LOGGER.debug("submitted bulk job (id: {}, type: {}, items: {})", job.getId(), type, job.getTotal());
+        try {
+            schedule(job);
+        }
+        catch (RejectedExecutionException e) {
+            finish(job, BulkJob.Status.FAILED, "rejected because too many bulk jobs are waiting");
+            throw new ServiceUnavailableException(String.format("too many bulk jobs are waiting (limit: %d)", queueSize), e);
+        }
+        return job;
+    }
+
+
+    /**
+     * Gets the current state of a bulk job.
+     *
+     * @param jobId The ID of the job.
+     * @return The job.
+     * @throws ResourceNotFoundException When the job was not found.
+     */
+    public BulkJob getJob(String jobId) throws ResourceNotFoundException {
+        return jobRepository.get(jobId);
+    }
+
+
+    /**
+     * Starts renewing the leases of the jobs of this instance and resumes the jobs that have been interrupted, see
+     * {@link #resume()}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        resume();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Resumes the unfinished jobs that no instance holds a valid lease of, e.g., because they have been interrupted by a
+     * restart. This is only effective if the jobs are persisted. Jobs are only claimed while there is space in the
+     * queue, the remaining jobs are claimed by a later call, possibly by another instance.
+     */
+    public void resume() {
+        long now = System.currentTimeMillis();
+        for (var id: jobRepository.getExpired(now - leaseTimeout)) {
+            if (ownedJobs.contains(id)) {
+                continue;
+            }
+            if (executor.getQueue().remainingCapacity() == 0) {
+                LOGGER.debug("not resuming bulk jobs because too many bulk jobs are waiting");
+                return;
+            }
+            if (!jobRepository.claim(id, instanceId, now, now - leaseTimeout)) {
+                continue;
+            }
+            try {
+                BulkJob job = jobRepository.get(id);
+                LOGGER.info("resuming bulk job (id: {}, processed: {}/{})", id, job.getProcessed(), job.getTotal());
+                schedule(job);
+            }
+            catch (ResourceNotFoundException e) {
+                LOGGER.debug("bulk job removed before it could be resumed (id: {})", id);
+            }
+            catch (RejectedExecutionException e) {
+                // the lease expires as it is not renewed, so the job is resumed later
+                LOGGER.debug("resuming bulk job postponed because too many bulk jobs are waiting (id: {})", id);
+            }
+        }
+    }
+
+
+    /**
+     * Stops the execution of jobs. Running jobs stop after their current batch and remain unfinished, so they are
+     * resumed once their lease has expired if the jobs are persisted.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+
+    private void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            for (var id: ownedJobs) {
+                if (!jobRepository.claim(id, instanceId, now, now - leaseTimeout)) {
+                    // the job has finished or another instance has taken over, so the executing thread stops
+                    ownedJobs.remove(id);
+                }
+            }
+            resume();
+        }
+        catch (Exception e) {
+            LOGGER.warn("renewing the leases of bulk jobs failed", e);
+        }
+    }
+
+
+    private void schedule(BulkJob job) {
+        // the executing thread works on its own copy so that the caller can keep using the given job
+        BulkJob state = new BulkJob(job);
+        state.setOwner(instanceId);
+        ownedJobs.add(job.getId());
+        try {
+            executor.execute(() -> run(state));
+        }
+        catch (RejectedExecutionException e) {
+            ownedJobs.remove(job.getId());
+            throw e;
+        }
+    }
+
+
+    private boolean renewLease(BulkJob job) {
+        long now = System.currentTimeMillis();
+        if (!ownedJobs.contains(job.getId()) || !jobRepository.claim(job.getId(), instanceId, now, now - leaseTimeout)) {
+            LOGGER.info("bulk job taken over by another instance (id: {}, processed: {}/{})", job.getId(), job.getProcessed(), job.getTotal());
+            return false;
+        }
+        job.setHeartbeat(now);
+        return true;
+    }
+
+
+    private void run(BulkJob job) {
+        try {
+            runOwned(job);
+        }
+        finally {
+            ownedJobs.remove(job.getId());
+        }
+    }
+
+
+    private void runOwned(BulkJob job) {
+        try {
+            if (!renewLease(job)) {
+                return;
+            }
+            JsonNode items = mapper.readTree(jobRepository.getPayload(job.getId()));
+            job.setStatus(BulkJob.Status.RUNNING);
+            if (job.getStartedAt() <= 0) {
+                job.setStartedAt(System.currentTimeMillis());
+            }
+            jobRepository.update(job);
+            CompletableFuture<Batch> next = prepare(job.getType(), items, job.getProcessed());
+            while (job.getProcessed() < items.size()) {
+                if (executor.isShutdown()) {
+                    LOGGER.info("bulk job interrupted by shutdown (id: {}, processed: {}/{})", job.getId(), job.getProcessed(), job.getTotal());
+                    return;
+                }
+                Batch batch = next.join();
+                if (!renewLease(job)) {
+                    return;
+                }
+                next = prepare(job.getType(), items, job.getProcessed() + batch.size());
+                execute(job, batch);
+                jobRepository.update(job);
+            }
+            finish(job, BulkJob.Status.COMPLETED, null);
+            LOGGER.debug("finished bulk job (id: {}, processed: {}, failed: {}, throughput: {}/s)", job.getId(), job.getProcessed(), job.getFailed(),
+                    job.getThroughput());
+        }
+        catch (Exception e) {
+            if (executor.isShutdown()) {
+                LOGGER.info("bulk job interrupted by shutdown (id: {}, processed: {}/{})", job.getId(), job.getProcessed(), job.getTotal());
+                return;
+            }
+            LOGGER.warn("bulk job failed (id: {})", job.getId(), e);
+            finish(job, BulkJob.Status.FAILED, e.getMessage());
+        }
+    }
+
+
+    private void execute(BulkJob job, Batch batch) {
+        List<BulkItemResult> executed = registryService.executeBulk(batch.operations());
+        for (int i = 0; i < executed.size(); i++) {
+            batch.results()[batch.positions().get(i)] = executed.get(i);
+        }
+        List<BulkItemResult> failures = Arrays.stream(batch.results())
+                .filter(x -> x.getStatus() >= HttpStatus.BAD_REQUEST.value())
+                .toList();
+        job.getFailures().addAll(failures);
+        job.setFailed(job.getFailed() + failures.size());
+        job.setProcessed(job.getProcessed() + batch.size());
+    }
+
+
+    private void finish(BulkJob job, BulkJob.Status status, String message) {
+        job.setStatus(status);
+        job.setMessage(message);
+        job.setFinishedAt(System.currentTimeMillis());
+        try {
+            jobRepository.update(job);
+        }
+        catch (Exception e) {
+            LOGGER.warn("storing the state of bulk job failed (id: {}, status: {})", job.getId(), status, e);
+        }
+    }
+
+
+    private CompletableFuture<Batch> prepare(BatchOperation.Type type, JsonNode items, int from) {
+        int to = Math.min(from + batchSize, items.size());
+        if (from >= to) {
+            return CompletableFuture.completedFuture(new Batch(new BulkItemResult[0], List.of(), List.of()));
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            BulkItemResult[] results = new BulkItemResult[to - from];
+            List<Integer> positions = new ArrayList<>(to - from);
+            List<BatchOperation> operations = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                JsonNode item = items.get(i);
+                try {
+                    operations.add(toOperation(type, item));
+                    positions.add(i - from);
+                }
+                catch (JsonProcessingException e) {
+                    results[i - from] = new BulkItemResult(item.path("id").asText(null), HttpStatus.BAD_REQUEST.value(), e.getOriginalMessage());
+                }
+            }
+            return new Batch(results, positions, operations);
+        });
+    }
+
+
+    private BatchOperation toOperation(BatchOperation.Type type, JsonNode item) throws JsonProcessingException {
+        return switch (type) {
+            case CREATE_AAS -> BatchOperation.createAAS(mapper.treeToValue(item, AssetAdministrationShellDescriptor.class));
+            case UPDATE_AAS -> BatchOperation.updateAAS(mapper.treeToValue(item, AssetAdministrationShellDescriptor.class));
+            case DELETE_AAS -> BatchOperation.deleteAAS(item.asText());
+            case CREATE_SUBMODEL -> BatchOperation.createSubmodel(mapper.treeToValue(item, SubmodelDescriptor.class));
+            case UPDATE_SUBMODEL -> BatchOperation.updateSubmodel(mapper.treeToValue(item, SubmodelDescriptor.class));
+            case DELETE_SUBMODEL -> BatchOperation.deleteSubmodel(item.asText());
+        };
+    }
+
+
+    private JsonNode readItems(BatchOperation.Type type, String payload) {
+        JsonNode result;
+        try {
+            result = Objects.nonNull(payload) ? mapper.readTree(payload) : null;
+        }
+        catch (JsonProcessingException e) {
+            throw new BadRequestException(MSG_INVALID_PAYLOAD, e);
+        }
+        if (Objects.isNull(result) || !result.isArray()) {
+            throw new BadRequestException(MSG_INVALID_PAYLOAD);
+        }
+        boolean delete = type == BatchOperation.Type.DELETE_AAS || type == BatchOperation.Type.DELETE_SUBMODEL;
+        for (var item: result) {
+            if (item.isNull() || (delete ? !item.isTextual() : !item.isObject())) {
+                throw new BadRequestException(delete
+                        ? "bulk delete request must be an array of IDs"
+                        : "bulk request must be an array of descriptors");
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The items of a batch ready to be executed.
+     *
+     * @param results The results of the items in the order of the batch. Items that could not be deserialized already
+     *            have a result, the results of the other items are set once they have been executed.
+     * @param positions The positions of the operations within the batch.
+     * @param operations The operations to execute.
+     */
+    private record Batch(BulkItemResult[] results, List<Integer> positions, List<BatchOperation> operations) {
+
+        int size() {
+            return results.length;
+        }
+    }
+}
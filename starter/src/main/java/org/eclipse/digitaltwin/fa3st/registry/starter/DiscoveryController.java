@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import java.util.List;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+
+/**
+ * REST controller for looking up Asset Administration Shells by asset identifiers.
+ */
+@RestController
+@RequestMapping("/api/v3.0/lookup/shells")
+public class DiscoveryController {
+
+    @Autowired
+    RegistryService service;
+
+    /**
+     * Retrieves the IDs of all registered Asset Administration Shells matching all of the given asset identifiers.
+     *
+     * @param assetIds The Base64URL encoded JSON serializations of the desired asset identifiers. The asset identifier
+     *            with name globalAssetId matches the global asset ID of an Asset Administration Shell.
+     * @param limit The limit value.
+     * @param cursor The cursor value.
+     * @return The IDs of all matching Asset Administration Shells.
+     */
+    @GetMapping()
+    public Page<String> getAASIdsByAssetIds(@RequestParam(name = "assetIds", required = false) List<String> assetIds,
+                                            @RequestParam(name = "limit", required = false) Long limit,
+                                            @RequestParam(name = "cursor", required = false) String cursor) {
+        PagingInfo.Builder pageBuilder = PagingInfo.builder().cursor(cursor);
+        if (limit != null) {
+            if (limit == 0) {
+                throw new BadRequestException("Limit must be greater than 0");
+            }
+            pageBuilder.limit(limit);
+        }
+        return service.getAASIdsByAssetIds(assetIds, pageBuilder.build());
+    }
+}
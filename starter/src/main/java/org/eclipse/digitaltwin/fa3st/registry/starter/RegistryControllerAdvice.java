@@ -18,8 +18,11 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Result;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultResult;
 import org.eclipse.digitaltwin.fa3st.common.model.api.Message;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ServiceUnavailableException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -89,6 +92,47 @@ public class RegistryControllerAdvice {
     }
 
 
+    /**
+     * Handles PreconditionFailedException and concurrent modifications detected by the persistence.
+     *
+     * @param e The desired exception.
+     * @return The corresponding response.
+     */
+    @ExceptionHandler({
+            PreconditionFailedException.class,
+            OptimisticLockingFailureException.class
+    })
+    public ResponseEntity<Result> handlePreconditionFailedException(Exception e) {
+        return new ResponseEntity<>(
+                new DefaultResult.Builder()
+                        .messages(Message.builder()
+                                .messageType(MessageTypeEnum.ERROR)
+                                .text(e.getMessage())
+                                .build())
+                        .build(),
+                HttpStatus.PRECONDITION_FAILED);
+    }
+
+
+    /**
+     * Handles ServiceUnavailableException.
+     *
+     * @param e The desired exception.
+     * @return The corresponding response.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Result> handleServiceUnavailableException(Exception e) {
+        return new ResponseEntity<>(
+                new DefaultResult.Builder()
+                        .messages(Message.builder()
+                                .messageType(MessageTypeEnum.ERROR)
+                                .text(e.getMessage())
+                                .build())
+                        .build(),
+                HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+
     /**
      * Fallback method. Handles all other exceptions.
      *
@@ -13,25 +13,43 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.starter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
-import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingMetadata;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
 import org.eclipse.digitaltwin.fa3st.registry.core.AasRepository;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchOperation;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BatchResult;
+import org.eclipse.digitaltwin.fa3st.registry.core.batch.BulkItemResult;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ConstraintViolatedException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.ContentHashHelper;
+import org.eclipse.digitaltwin.fa3st.registry.core.util.PagingHelper;
+import org.eclipse.digitaltwin.fa3st.registry.starter.SerializedDescriptorCache.Key;
+import org.eclipse.digitaltwin.fa3st.registry.starter.SerializedDescriptorCache.Serialized;
 import org.eclipse.digitaltwin.fa3st.registry.starter.helper.ConstraintHelper;
+import org.eclipse.digitaltwin.fa3st.registry.starter.helper.ETagHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 
@@ -44,10 +62,26 @@ public class RegistryService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RegistryService.class);
     public static final String AAS_NOT_NULL_TXT = "aas must be non-null";
     public static final String SUBMODEL_NOT_NULL_TXT = "submodel must be non-null";
+    public static final String METRIC_SKIPPED_WRITES = "registry.writes.skipped";
 
     @Autowired
     private AasRepository aasRepository;
 
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SerializedDescriptorCache serializedCache;
+
+    @Value("${streaming.pageSize:100}")
+    private long streamingPageSize;
+
+    @Value("${bulk.batchSize:100}")
+    private int bulkBatchSize;
+
     /**
      * Retrieves a list of all registered Asset Administration Shells.
      *
@@ -57,19 +91,42 @@ public class RegistryService {
      * @return The list of all registered Asset Administration Shells.
      */
     public Page<AssetAdministrationShellDescriptor> getAASs(String assetType, AssetKind assetKind, PagingInfo paging) {
-        // Asset type is Base64URL encoded
-        String assetTypeDecoded = EncodingHelper.base64UrlDecode(assetType);
-        if ((assetTypeDecoded != null) && (assetTypeDecoded.length() > ConstraintHelper.MAX_IDENTIFIER_LENGTH)) {
-            throw new BadRequestException("AssetType too long");
-        }
-        if (assetType != null) {
-            LOGGER.atDebug().log("getAASs: AssetType {}", assetType.replaceAll("[\n\r]", "_"));
-        }
-        if (assetKind != null) {
-            LOGGER.debug("getAASs: AssetKind {}", assetKind);
+        String assetTypeDecoded = decodeAssetType(assetType, assetKind);
+        return aasRepository.getAASs(assetTypeDecoded, assetKind, paging);
+    }
+
+
+    /**
+     * Retrieves all registered Asset Administration Shells as a stream. The Asset Administration Shells are fetched
+     * page-wise from the repository while the stream is consumed.
+     *
+     * @param assetType The desired Asset Type.
+     * @param assetKind The desired Asset Kind.
+     * @param cursor The cursor to start with, null to start with the first Asset Administration Shell.
+     * @return The stream of all registered Asset Administration Shells.
+     */
+    public Stream<AssetAdministrationShellDescriptor> streamAASs(String assetType, AssetKind assetKind, String cursor) {
+        String assetTypeDecoded = decodeAssetType(assetType, assetKind);
+        return PagingHelper.stream(x -> aasRepository.getAASs(assetTypeDecoded, assetKind, x), cursor, streamingPageSize);
+    }
+
+
+    /**
+     * Retrieves the IDs of all registered Asset Administration Shells matching all of the given asset identifiers.
+     *
+     * @param assetIds The Base64URL encoded JSON serializations of the desired asset identifiers.
+     * @param paging The paging information.
+     * @return The IDs of all matching Asset Administration Shells.
+     */
+    public Page<String> getAASIdsByAssetIds(List<String> assetIds, PagingInfo paging) {
+        List<SpecificAssetId> assetIdsDecoded = new ArrayList<>();
+        if (assetIds != null) {
+            for (String assetId: assetIds) {
+                assetIdsDecoded.add(parseAssetId(assetId));
+            }
         }
-        List<AssetAdministrationShellDescriptor> list = aasRepository.getAASs(assetTypeDecoded, assetKind);
-        return preparePagedResult(list, paging);
+        LOGGER.debug("getAASIdsByAssetIds: {} asset identifiers", assetIdsDecoded.size());
+        return PagingHelper.preparePagedResult(aasRepository.getAASIdsByAssetIds(assetIdsDecoded), paging, x -> x);
     }
 
 
@@ -85,6 +142,46 @@ public class RegistryService {
     }
 
 
+    /**
+     * Retrieves the serialized Asset Administration Shell with the given ID from the cache, serializing it if it is not
+     * cached in the given version.
+     *
+     * @param id The ID of the desired Asset Administration Shell.
+     * @param version The version of the Asset Administration Shell retrieved by {@link #getAASVersion(String)}.
+     * @return The serialized Asset Administration Shell.
+     * @throws ResourceNotFoundException When the AAS was not found.
+     */
+    public Serialized getAASSerialized(String id, long version) throws ResourceNotFoundException {
+        String idDecoded = EncodingHelper.base64UrlDecode(id);
+        return serializedCache.get(Key.aas(idDecoded), version, () -> aasRepository.getAAS(idDecoded));
+    }
+
+
+    /**
+     * Retrieves the change version of the registry, which changes whenever the result of a listing may have changed. To
+     * not return a version newer than the listing, the version must be retrieved before the listing.
+     *
+     * @return The change version.
+     */
+    public long getChangeVersion() {
+        return aasRepository.getChangeVersion();
+    }
+
+
+    /**
+     * Retrieves the version of the Asset Administration Shell with the given ID. Submodels of the Asset Administration
+     * Shell share its version. To not return a version newer than the descriptor, the version must be retrieved before
+     * the descriptor.
+     *
+     * @param id The ID of the desired Asset Administration Shell.
+     * @return The version.
+     * @throws ResourceNotFoundException When the AAS was not found.
+     */
+    public long getAASVersion(String id) throws ResourceNotFoundException {
+        return aasRepository.getAASVersion(EncodingHelper.base64UrlDecode(id));
+    }
+
+
     /**
      * Create the given Asset Administration Shell.
      *
@@ -98,7 +195,9 @@ public class RegistryService {
         if (aas.getSubmodelDescriptors() != null) {
             aas.getSubmodelDescriptors().stream().forEach(this::checkSubmodelIdentifiers);
         }
-        return aasRepository.create(aas);
+        AssetAdministrationShellDescriptor result = aasRepository.create(aas);
+        serializedCache.invalidate(Key.aas(aas.getId()));
+        return result;
     }
 
 
@@ -106,30 +205,45 @@ public class RegistryService {
      * Deletes the Asset Administration Shell with the given ID.
      *
      * @param id The ID of the desired Asset Administration Shell.
+     * @param ifMatch The value of the If-Match header, null if not present.
      * @throws ResourceNotFoundException When the AAS was not found.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
      */
-    public void deleteAAS(String id) throws ResourceNotFoundException {
+    public void deleteAAS(String id, String ifMatch) throws ResourceNotFoundException {
         String idDecoded = EncodingHelper.base64UrlDecode(id);
         LOGGER.debug("deleteAAS: AAS {}", idDecoded);
-        aasRepository.deleteAAS(idDecoded);
+        aasRepository.deleteAAS(idDecoded, checkAASPrecondition(idDecoded, ifMatch));
+        serializedCache.invalidate(Key.aas(idDecoded));
     }
 
 
     /**
-     * Updates the given Asset Administration Shell.
+     * Updates the given Asset Administration Shell. If the Asset Administration Shell is equal to the stored one, i.e.,
+     * it has the same content hash, the update is skipped.
      *
      * @param id The ID of the desired Asset Administration Shell.
      * @param aas The desired Asset Administration Shell.
-     * @return The updated Asset Administration Shell.
+     * @param ifMatch The value of the If-Match header, null if not present.
+     * @return The result of the update.
      * @throws ResourceNotFoundException When the AAS was not found.
+     * @throws ResourceAlreadyExistsException When the ID is changed to the ID of another existing AAS.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
      */
-    public AssetAdministrationShellDescriptor updateAAS(String id, AssetAdministrationShellDescriptor aas) throws ResourceNotFoundException {
+    public UpdateResult<AssetAdministrationShellDescriptor> updateAAS(String id, AssetAdministrationShellDescriptor aas, String ifMatch)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         Ensure.requireNonNull(aas, AAS_NOT_NULL_TXT);
         String idDecoded = EncodingHelper.base64UrlDecode(id);
         LOGGER.debug("updateAAS: {}", idDecoded);
         checkShellIdentifiers(aas);
+        Long expectedVersion = checkAASPrecondition(idDecoded, ifMatch);
+        if (isUnchanged(aasRepository.getAASContentHash(idDecoded), ContentHashHelper.hash(aas), "aas")) {
+            LOGGER.debug("updateAAS: {} unchanged, skipping update", idDecoded);
+            return UpdateResult.unchanged(aas);
+        }
         aas.getSubmodelDescriptors().stream().forEach(this::checkSubmodelIdentifiers);
-        return aasRepository.update(idDecoded, aas);
+        AssetAdministrationShellDescriptor result = aasRepository.update(idDecoded, aas, expectedVersion);
+        serializedCache.invalidate(Key.aas(idDecoded));
+        return UpdateResult.updated(result);
     }
 
 
@@ -141,7 +255,19 @@ public class RegistryService {
      * @throws ResourceNotFoundException When the AAS was not found.
      */
     public Page<SubmodelDescriptor> getSubmodels(PagingInfo paging) throws ResourceNotFoundException {
-        return getSubmodels(null, paging);
+        return getSubmodels(null, null, paging);
+    }
+
+
+    /**
+     * Retrieves all registered Submodels as a stream. The Submodels are fetched page-wise from the repository while the
+     * stream is consumed.
+     *
+     * @param cursor The cursor to start with, null to start with the first Submodel.
+     * @return The stream of all registered Submodels.
+     */
+    public Stream<SubmodelDescriptor> streamSubmodels(String cursor) {
+        return PagingHelper.stream(aasRepository::getSubmodels, cursor, streamingPageSize);
     }
 
 
@@ -154,15 +280,36 @@ public class RegistryService {
      * @throws ResourceNotFoundException When the AAS was not found.
      */
     public Page<SubmodelDescriptor> getSubmodels(String aasId, PagingInfo paging) throws ResourceNotFoundException {
-        List<SubmodelDescriptor> list;
+        return getSubmodels(aasId, null, paging);
+    }
+
+
+    /**
+     * Retrieves a list of all Submodels of the given Asset Administration Shell which have the given semantic ID.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell, null to retrieve standalone Submodels.
+     * @param semanticId The desired semantic ID, null to retrieve all Submodels.
+     * @param paging The paging information.
+     * @return The list of Submodels.
+     * @throws ResourceNotFoundException When the AAS was not found.
+     */
+    public Page<SubmodelDescriptor> getSubmodels(String aasId, String semanticId, PagingInfo paging) throws ResourceNotFoundException {
+        // Semantic ID is Base64URL encoded
+        String semanticIdDecoded = EncodingHelper.base64UrlDecode(semanticId);
+        if ((semanticIdDecoded != null) && (semanticIdDecoded.length() > ConstraintHelper.MAX_IDENTIFIER_LENGTH)) {
+            throw new BadRequestException("SemanticId too long");
+        }
         if (aasId == null) {
-            list = aasRepository.getSubmodels();
+            return semanticIdDecoded == null
+                    ? aasRepository.getSubmodels(paging)
+                    : PagingHelper.preparePagedResult(aasRepository.getSubmodelsBySemanticId(semanticIdDecoded), paging, SubmodelDescriptor::getId);
         }
         else {
             String aasIdDecoded = EncodingHelper.base64UrlDecode(aasId);
-            list = aasRepository.getSubmodels(aasIdDecoded);
+            return semanticIdDecoded == null
+                    ? aasRepository.getSubmodels(aasIdDecoded, paging)
+                    : PagingHelper.preparePagedResult(aasRepository.getSubmodelsBySemanticId(aasIdDecoded, semanticIdDecoded), paging, SubmodelDescriptor::getId);
         }
-        return preparePagedResult(list, paging);
     }
 
 
@@ -198,6 +345,39 @@ public class RegistryService {
     }
 
 
+    /**
+     * Retrieves the serialized Submodel with given AAS ID and Submodel ID from the cache, serializing it if it is not
+     * cached in the given version.
+     *
+     * @param aasId The ID of the desired Asset Administration Shell, null for standalone Submodels.
+     * @param submodelId The ID of the desired Submodel.
+     * @param version The version of the Submodel retrieved by {@link #getSubmodelVersion(String)}, or of the Asset
+     *            Administration Shell retrieved by {@link #getAASVersion(String)}.
+     * @return The serialized Submodel.
+     * @throws ResourceNotFoundException When the AAS or Submodel was not found.
+     */
+    public Serialized getSubmodelSerialized(String aasId, String submodelId, long version) throws ResourceNotFoundException {
+        String aasIdDecoded = EncodingHelper.base64UrlDecode(aasId);
+        String submodelIdDecoded = EncodingHelper.base64UrlDecode(submodelId);
+        return serializedCache.get(Key.submodel(aasIdDecoded, submodelIdDecoded), version, () -> aasId == null
+                ? aasRepository.getSubmodel(submodelIdDecoded)
+                : aasRepository.getSubmodel(aasIdDecoded, submodelIdDecoded));
+    }
+
+
+    /**
+     * Retrieves the version of the Submodel with given Submodel ID. To not return a version newer than the descriptor,
+     * the version must be retrieved before the descriptor.
+     *
+     * @param submodelId The ID of the desired Submodel.
+     * @return The version.
+     * @throws ResourceNotFoundException When the Submodel was not found.
+     */
+    public long getSubmodelVersion(String submodelId) throws ResourceNotFoundException {
+        return aasRepository.getSubmodelVersion(EncodingHelper.base64UrlDecode(submodelId));
+    }
+
+
     /**
      * Creates a new submodel.
      *
@@ -224,12 +404,16 @@ public class RegistryService {
         ConstraintHelper.validate(submodel);
         if (aasId == null) {
             LOGGER.debug("createSubmodel: Submodel {}", submodel.getId());
-            return aasRepository.addSubmodel(submodel);
+            SubmodelDescriptor result = aasRepository.addSubmodel(submodel);
+            serializedCache.invalidate(Key.submodel(null, submodel.getId()));
+            return result;
         }
         else {
             String aasIdDecoded = EncodingHelper.base64UrlDecode(aasId);
             LOGGER.debug("createSubmodel: AAS '{}'; Submodel {}", aasIdDecoded, submodel.getId());
-            return aasRepository.addSubmodel(aasIdDecoded, submodel);
+            SubmodelDescriptor result = aasRepository.addSubmodel(aasIdDecoded, submodel);
+            invalidateSubmodelOfAAS(aasIdDecoded, submodel.getId());
+            return result;
         }
     }
 
@@ -238,10 +422,12 @@ public class RegistryService {
      * Deletes the Submodel with the given ID.
      *
      * @param submodelId The ID of the desired Submodel.
+     * @param ifMatch The value of the If-Match header, null if not present.
      * @throws ResourceNotFoundException When the Submodel was not found.
+     * @throws PreconditionFailedException When the Submodel does not match the If-Match header.
      */
-    public void deleteSubmodel(String submodelId) throws ResourceNotFoundException {
-        deleteSubmodel(null, submodelId);
+    public void deleteSubmodel(String submodelId, String ifMatch) throws ResourceNotFoundException {
+        deleteSubmodel(null, submodelId, ifMatch);
     }
 
 
@@ -250,130 +436,318 @@ public class RegistryService {
      *
      * @param aasId The ID of the desired AAS.
      * @param submodelId The ID of the desired Submodel.
+     * @param ifMatch The value of the If-Match header, null if not present. For Submodels of an AAS, it is matched
+     *            against the version of the AAS.
      * @throws ResourceNotFoundException When the Submodel was not found.
+     * @throws PreconditionFailedException When the Submodel does not match the If-Match header.
      */
-    public void deleteSubmodel(String aasId, String submodelId) throws ResourceNotFoundException {
+    public void deleteSubmodel(String aasId, String submodelId, String ifMatch) throws ResourceNotFoundException {
         String submodelIdDecoded = EncodingHelper.base64UrlDecode(submodelId);
         if (aasId == null) {
             LOGGER.debug("deleteSubmodel: Submodel {}", submodelIdDecoded);
-            aasRepository.deleteSubmodel(submodelIdDecoded);
+            aasRepository.deleteSubmodel(submodelIdDecoded, checkSubmodelPrecondition(submodelIdDecoded, ifMatch));
+            serializedCache.invalidate(Key.submodel(null, submodelIdDecoded));
         }
         else {
             String aasIdDecoded = EncodingHelper.base64UrlDecode(aasId);
             LOGGER.debug("deleteSubmodel: AAS '{}'; Submodel {}", aasIdDecoded, submodelIdDecoded);
-            aasRepository.deleteSubmodel(aasIdDecoded, submodelIdDecoded);
+            aasRepository.deleteSubmodel(aasIdDecoded, submodelIdDecoded, checkAASPrecondition(aasIdDecoded, ifMatch));
+            invalidateSubmodelOfAAS(aasIdDecoded, submodelIdDecoded);
         }
     }
 
 
     /**
-     * Updates the given Submodel.
+     * Updates the given Submodel by atomically replacing the stored one. If the Submodel is equal to the stored one,
+     * i.e., it has the same content hash, the update is skipped.
      *
      * @param submodelId The ID of the desired Submodel.
      * @param submodel The desired Submodel.
-     * @return The updated Submodel.
+     * @param ifMatch The value of the If-Match header, null if not present.
+     * @return The result of the update.
      * @throws ResourceNotFoundException When the Submodel was not found.
      * @throws ResourceAlreadyExistsException When the Submodel already exists.
+     * @throws PreconditionFailedException When the Submodel does not match the If-Match header.
      */
-    public SubmodelDescriptor updateSubmodel(String submodelId, SubmodelDescriptor submodel) throws ResourceNotFoundException, ResourceAlreadyExistsException {
+    public UpdateResult<SubmodelDescriptor> updateSubmodel(String submodelId, SubmodelDescriptor submodel, String ifMatch)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         Ensure.requireNonNull(submodel, SUBMODEL_NOT_NULL_TXT);
         String submodelIdDecoded = EncodingHelper.base64UrlDecode(submodelId);
         checkSubmodelIdentifiers(submodel);
         LOGGER.debug("updateSubmodel: Submodel {}", submodelIdDecoded);
-        aasRepository.deleteSubmodel(submodelIdDecoded);
-        return aasRepository.addSubmodel(submodel);
+        Long expectedVersion = checkSubmodelPrecondition(submodelIdDecoded, ifMatch);
+        if (isUnchanged(aasRepository.getSubmodelContentHash(submodelIdDecoded), ContentHashHelper.hash(submodel), "submodel")) {
+            LOGGER.debug("updateSubmodel: Submodel {} unchanged, skipping update", submodelIdDecoded);
+            return UpdateResult.unchanged(submodel);
+        }
+        SubmodelDescriptor result = aasRepository.replaceSubmodel(submodelIdDecoded, submodel, expectedVersion);
+        serializedCache.invalidate(Key.submodel(null, submodelIdDecoded));
+        serializedCache.invalidate(Key.submodel(null, submodel.getId()));
+        return UpdateResult.updated(result);
     }
 
 
     /**
-     * Updates the given Submodel.
+     * Updates the given Submodel of the given AAS by atomically replacing the stored one. If the Submodel is equal to
+     * the stored one, i.e., it has the same content hash, the update is skipped.
      *
      * @param aasId The ID of the desired AAS.
      * @param submodelId The ID of the desired Submodel.
      * @param submodel The desired Submodel.
-     * @return The updated Submodel.
+     * @param ifMatch The value of the If-Match header, null if not present. It is matched against the version of the
+     *            AAS.
+     * @return The result of the update.
      * @throws ResourceNotFoundException When the AAS was not found.
      * @throws ResourceAlreadyExistsException When the Submodel already exists.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
      */
-    public SubmodelDescriptor updateSubmodel(String aasId, String submodelId, SubmodelDescriptor submodel) throws ResourceNotFoundException, ResourceAlreadyExistsException {
+    public UpdateResult<SubmodelDescriptor> updateSubmodel(String aasId, String submodelId, SubmodelDescriptor submodel, String ifMatch)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
         Ensure.requireNonNull(submodel, SUBMODEL_NOT_NULL_TXT);
         String aasIdDecoded = EncodingHelper.base64UrlDecode(aasId);
         String submodelIdDecoded = EncodingHelper.base64UrlDecode(submodelId);
         checkSubmodelIdentifiers(submodel);
         LOGGER.debug("updateSubmodel: AAS '{}'; Submodel {}", aasIdDecoded, submodelIdDecoded);
-        aasRepository.deleteSubmodel(aasIdDecoded, submodelIdDecoded);
-        return aasRepository.addSubmodel(aasIdDecoded, submodel);
+        Long expectedVersion = checkAASPrecondition(aasIdDecoded, ifMatch);
+        if (isUnchanged(aasRepository.getSubmodelContentHash(aasIdDecoded, submodelIdDecoded), ContentHashHelper.hash(submodel), "submodel")) {
+            LOGGER.debug("updateSubmodel: AAS '{}'; Submodel {} unchanged, skipping update", aasIdDecoded, submodelIdDecoded);
+            return UpdateResult.unchanged(submodel);
+        }
+        SubmodelDescriptor result = aasRepository.replaceSubmodel(aasIdDecoded, submodelIdDecoded, submodel, expectedVersion);
+        invalidateSubmodelOfAAS(aasIdDecoded, submodelIdDecoded);
+        serializedCache.invalidate(Key.submodel(aasIdDecoded, submodel.getId()));
+        return UpdateResult.updated(result);
     }
 
 
-    private void checkSubmodelIdentifiers(SubmodelDescriptor submodel) throws BadRequestException {
-        Ensure.requireNonNull(submodel, SUBMODEL_NOT_NULL_TXT);
-        if ((submodel.getId() == null) || (submodel.getId().length() == 0)) {
-            throw new BadRequestException("no Submodel identification provided");
+    /**
+     * Removes a submodel of an AAS from the serialized descriptor cache. As the submodel is part of the AAS, the AAS is
+     * removed as well. Cached submodels of the AAS that have not been written are not removed as they would not be
+     * returned anyway because the version of the AAS has changed.
+     *
+     * @param aasId The ID of the AAS.
+     * @param submodelId The ID of the submodel.
+     */
+    private void invalidateSubmodelOfAAS(String aasId, String submodelId) {
+        serializedCache.invalidate(Key.aas(aasId));
+        serializedCache.invalidate(Key.submodel(aasId, submodelId));
+    }
+
+
+    /**
+     * Executes the given operations of a bulk request. The operations are validated in parallel and the valid ones are
+     * written through {@link AasRepository#executeBatch(List)} in batches of {@code bulk.batchSize} operations. If a
+     * batch fails as a whole, its operations are retried one by one so that only the failing operations are reported as
+     * failed.
+     *
+     * @param operations The operations to execute.
+     * @return The results of the operations in the order of the operations.
+     */
+    public List<BulkItemResult> executeBulk(List<BatchOperation> operations) {
+        Ensure.requireNonNull(operations, "operations must be non-null");
+        LOGGER.debug("executeBulk: {} operations", operations.size());
+        BulkItemResult[] result = new BulkItemResult[operations.size()];
+        Exception[] errors = operations.parallelStream()
+                .map(this::validate)
+                .toArray(Exception[]::new);
+        List<Integer> batch = new ArrayList<>(bulkBatchSize);
+        for (int i = 0; i < operations.size(); i++) {
+            if (Objects.nonNull(errors[i])) {
+                result[i] = toBulkItemResult(BatchResult.failure(operations.get(i), errors[i]));
+                continue;
+            }
+            batch.add(i);
+            if (batch.size() >= bulkBatchSize) {
+                executeBatch(operations, batch, result);
+                batch.clear();
+            }
         }
+        executeBatch(operations, batch, result);
+        return Arrays.asList(result);
     }
 
 
-    private void checkShellIdentifiers(AssetAdministrationShellDescriptor aas) throws BadRequestException {
-        Ensure.requireNonNull(aas, AAS_NOT_NULL_TXT);
-        if ((aas.getId() == null) || (aas.getId().length() == 0)) {
-            throw new BadRequestException("no AAS Identification provided");
+    private void executeBatch(List<BatchOperation> operations, List<Integer> batch, BulkItemResult[] result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BatchResult> batchResult = executeBatch(batch.stream()
+                .map(operations::get)
+                .toList());
+        for (int i = 0; i < batch.size(); i++) {
+            result[batch.get(i)] = toBulkItemResult(batchResult.get(i));
         }
     }
 
 
-    private static <T> Page<T> preparePagedResult(List<T> input, PagingInfo paging) {
-        Stream<T> result = input.stream();
-        if (Objects.nonNull(paging.getCursor())) {
-            long skip = readCursor(paging.getCursor());
-            if (skip < 0 || skip >= input.size()) {
-                throw new BadRequestException(String.format("invalid cursor (cursor: %s)", paging.getCursor()));
+    private List<BatchResult> executeBatch(List<BatchOperation> batch) {
+        try {
+            return aasRepository.executeBatch(batch);
+        }
+        catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                return List.of(BatchResult.failure(batch.get(0), e));
             }
-            result = result.skip(skip);
+            LOGGER.debug("executeBulk: batch of {} operations failed, retrying one by one", batch.size(), e);
+            return batch.stream()
+                    .flatMap(x -> executeBatch(List.of(x)).stream())
+                    .toList();
         }
-        if (paging.hasLimit()) {
-            if (paging.getLimit() < 1) {
-                throw new BadRequestException(String.format("invalid limit - must be >= 1 (actual: %s)", paging.getLimit()));
+    }
+
+
+    private Exception validate(BatchOperation operation) {
+        try {
+            switch (operation.getType()) {
+                case CREATE_AAS, UPDATE_AAS -> {
+                    ConstraintHelper.validate(operation.getAAS());
+                    if (operation.getAAS().getSubmodelDescriptors() != null) {
+                        operation.getAAS().getSubmodelDescriptors().stream().forEach(this::checkSubmodelIdentifiers);
+                    }
+                }
+                case CREATE_SUBMODEL, UPDATE_SUBMODEL -> ConstraintHelper.validate(operation.getSubmodel());
+                default -> {
+                    if ((operation.getId() == null) || operation.getId().isEmpty()) {
+                        throw new BadRequestException("no identification provided");
+                    }
+                }
             }
-            result = result.limit(paging.getLimit() + 1);
+            return null;
+        }
+        catch (RuntimeException e) {
+            return e;
         }
-        List<T> temp = result.toList();
-        return Page.<T> builder()
-                .result(temp.stream()
-                        .limit(paging.hasLimit() ? paging.getLimit() : temp.size())
-                        .toList())
-                .metadata(PagingMetadata.builder()
-                        .cursor(nextCursor(paging, temp.size()))
-                        .build())
-                .build();
     }
 
 
-    private static long readCursor(String cursor) {
-        return Long.parseLong(cursor);
+    private BulkItemResult toBulkItemResult(BatchResult result) {
+        BatchOperation operation = result.getOperation();
+        if (!result.isSuccess()) {
+            return new BulkItemResult(operation.getId(), getStatus(result.getError()).value(), result.getError().getMessage());
+        }
+        serializedCache.invalidate(operation.isAAS()
+                ? Key.aas(operation.getId())
+                : Key.submodel(null, operation.getId()));
+        HttpStatus status = operation.getType() == BatchOperation.Type.CREATE_AAS || operation.getType() == BatchOperation.Type.CREATE_SUBMODEL
+                ? HttpStatus.CREATED
+                : HttpStatus.NO_CONTENT;
+        return new BulkItemResult(operation.getId(), status.value(), null);
     }
 
 
-    private static String writeCursor(long index) {
-        return Long.toString(index);
+    private static HttpStatus getStatus(Exception error) {
+        if (error instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (error instanceof ResourceAlreadyExistsException) {
+            return HttpStatus.CONFLICT;
+        }
+        if ((error instanceof PreconditionFailedException) || (error instanceof OptimisticLockingFailureException)) {
+            return HttpStatus.PRECONDITION_FAILED;
+        }
+        if ((error instanceof BadRequestException) || (error instanceof ConstraintViolatedException) || (error instanceof IllegalArgumentException)) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
     }
 
 
-    private static String nextCursor(PagingInfo paging, int resultCount) {
-        return nextCursor(paging, paging.hasLimit() && resultCount > paging.getLimit());
+    /**
+     * Evaluates the If-Match header of a request modifying an AAS or one of its submodels.
+     *
+     * @param aasId The ID of the AAS.
+     * @param ifMatch The value of the If-Match header, null if not present.
+     * @return The version the header matched, which must be passed to the repository so that the check is repeated
+     *         atomically with the write, null if the header is not present.
+     * @throws ResourceNotFoundException When the AAS was not found.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
+     */
+    private Long checkAASPrecondition(String aasId, String ifMatch) throws ResourceNotFoundException {
+        if (Objects.isNull(ifMatch)) {
+            return null;
+        }
+        long version = aasRepository.getAASVersion(aasId);
+        if (!ETagHelper.matches(ifMatch, version)) {
+            throw new PreconditionFailedException(String.format("AAS has been modified (id: %s, If-Match: %s)", aasId, ifMatch));
+        }
+        return version;
     }
 
 
-    private static String nextCursor(PagingInfo paging, boolean hasMoreData) {
-        if (!hasMoreData) {
+    /**
+     * Evaluates the If-Match header of a request modifying a standalone submodel.
+     *
+     * @param submodelId The ID of the submodel.
+     * @param ifMatch The value of the If-Match header, null if not present.
+     * @return The version the header matched, which must be passed to the repository so that the check is repeated
+     *         atomically with the write, null if the header is not present.
+     * @throws ResourceNotFoundException When the submodel was not found.
+     * @throws PreconditionFailedException When the submodel does not match the If-Match header.
+     */
+    private Long checkSubmodelPrecondition(String submodelId, String ifMatch) throws ResourceNotFoundException {
+        if (Objects.isNull(ifMatch)) {
             return null;
         }
-        if (!paging.hasLimit()) {
-            throw new IllegalStateException("unable to generate next cursor for paging - there should not be more data available if previous request did not have a limit set");
+        long version = aasRepository.getSubmodelVersion(submodelId);
+        if (!ETagHelper.matches(ifMatch, version)) {
+            throw new PreconditionFailedException(String.format("Submodel has been modified (id: %s, If-Match: %s)", submodelId, ifMatch));
+        }
+        return version;
+    }
+
+
+    private boolean isUnchanged(String storedHash, String hash, String type) {
+        if (Objects.isNull(storedHash) || !Objects.equals(storedHash, hash)) {
+            return false;
+        }
+        meterRegistry.counter(METRIC_SKIPPED_WRITES, "type", type).increment();
+        return true;
+    }
+
+
+    private void checkSubmodelIdentifiers(SubmodelDescriptor submodel) throws BadRequestException {
+        Ensure.requireNonNull(submodel, SUBMODEL_NOT_NULL_TXT);
+        if ((submodel.getId() == null) || (submodel.getId().length() == 0)) {
+            throw new BadRequestException("no Submodel identification provided");
+        }
+    }
+
+
+    private SpecificAssetId parseAssetId(String assetId) throws BadRequestException {
+        SpecificAssetId result;
+        try {
+            result = mapper.readValue(EncodingHelper.base64UrlDecode(assetId), SpecificAssetId.class);
+        }
+        catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new BadRequestException(String.format("invalid assetId - must be a Base64URL encoded SpecificAssetId (assetId: %s)", assetId));
+        }
+        if ((result == null) || (result.getName() == null) || (result.getValue() == null)) {
+            throw new BadRequestException(String.format("invalid assetId - name and value must be non-null (assetId: %s)", assetId));
         }
-        if (Objects.isNull(paging.getCursor())) {
-            return writeCursor(paging.getLimit());
+        return result;
+    }
+
+
+    private static String decodeAssetType(String assetType, AssetKind assetKind) throws BadRequestException {
+        // Asset type is Base64URL encoded
+        String assetTypeDecoded = EncodingHelper.base64UrlDecode(assetType);
+        if ((assetTypeDecoded != null) && (assetTypeDecoded.length() > ConstraintHelper.MAX_IDENTIFIER_LENGTH)) {
+            throw new BadRequestException("AssetType too long");
+        }
+        if (assetType != null) {
+            LOGGER.atDebug().log("getAASs: AssetType {}", assetType.replaceAll("[\n\r]", "_"));
+        }
+        if (assetKind != null) {
+            LOGGER.debug("getAASs: AssetKind {}", assetKind);
+        }
+        return assetTypeDecoded;
+    }
+
+
+    private void checkShellIdentifiers(AssetAdministrationShellDescriptor aas) throws BadRequestException {
+        Ensure.requireNonNull(aas, AAS_NOT_NULL_TXT);
+        if ((aas.getId() == null) || (aas.getId().length() == 0)) {
+            throw new BadRequestException("no AAS Identification provided");
         }
-        return writeCursor(readCursor(paging.getCursor()) + paging.getLimit());
     }
 }
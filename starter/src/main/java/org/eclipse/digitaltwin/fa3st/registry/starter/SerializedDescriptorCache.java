@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
+import org.eclipse.digitaltwin.fa3st.registry.starter.helper.ETagHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Size-bounded cache of the serialized JSON of single descriptors.
+ *
+ * <p>Entries are stored per descriptor ID together with the version of the descriptor they have been serialized from.
+ * An entry is only returned if its version equals the current version of the descriptor, so writes invalidate it even
+ * if they have been made by another instance sharing the same database. Writes through the {@link RegistryService}
+ * additionally remove the entry of the written descriptor right away. The size of the cache is bounded by the number
+ * of cached bytes ({@code cache.serialized.maxSize}, 0 disables the cache). Optionally, the gzip-compressed JSON is
+ * cached as well ({@code cache.serialized.gzip}) and returned to clients accepting gzip.
+ */
+@Component
+public class SerializedDescriptorCache {
+
+    public static final String METRIC_REQUESTS = "registry.cache.serialized.requests";
+    public static final String METRIC_SIZE = "registry.cache.serialized.size";
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper mapper;
+    private final Cache<Key, Serialized> cache;
+    private final boolean gzip;
+    private final Counter hits;
+    private final Counter misses;
+
+    public SerializedDescriptorCache(ObjectMapper mapper,
+            MeterRegistry meterRegistry,
+            @Value("${cache.serialized.maxSize:67108864}") long maxSize,
+            @Value("${cache.serialized.gzip:false}") boolean gzip) {
+        this.mapper = mapper;
+        this.gzip = gzip;
+        this.cache = maxSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maxSize)
+                        .weigher((Key key, Serialized value) -> value.size())
+                        .build()
+                : null;
+        this.hits = meterRegistry.counter(METRIC_REQUESTS, "result", "hit");
+        this.misses = meterRegistry.counter(METRIC_REQUESTS, "result", "miss");
+        Gauge.builder(METRIC_SIZE, this, SerializedDescriptorCache::getSize)
+                .baseUnit("bytes")
+                .description("size of the cached serialized descriptors")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Gets the serialized descriptor with the given key and version, serializing and caching it if it is not cached
+     * in this version.
+     *
+     * @param key The key of the descriptor.
+     * @param version The current version of the descriptor, which must be retrieved before the descriptor is loaded.
+     * @param loader Loads the descriptor if it is not cached.
+     * @return The serialized descriptor.
+     * @throws ResourceNotFoundException When the descriptor was not found.
+     */
+    public Serialized get(Key key, long version, Loader loader) throws ResourceNotFoundException {
+        if (Objects.nonNull(cache)) {
+            Serialized result = cache.getIfPresent(key);
+            if (Objects.nonNull(result) && result.version() == version) {
+                hits.increment();
+                return result;
+            }
+        }
+        misses.increment();
+        Serialized result = serialize(loader.load(), version);
+        if (Objects.nonNull(cache)) {
+            // keep the newer entry if a concurrent request cached another version
+            cache.asMap().merge(key, result, (x, y) -> x.version() > y.version() ? x : y);
+        }
+        return result;
+    }
+
+
+    /**
+     * Removes the descriptor with the given key from the cache.
+     *
+     * @param key The key of the descriptor.
+     */
+    public void invalidate(Key key) {
+        if (Objects.nonNull(cache)) {
+            cache.invalidate(key);
+        }
+    }
+
+
+    private long getSize() {
+        return Objects.nonNull(cache)
+                ? cache.policy().eviction().map(x -> x.weightedSize().orElse(0)).orElse(0L)
+                : 0;
+    }
+
+
+    private Serialized serialize(Object descriptor, long version) {
+        try {
+            byte[] json = mapper.writeValueAsBytes(descriptor);
+            return new Serialized(version, json, gzip ? compress(json) : null);
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalStateException("serializing descriptor failed", e);
+        }
+    }
+
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(result)) {
+            out.write(json);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Loads a descriptor.
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Loads the descriptor.
+         *
+         * @return The descriptor.
+         * @throws ResourceNotFoundException When the descriptor was not found.
+         */
+        public Object load() throws ResourceNotFoundException;
+    }
+
+    /**
+     * Key of a cached descriptor.
+     *
+     * @param type The type of the descriptor.
+     * @param aasId The ID of the AAS, null for standalone submodels.
+     * @param submodelId The ID of the submodel, null for AASs.
+     */
+    public record Key(String type, String aasId, String submodelId) {
+
+        /**
+         * Creates the key of an AAS.
+         *
+         * @param aasId The ID of the AAS.
+         * @return The key.
+         */
+        public static Key aas(String aasId) {
+            return new Key("aas", aasId, null);
+        }
+
+
+        /**
+         * Creates the key of a submodel.
+         *
+         * @param aasId The ID of the AAS, null for standalone submodels.
+         * @param submodelId The ID of the submodel.
+         * @return The key.
+         */
+        public static Key submodel(String aasId, String submodelId) {
+            return new Key("submodel", aasId, submodelId);
+        }
+    }
+
+    /**
+     * A serialized descriptor.
+     *
+     * @param version The version of the descriptor.
+     * @param json The JSON serialization.
+     * @param gzip The gzip-compressed JSON serialization, null if compression is disabled.
+     */
+    public record Serialized(long version, byte[] json, byte[] gzip) {
+
+        /**
+         * Gets the number of cached bytes.
+         *
+         * @return The number of cached bytes.
+         */
+        public int size() {
+            return json.length + (Objects.nonNull(gzip) ? gzip.length : 0);
+        }
+
+
+        /**
+         * Creates a response writing the serialized descriptor. The compressed JSON is used if available and accepted
+         * by the client.
+         *
+         * @param acceptEncoding The value of the Accept-Encoding header, null if not present.
+         * @return The response.
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .eTag(ETagHelper.toETag(version))
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (Objects.nonNull(gzip)) {
+                builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                if (Objects.nonNull(acceptEncoding) && acceptEncoding.contains(GZIP)) {
+                    return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(gzip);
+                }
+            }
+            return builder.body(json);
+        }
+    }
+}
@@ -13,6 +13,7 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.starter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
@@ -22,12 +23,16 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ConstraintViolatedException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
 import org.eclipse.digitaltwin.fa3st.registry.starter.helper.CommonConstraintHelper;
+import org.eclipse.digitaltwin.fa3st.registry.starter.helper.ETagHelper;
+import org.eclipse.digitaltwin.fa3st.registry.starter.helper.JsonStreamingHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -36,10 +41,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 
@@ -55,6 +62,9 @@ public class ShellRegistryController {
     @Autowired
     RegistryService service;
 
+    @Autowired
+    ObjectMapper mapper;
+
     /**
      * Retrieves a list of all registered Asset Administration Shells.
      *
@@ -62,13 +72,16 @@ public class ShellRegistryController {
      * @param assetKind The desired Asset Kind.
      * @param limit The limit value.
      * @param cursor The cursor value.
-     * @return The list of all registered Asset Administration Shells.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @return The list of all registered Asset Administration Shells, header ETag contains the change version of the
+     *         registry.
      */
-    @GetMapping()
-    public Page<AssetAdministrationShellDescriptor> getAASs(@RequestParam(name = "assetType", required = false) String assetType,
-                                                            @RequestParam(name = "assetKind", required = false) AssetKind assetKind,
-                                                            @RequestParam(name = "limit", required = false) Long limit,
-                                                            @RequestParam(name = "cursor", required = false) String cursor) {
+    @GetMapping(params = "limit")
+    public ResponseEntity<Page<AssetAdministrationShellDescriptor>> getAASs(@RequestParam(name = "assetType", required = false) String assetType,
+                                                                            @RequestParam(name = "assetKind", required = false) AssetKind assetKind,
+                                                                            @RequestParam(name = "limit", required = false) Long limit,
+                                                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                                                            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         PagingInfo.Builder pageBuilder = PagingInfo.builder().cursor(cursor);
         if (limit != null) {
             if (limit == 0) {
@@ -76,7 +89,37 @@ public class ShellRegistryController {
             }
             pageBuilder.limit(limit);
         }
-        return service.getAASs(assetType, assetKind, pageBuilder.build());
+        long version = service.getChangeVersion();
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETagHelper.toETag(version))
+                .body(service.getAASs(assetType, assetKind, pageBuilder.build()));
+    }
+
+
+    /**
+     * Retrieves a list of all registered Asset Administration Shells when no limit is given. The result is streamed,
+     * i.e., the Asset Administration Shells are serialized while they are fetched from the repository.
+     *
+     * @param assetType The desired Asset Type.
+     * @param assetKind The desired Asset Kind.
+     * @param cursor The cursor value.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @return The list of all registered Asset Administration Shells, header ETag contains the change version of the
+     *         registry.
+     */
+    @GetMapping(params = "!limit")
+    public ResponseEntity<StreamingResponseBody> getAllAASs(@RequestParam(name = "assetType", required = false) String assetType,
+                                                            @RequestParam(name = "assetKind", required = false) AssetKind assetKind,
+                                                            @RequestParam(name = "cursor", required = false) String cursor,
+                                                            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = service.getChangeVersion();
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        return JsonStreamingHelper.writePage(mapper, service.streamAASs(assetType, assetKind, cursor), ETagHelper.toETag(version));
     }
 
 
@@ -84,12 +127,21 @@ public class ShellRegistryController {
      * Retrieves the Asset Administration Shell with the given ID.
      *
      * @param aasIdentifier The ID of the desired Asset Administration Shell.
-     * @return The desired Asset Administration Shell.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @param acceptEncoding The optional Accept-Encoding header.
+     * @return The serialized Asset Administration Shell, header ETag contains its version.
      * @throws ResourceNotFoundException When the AAS was not found.
      */
     @GetMapping(value = "/{aasIdentifier}")
-    public AssetAdministrationShellDescriptor getAAS(@PathVariable("aasIdentifier") String aasIdentifier) throws ResourceNotFoundException {
-        return service.getAAS(aasIdentifier);
+    public ResponseEntity<byte[]> getAAS(@PathVariable("aasIdentifier") String aasIdentifier,
+                                         @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                         @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws ResourceNotFoundException {
+        long version = service.getAASVersion(aasIdentifier);
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        return service.getAASSerialized(aasIdentifier, version).toResponse(acceptEncoding);
     }
 
 
@@ -121,12 +173,16 @@ public class ShellRegistryController {
      * Deletes the Asset Administration Shell with the given ID.
      *
      * @param aasIdentifier The ID of the desired Asset Administration Shell.
+     * @param ifMatch The optional If-Match header.
      * @throws ResourceNotFoundException When the AAS was not found.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
      */
     @DeleteMapping(value = "/{aasIdentifier}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable("aasIdentifier") String aasIdentifier) throws ResourceNotFoundException {
-        service.deleteAAS(aasIdentifier);
+    public void delete(@PathVariable("aasIdentifier") String aasIdentifier,
+                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ResourceNotFoundException {
+        service.deleteAAS(aasIdentifier, ifMatch);
     }
 
 
@@ -135,15 +191,22 @@ public class ShellRegistryController {
      *
      * @param aasIdentifier The ID of the desired Asset Administration Shell.
      * @param aas The desired Asset Administration Shell.
-     * @return The updated Asset Administration Shell.
+     * @param ifMatch The optional If-Match header.
+     * @return The response, header {@link UpdateResult#HEADER_UNCHANGED} reports whether the update has been skipped
+     *         because the Asset Administration Shell did not change.
      * @throws ResourceNotFoundException When the AAS was not found.
+     * @throws ResourceAlreadyExistsException When the ID is changed to the ID of another existing AAS.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
      */
     @PutMapping(value = "/{aasIdentifier}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public AssetAdministrationShellDescriptor update(@PathVariable("aasIdentifier") String aasIdentifier,
-                                                     @RequestBody AssetAdministrationShellDescriptor aas)
-            throws ResourceNotFoundException {
-        return service.updateAAS(aasIdentifier, aas);
+    public ResponseEntity<Void> update(@PathVariable("aasIdentifier") String aasIdentifier,
+                                       @RequestBody AssetAdministrationShellDescriptor aas,
+                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ResourceNotFoundException, ResourceAlreadyExistsException {
+        UpdateResult<AssetAdministrationShellDescriptor> result = service.updateAAS(aasIdentifier, aas, ifMatch);
+        return ResponseEntity.noContent()
+                .header(UpdateResult.HEADER_UNCHANGED, Boolean.toString(result.isUnchanged()))
+                .build();
     }
 
 
@@ -151,15 +214,19 @@ public class ShellRegistryController {
      * Retrieves a list of all Submodels of the given Asset Administration Shell.
      *
      * @param aasIdentifier The ID of the desired Asset Administration Shell.
+     * @param semanticId The desired semantic ID.
      * @param limit The limit value.
      * @param cursor The cursor value.
-     * @return The list of Submodels.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @return The list of Submodels, header ETag contains the version of the AAS.
      * @throws ResourceNotFoundException When the AAS was not found.
      */
     @GetMapping(value = "/{aasIdentifier}/submodel-descriptors")
-    public Page<SubmodelDescriptor> getSubmodelsOfAAS(@PathVariable("aasIdentifier") String aasIdentifier,
-                                                      @RequestParam(name = "limit", required = false) Long limit,
-                                                      @RequestParam(name = "cursor", required = false) String cursor)
+    public ResponseEntity<Page<SubmodelDescriptor>> getSubmodelsOfAAS(@PathVariable("aasIdentifier") String aasIdentifier,
+                                                                      @RequestParam(name = "semanticId", required = false) String semanticId,
+                                                                      @RequestParam(name = "limit", required = false) Long limit,
+                                                                      @RequestParam(name = "cursor", required = false) String cursor,
+                                                                      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
             throws ResourceNotFoundException {
         PagingInfo.Builder pageBuilder = PagingInfo.builder().cursor(cursor);
         if (limit != null) {
@@ -168,7 +235,13 @@ public class ShellRegistryController {
             }
             pageBuilder.limit(limit);
         }
-        return service.getSubmodels(aasIdentifier, pageBuilder.build());
+        long version = service.getAASVersion(aasIdentifier);
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETagHelper.toETag(version))
+                .body(service.getSubmodels(aasIdentifier, semanticId, pageBuilder.build()));
     }
 
 
@@ -177,14 +250,22 @@ public class ShellRegistryController {
      *
      * @param aasIdentifier The ID of the desired Asset Administration Shell.
      * @param submodelIdentifier The ID of the desired Submodel.
-     * @return The desired Submodel.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @param acceptEncoding The optional Accept-Encoding header.
+     * @return The serialized Submodel, header ETag contains the version of the AAS.
      * @throws ResourceNotFoundException When the AAS or Submodel was not found.
      */
     @GetMapping(value = "/{aasIdentifier}/submodel-descriptors/{submodelIdentifier}")
-    public SubmodelDescriptor getSubmodelOfAAS(@PathVariable("aasIdentifier") String aasIdentifier,
-                                               @PathVariable("submodelIdentifier") String submodelIdentifier)
+    public ResponseEntity<byte[]> getSubmodelOfAAS(@PathVariable("aasIdentifier") String aasIdentifier,
+                                                   @PathVariable("submodelIdentifier") String submodelIdentifier,
+                                                   @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                   @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
             throws ResourceNotFoundException {
-        return service.getSubmodel(aasIdentifier, submodelIdentifier);
+        long version = service.getAASVersion(aasIdentifier);
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        return service.getSubmodelSerialized(aasIdentifier, submodelIdentifier, version).toResponse(acceptEncoding);
     }
 
 
@@ -222,17 +303,23 @@ public class ShellRegistryController {
      * @param aasIdentifier The ID of the desired AAS.
      * @param submodelIdentifier The ID of the desired Submodel.
      * @param submodel The desired Submodel.
-     * @return The updated Submodel.
+     * @param ifMatch The optional If-Match header, matched against the version of the AAS.
+     * @return The response, header {@link UpdateResult#HEADER_UNCHANGED} reports whether the update has been skipped
+     *         because the Submodel did not change.
      * @throws ResourceNotFoundException When the AAS was not found.
      * @throws ResourceAlreadyExistsException When the Submodel already exists.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
      */
     @PutMapping(value = "/{aasIdentifier}/submodel-descriptors/{submodelIdentifier}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public SubmodelDescriptor updateSubmodelOfAAS(@PathVariable("aasIdentifier") String aasIdentifier,
-                                                  @PathVariable("submodelIdentifier") String submodelIdentifier,
-                                                  @RequestBody SubmodelDescriptor submodel)
+    public ResponseEntity<Void> updateSubmodelOfAAS(@PathVariable("aasIdentifier") String aasIdentifier,
+                                                    @PathVariable("submodelIdentifier") String submodelIdentifier,
+                                                    @RequestBody SubmodelDescriptor submodel,
+                                                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws ResourceNotFoundException, ResourceAlreadyExistsException {
-        return service.updateSubmodel(aasIdentifier, submodelIdentifier, submodel);
+        UpdateResult<SubmodelDescriptor> result = service.updateSubmodel(aasIdentifier, submodelIdentifier, submodel, ifMatch);
+        return ResponseEntity.noContent()
+                .header(UpdateResult.HEADER_UNCHANGED, Boolean.toString(result.isUnchanged()))
+                .build();
     }
 
 
@@ -241,14 +328,17 @@ public class ShellRegistryController {
      *
      * @param aasIdentifier The ID of the desired AAS.
      * @param submodelIdentifier The ID of the desired Submodel.
+     * @param ifMatch The optional If-Match header, matched against the version of the AAS.
      * @throws ResourceNotFoundException When the Submodel was not found.
+     * @throws PreconditionFailedException When the AAS does not match the If-Match header.
      */
     @DeleteMapping(value = "/{aasIdentifier}/submodel-descriptors/{submodelIdentifier}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteSubmodelOfAAS(@PathVariable("aasIdentifier") String aasIdentifier,
-                                    @PathVariable("submodelIdentifier") String submodelIdentifier)
+                                    @PathVariable("submodelIdentifier") String submodelIdentifier,
+                                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws ResourceNotFoundException {
-        service.deleteSubmodel(aasIdentifier, submodelIdentifier);
+        service.deleteSubmodel(aasIdentifier, submodelIdentifier, ifMatch);
     }
 
 
@@ -13,6 +13,7 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.starter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
@@ -20,12 +21,16 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.BadRequestException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ConstraintViolatedException;
+import org.eclipse.digitaltwin.fa3st.registry.core.exception.PreconditionFailedException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceAlreadyExistsException;
 import org.eclipse.digitaltwin.fa3st.registry.core.exception.ResourceNotFoundException;
 import org.eclipse.digitaltwin.fa3st.registry.starter.helper.CommonConstraintHelper;
+import org.eclipse.digitaltwin.fa3st.registry.starter.helper.ETagHelper;
+import org.eclipse.digitaltwin.fa3st.registry.starter.helper.JsonStreamingHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -34,10 +39,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 
@@ -53,16 +60,24 @@ public class SubmodelRegistryController {
     @Autowired
     RegistryService service;
 
+    @Autowired
+    ObjectMapper mapper;
+
     /**
      * Retrieves a list of all registered Submodels.
      *
+     * @param semanticId The desired semantic ID.
      * @param limit The limit value.
      * @param cursor The cursor value.
-     * @return The list of Submodels.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @return The list of Submodels, header ETag contains the change version of the registry.
      * @throws ResourceNotFoundException When the Submodel was not found.
      */
-    @GetMapping()
-    public Page<SubmodelDescriptor> getSubmodels(@RequestParam(name = "limit", required = false) Long limit, @RequestParam(name = "cursor", required = false) String cursor)
+    @GetMapping(params = "limit")
+    public ResponseEntity<Page<SubmodelDescriptor>> getSubmodels(@RequestParam(name = "semanticId", required = false) String semanticId,
+                                                                 @RequestParam(name = "limit", required = false) Long limit,
+                                                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                                                 @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
             throws ResourceNotFoundException {
         PagingInfo.Builder pageBuilder = PagingInfo.builder().cursor(cursor);
         if (limit != null) {
@@ -71,7 +86,41 @@ public class SubmodelRegistryController {
             }
             pageBuilder.limit(limit);
         }
-        return service.getSubmodels(pageBuilder.build());
+        long version = service.getChangeVersion();
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETagHelper.toETag(version))
+                .body(service.getSubmodels(null, semanticId, pageBuilder.build()));
+    }
+
+
+    /**
+     * Retrieves a list of all registered Submodels when no limit is given. Without a semantic ID, the result is
+     * streamed, i.e., the Submodels are serialized while they are fetched from the repository.
+     *
+     * @param semanticId The desired semantic ID.
+     * @param cursor The cursor value.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @return The list of Submodels, header ETag contains the change version of the registry.
+     * @throws ResourceNotFoundException When the Submodel was not found.
+     */
+    @GetMapping(params = "!limit")
+    public ResponseEntity<StreamingResponseBody> getAllSubmodels(@RequestParam(name = "semanticId", required = false) String semanticId,
+                                                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                                                 @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws ResourceNotFoundException {
+        long version = service.getChangeVersion();
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        if (semanticId != null) {
+            return JsonStreamingHelper.writePage(mapper,
+                    service.getSubmodels(null, semanticId, PagingInfo.builder().cursor(cursor).build()).getContent().stream(),
+                    ETagHelper.toETag(version));
+        }
+        return JsonStreamingHelper.writePage(mapper, service.streamSubmodels(cursor), ETagHelper.toETag(version));
     }
 
 
@@ -79,12 +128,21 @@ public class SubmodelRegistryController {
      * Retrieves the Submodel with given Submodel ID.
      *
      * @param submodelIdentifier The ID of the desired Submodel.
-     * @return The desired Submodel.
+     * @param ifNoneMatch The optional If-None-Match header.
+     * @param acceptEncoding The optional Accept-Encoding header.
+     * @return The serialized Submodel, header ETag contains its version.
      * @throws ResourceNotFoundException When the Submodel was not found.
      */
     @GetMapping(value = "/{submodelIdentifier}")
-    public SubmodelDescriptor getSubmodel(@PathVariable("submodelIdentifier") String submodelIdentifier) throws ResourceNotFoundException {
-        return service.getSubmodel(submodelIdentifier);
+    public ResponseEntity<byte[]> getSubmodel(@PathVariable("submodelIdentifier") String submodelIdentifier,
+                                              @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws ResourceNotFoundException {
+        long version = service.getSubmodelVersion(submodelIdentifier);
+        if (ETagHelper.matchesWeak(ifNoneMatch, version)) {
+            return ETagHelper.notModified(version);
+        }
+        return service.getSubmodelSerialized(null, submodelIdentifier, version).toResponse(acceptEncoding);
     }
 
 
@@ -118,15 +176,21 @@ public class SubmodelRegistryController {
      *
      * @param submodelIdentifier The ID of the desired Submodel.
      * @param submodel The desired Submodel.
-     * @return The updated Submodel.
+     * @param ifMatch The optional If-Match header.
+     * @return The response, header {@link UpdateResult#HEADER_UNCHANGED} reports whether the update has been skipped
+     *         because the Submodel did not change.
      * @throws ResourceNotFoundException When the Submodel was not found.
      * @throws ResourceAlreadyExistsException When an error occurs.
+     * @throws PreconditionFailedException When the Submodel does not match the If-Match header.
      */
     @PutMapping(value = "/{submodelIdentifier}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public SubmodelDescriptor update(@PathVariable("submodelIdentifier") String submodelIdentifier, @RequestBody SubmodelDescriptor submodel)
+    public ResponseEntity<Void> update(@PathVariable("submodelIdentifier") String submodelIdentifier, @RequestBody SubmodelDescriptor submodel,
+                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
             throws ResourceNotFoundException, ResourceAlreadyExistsException {
-        return service.updateSubmodel(submodelIdentifier, submodel);
+        UpdateResult<SubmodelDescriptor> result = service.updateSubmodel(submodelIdentifier, submodel, ifMatch);
+        return ResponseEntity.noContent()
+                .header(UpdateResult.HEADER_UNCHANGED, Boolean.toString(result.isUnchanged()))
+                .build();
     }
 
 
@@ -134,12 +198,16 @@ public class SubmodelRegistryController {
      * Deletes the Submodel with the given ID.
      *
      * @param submodelIdentifier The ID of the desired Submodel.
+     * @param ifMatch The optional If-Match header.
      * @throws ResourceNotFoundException When the Submodel was not found.
+     * @throws PreconditionFailedException When the Submodel does not match the If-Match header.
      */
     @DeleteMapping(value = "/{submodelIdentifier}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable("submodelIdentifier") String submodelIdentifier) throws ResourceNotFoundException {
-        service.deleteSubmodel(submodelIdentifier);
+    public void delete(@PathVariable("submodelIdentifier") String submodelIdentifier,
+                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws ResourceNotFoundException {
+        service.deleteSubmodel(submodelIdentifier, ifMatch);
     }
 
 
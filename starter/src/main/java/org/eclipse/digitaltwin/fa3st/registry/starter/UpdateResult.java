@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+/**
+ * Result of an update of a descriptor.
+ *
+ * @param <T> the type of the descriptor
+ */
+public class UpdateResult<T> {
+
+    /**
+     * Name of the response header reporting whether an update has been skipped because the descriptor did not change.
+     */
+    public static final String HEADER_UNCHANGED = "X-Unchanged";
+
+    private final T descriptor;
+    private final boolean unchanged;
+
+    private UpdateResult(T descriptor, boolean unchanged) {
+        this.descriptor = descriptor;
+        this.unchanged = unchanged;
+    }
+
+
+    /**
+     * Creates a result for a descriptor that has been written.
+     *
+     * @param <T> the type of the descriptor
+     * @param descriptor the updated descriptor
+     * @return the result
+     */
+    public static <T> UpdateResult<T> updated(T descriptor) {
+        return new UpdateResult<>(descriptor, false);
+    }
+
+
+    /**
+     * Creates a result for a descriptor that has not been written because it is equal to the stored descriptor.
+     *
+     * @param <T> the type of the descriptor
+     * @param descriptor the descriptor
+     * @return the result
+     */
+    public static <T> UpdateResult<T> unchanged(T descriptor) {
+        return new UpdateResult<>(descriptor, true);
+    }
+
+
+    public T getDescriptor() {
+        return descriptor;
+    }
+
+
+    /**
+     * Checks whether the update has been skipped because the descriptor did not change.
+     *
+     * @return true if the update has been skipped, false otherwise
+     */
+    public boolean isUnchanged() {
+        return unchanged;
+    }
+}
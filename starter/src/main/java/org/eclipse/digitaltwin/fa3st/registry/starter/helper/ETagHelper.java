@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter.helper;
+
+import java.util.Objects;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+
+/**
+ * Helper class for entity tags (ETags) of descriptors.
+ *
+ * <p>The entity tag of a descriptor is its version as a strong entity tag, e.g., {@code "42"}. The version changes on
+ * every write of the descriptor, so clients can use the entity tag in an {@code If-Match} header to only modify a
+ * descriptor if it has not been modified since they read it, or in an {@code If-None-Match} header to only retrieve it
+ * if it has been modified. Listings use the change version of the registry as entity tag.
+ */
+public class ETagHelper {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagHelper() {}
+
+
+    /**
+     * Creates the entity tag for the given version.
+     *
+     * @param version The version.
+     * @return The entity tag.
+     */
+    public static String toETag(long version) {
+        return String.format("\"%d\"", version);
+    }
+
+
+    /**
+     * Creates a {@code 304 Not Modified} response for the given version without body.
+     *
+     * @param <T> The type of the body.
+     * @param version The version.
+     * @return The response.
+     */
+    public static <T> ResponseEntity<T> notModified(long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(toETag(version))
+                .build();
+    }
+
+
+    /**
+     * Checks whether the given header value, i.e., a comma-separated list of entity tags or {@code *}, matches the
+     * given version. Entity tags are compared using the strong comparison, i.e., weak entity tags never match. This is
+     * the comparison required for {@code If-Match}.
+     *
+     * @param header The value of the header.
+     * @param version The current version.
+     * @return true if the header matches the version, false otherwise.
+     */
+    public static boolean matches(String header, long version) {
+        return matches(header, version, false);
+    }
+
+
+    /**
+     * Checks whether the given header value, i.e., a comma-separated list of entity tags or {@code *}, matches the
+     * given version. Entity tags are compared using the weak comparison, i.e., the weakness indicator is ignored. This
+     * is the comparison required for {@code If-None-Match}.
+     *
+     * @param header The value of the header.
+     * @param version The current version.
+     * @return true if the header matches the version, false otherwise.
+     */
+    public static boolean matchesWeak(String header, long version) {
+        return matches(header, version, true);
+    }
+
+
+    private static boolean matches(String header, long version, boolean weak) {
+        if (Objects.isNull(header)) {
+            return false;
+        }
+        String etag = toETag(version);
+        for (var value: header.split(",")) {
+            String tag = value.trim();
+            if (weak && tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (ANY.equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
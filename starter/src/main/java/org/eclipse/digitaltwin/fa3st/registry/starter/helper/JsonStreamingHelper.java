@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter.helper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingMetadata;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+
+/**
+ * Helper class for writing large results as JSON without materializing them.
+ */
+public class JsonStreamingHelper {
+
+    private static final String PAGING_METADATA = "paging_metadata";
+    private static final String RESULT = "result";
+
+    private JsonStreamingHelper() {}
+
+
+    /**
+     * Creates a response that writes the given elements as a single page without a cursor. The elements are serialized
+     * one by one while they are consumed from the stream, so the heap usage does not depend on the number of elements.
+     * The stream is closed when the response has been written.
+     *
+     * @param mapper The mapper to use for serialization.
+     * @param elements The elements to write.
+     * @param eTag The entity tag of the response, null to omit it.
+     * @return The response.
+     */
+    public static ResponseEntity<StreamingResponseBody> writePage(ObjectMapper mapper, Stream<?> elements, String eTag) {
+        StreamingResponseBody body = out -> {
+            try (elements; JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartObject();
+                generator.writeObjectField(PAGING_METADATA, PagingMetadata.builder().build());
+                generator.writeArrayFieldStart(RESULT);
+                Iterator<?> iterator = elements.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEndpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProtocolInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = App.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integrationtest.properties")
+public class BulkControllerIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    public void testBulkSubmodels() {
+        SubmodelDescriptor submodel1 = getSubmodel("http://example.org/IntegrationTest/BulkSubmodel1");
+        SubmodelDescriptor submodel2 = getSubmodel("http://example.org/IntegrationTest/BulkSubmodel2");
+        SubmodelDescriptor invalid = new DefaultSubmodelDescriptor.Builder()
+                .idShort("BulkSubmodelInvalid")
+                .build();
+
+        List<Map<String, Object>> results = execute(HttpMethod.POST, List.of(submodel1, submodel2, submodel1, invalid));
+        Assert.assertEquals(List.of(201, 201, 409, 400), getStatus(results));
+        Assert.assertEquals(submodel1.getId(), results.get(0).get("id"));
+
+        submodel2.setIdShort("BulkSubmodel2Updated");
+        results = execute(HttpMethod.PUT, List.of(submodel2, getSubmodel("http://example.org/IntegrationTest/BulkSubmodelUnknown")));
+        Assert.assertEquals(List.of(204, 404), getStatus(results));
+        ResponseEntity<SubmodelDescriptor> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v3.0/submodel-descriptors/" + EncodingHelper.base64UrlEncode(submodel2.getId()), HttpMethod.GET, null,
+                SubmodelDescriptor.class);
+        Assert.assertEquals(submodel2, response.getBody());
+
+        results = execute(HttpMethod.DELETE, List.of(submodel1.getId(), submodel2.getId(), submodel2.getId()));
+        Assert.assertEquals(List.of(204, 204, 404), getStatus(results));
+    }
+
+
+    @Test
+    public void testImportSubmodels() throws Exception {
+        SubmodelDescriptor submodel1 = getSubmodel("http://example.org/IntegrationTest/ImportSubmodel1");
+        SubmodelDescriptor submodel2 = getSubmodel("http://example.org/IntegrationTest/ImportSubmodel2");
+        String input = String.join("\n",
+                mapper.writeValueAsString(submodel1),
+                "",
+                "{\"id\": \"http://example.org/IntegrationTest/ImportSubmodelInvalid\", \"endpoints\": 42}",
+                mapper.writeValueAsString(submodel2),
+                mapper.writeValueAsString(submodel1));
+
+        Map<String, Object> result = importSubmodels(HttpMethod.POST, input);
+        Assert.assertEquals(4, result.get("processed"));
+        Assert.assertEquals(2, result.get("failed"));
+        Assert.assertNull(result.get("message"));
+        Assert.assertEquals(List.of(400, 409), getStatus(getFailures(result)));
+        Assert.assertTrue(((String) getFailures(result).get(0).get("message")).startsWith("line 3:"));
+        ResponseEntity<SubmodelDescriptor> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v3.0/submodel-descriptors/" + EncodingHelper.base64UrlEncode(submodel2.getId()), HttpMethod.GET, null,
+                SubmodelDescriptor.class);
+        Assert.assertEquals(submodel2, response.getBody());
+
+        submodel1.setIdShort("ImportSubmodel1Updated");
+        result = importSubmodels(HttpMethod.PUT, mapper.writeValueAsString(submodel1) + "\n{\"id\": ");
+        Assert.assertEquals(1, result.get("processed"));
+        Assert.assertEquals(0, result.get("failed"));
+        Assert.assertNotNull(result.get("message"));
+        response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v3.0/submodel-descriptors/" + EncodingHelper.base64UrlEncode(submodel1.getId()), HttpMethod.GET, null,
+                SubmodelDescriptor.class);
+        Assert.assertEquals(submodel1, response.getBody());
+    }
+
+
+    private Map<String, Object> importSubmodels(HttpMethod method, String input) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(createURLWithPort("/import/submodel-descriptors"), method,
+                new HttpEntity<>(input, headers), new ParameterizedTypeReference<Map<String, Object>>() {});
+        Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assert.assertNotNull(response.getBody());
+        return response.getBody();
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getFailures(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("failures");
+    }
+
+
+    private List<Map<String, Object>> execute(HttpMethod method, List<?> body) {
+        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(createURLWithPort("/submodel-descriptors"), method, new HttpEntity<>(body),
+                new ParameterizedTypeReference<List<Map<String, Object>>>() {});
+        Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assert.assertNotNull(response.getBody());
+        Assert.assertEquals(body.size(), response.getBody().size());
+        return response.getBody();
+    }
+
+
+    private static List<Object> getStatus(List<Map<String, Object>> results) {
+        return results.stream()
+                .map(x -> x.get("status"))
+                .toList();
+    }
+
+
+    private static SubmodelDescriptor getSubmodel(String id) {
+        return new DefaultSubmodelDescriptor.Builder()
+                .id(id)
+                .idShort("BulkSubmodel")
+                .endpoints(new DefaultEndpoint.Builder()
+                        ._interface("http")
+                        .protocolInformation(new DefaultProtocolInformation.Builder()
+                                .endpointProtocol("http")
+                                .href("http://example.org/Endpoints/BulkSubmodel")
+                                .build())
+                        .build())
+                .build();
+    }
+
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + "/api/v3.0/bulk" + uri;
+    }
+}
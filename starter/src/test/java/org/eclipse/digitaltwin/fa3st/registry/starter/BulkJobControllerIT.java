@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import java.util.List;
+import java.util.Map;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEndpoint;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProtocolInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = App.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integrationtest.properties", properties = "bulk.batchSize=2")
+public class BulkJobControllerIT {
+
+    private static final long TIMEOUT = 10000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void testBulkJobSubmodels() throws InterruptedException {
+        SubmodelDescriptor submodel1 = getSubmodel("http://example.org/IntegrationTest/BulkJobSubmodel1");
+        SubmodelDescriptor submodel2 = getSubmodel("http://example.org/IntegrationTest/BulkJobSubmodel2");
+        SubmodelDescriptor submodel3 = getSubmodel("http://example.org/IntegrationTest/BulkJobSubmodel3");
+        SubmodelDescriptor invalid = new DefaultSubmodelDescriptor.Builder()
+                .idShort("BulkJobSubmodelInvalid")
+                .build();
+
+        Map<String, Object> job = awaitFinished(submit(HttpMethod.POST, List.of(submodel1, submodel2, submodel1, invalid, submodel3)));
+        Assert.assertEquals("COMPLETED", job.get("status"));
+        Assert.assertEquals(5, job.get("total"));
+        Assert.assertEquals(5, job.get("processed"));
+        Assert.assertEquals(2, job.get("failed"));
+        Assert.assertEquals(List.of(409, 400), getStatus(job));
+        ResponseEntity<SubmodelDescriptor> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v3.0/submodel-descriptors/" + EncodingHelper.base64UrlEncode(submodel3.getId()), HttpMethod.GET, null,
+                SubmodelDescriptor.class);
+        Assert.assertEquals(submodel3, response.getBody());
+
+        job = awaitFinished(submit(HttpMethod.DELETE, List.of(submodel1.getId(), submodel2.getId(), submodel3.getId(), submodel3.getId())));
+        Assert.assertEquals("COMPLETED", job.get("status"));
+        Assert.assertEquals(List.of(404), getStatus(job));
+    }
+
+
+    @Test
+    public void testInvalidPayload() {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(createURLWithPort("/submodel-descriptors"), HttpMethod.DELETE,
+                new HttpEntity<>(List.of(Map.of("id", "http://example.org/IntegrationTest/BulkJobSubmodel1"))),
+                new ParameterizedTypeReference<Map<String, Object>>() {});
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+
+    @Test
+    public void testUnknownJob() {
+        ResponseEntity<String> response = restTemplate.getForEntity(createURLWithPort("/unknown"), String.class);
+        Assert.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+
+    private String submit(HttpMethod method, List<?> body) {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(createURLWithPort("/submodel-descriptors"), method, new HttpEntity<>(body),
+                new ParameterizedTypeReference<Map<String, Object>>() {});
+        Assert.assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        Assert.assertNotNull(response.getBody());
+        Assert.assertEquals(body.size(), response.getBody().get("total"));
+        String jobId = (String) response.getBody().get("id");
+        Assert.assertTrue(response.getHeaders().getLocation().toString().endsWith("/api/v3.0/bulk/jobs/" + jobId));
+        return jobId;
+    }
+
+
+    private Map<String, Object> awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (true) {
+            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(createURLWithPort("/" + jobId), HttpMethod.GET, null,
+                    new ParameterizedTypeReference<Map<String, Object>>() {});
+            Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+            Object status = response.getBody().get("status");
+            if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                return response.getBody();
+            }
+            Assert.assertTrue("bulk job did not finish in time", System.currentTimeMillis() < deadline);
+            Thread.sleep(50);
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> getStatus(Map<String, Object> job) {
+        return ((List<Map<String, Object>>) job.get("failures")).stream()
+                .map(x -> x.get("status"))
+                .toList();
+    }
+
+
+    private static SubmodelDescriptor getSubmodel(String id) {
+        return new DefaultSubmodelDescriptor.Builder()
+                .id(id)
+                .idShort("BulkJobSubmodel")
+                .endpoints(new DefaultEndpoint.Builder()
+                        ._interface("http")
+                        .protocolInformation(new DefaultProtocolInformation.Builder()
+                                .endpointProtocol("http")
+                                .href("http://example.org/Endpoints/BulkJobSubmodel")
+                                .build())
+                        .build())
+                .build();
+    }
+
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + "/api/v3.0/bulk/jobs" + uri;
+    }
+}
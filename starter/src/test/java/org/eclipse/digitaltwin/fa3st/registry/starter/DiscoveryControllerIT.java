@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.registry.starter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetId;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = App.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-integrationtest.properties")
+public class DiscoveryControllerIT {
+
+    private static final String GLOBAL_ASSET_ID = "http://example.org/GlobalAssetId/Discovery200";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    public void testLookupByAssetIds() throws JsonProcessingException {
+        createAas(getAas("http://example.org/IntegrationTest/AAS200", "SerialNumber", "200"));
+        createAas(getAas("http://example.org/IntegrationTest/AAS201", "SerialNumber", "201"));
+
+        Assert.assertEquals(List.of("http://example.org/IntegrationTest/AAS200", "http://example.org/IntegrationTest/AAS201"),
+                lookup(getAssetId("globalAssetId", GLOBAL_ASSET_ID)));
+        Assert.assertEquals(List.of("http://example.org/IntegrationTest/AAS201"),
+                lookup(getAssetId("SerialNumber", "201")));
+        Assert.assertEquals(List.of("http://example.org/IntegrationTest/AAS200"),
+                lookup(getAssetId("globalAssetId", GLOBAL_ASSET_ID), getAssetId("SerialNumber", "200")));
+        Assert.assertEquals(List.of(),
+                lookup(getAssetId("globalAssetId", GLOBAL_ASSET_ID), getAssetId("SerialNumber", "202")));
+    }
+
+
+    @Test
+    public void testLookupInvalidAssetId() {
+        ResponseEntity<Void> response = restTemplate.exchange(createURLWithPort("?assetIds=" + EncodingHelper.base64UrlEncode("no json")),
+                HttpMethod.GET, null, Void.class);
+        Assert.assertNotNull(response);
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+
+    private List<String> lookup(SpecificAssetId... assetIds) throws JsonProcessingException {
+        StringBuilder query = new StringBuilder();
+        for (SpecificAssetId assetId: assetIds) {
+            query.append(query.length() == 0 ? "?" : "&")
+                    .append("assetIds=")
+                    .append(EncodingHelper.base64UrlEncode(mapper.writeValueAsString(assetId)));
+        }
+        ResponseEntity<Page<String>> response = restTemplate.exchange(createURLWithPort(query.toString()), HttpMethod.GET, null,
+                new ParameterizedTypeReference<Page<String>>() {});
+        Assert.assertNotNull(response);
+        Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assert.assertNotNull(response.getBody());
+        return response.getBody().getContent();
+    }
+
+
+    private void createAas(AssetAdministrationShellDescriptor aas) {
+        ResponseEntity<AssetAdministrationShellDescriptor> response = restTemplate.exchange(
+                "http://localhost:" + port + "/api/v3.0/shell-descriptors", HttpMethod.POST, new HttpEntity<>(aas), AssetAdministrationShellDescriptor.class);
+        Assert.assertNotNull(response);
+        Assert.assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    }
+
+
+    private String createURLWithPort(String uri) {
+        return "http://localhost:" + port + "/api/v3.0/lookup/shells" + uri;
+    }
+
+
+    private static SpecificAssetId getAssetId(String name, String value) {
+        return new DefaultSpecificAssetId.Builder()
+                .name(name)
+                .value(value)
+                .build();
+    }
+
+
+    private static AssetAdministrationShellDescriptor getAas(String id, String assetIdName, String assetIdValue) {
+        return new DefaultAssetAdministrationShellDescriptor.Builder()
+                .idShort("DiscoveryTest")
+                .id(id)
+                .displayName(new DefaultLangStringNameType.Builder().text("Discovery Test").language("en-US").build())
+                .globalAssetId(GLOBAL_ASSET_ID)
+                .specificAssetIds(getAssetId(assetIdName, assetIdValue))
+                .build();
+    }
+}
@@ -13,6 +13,7 @@
  */
 package org.eclipse.digitaltwin.fa3st.registry.starter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -55,6 +56,7 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -133,9 +135,16 @@ public class ShellRegistryControllerIT {
         ResponseEntity responsePut = restTemplate.exchange(createURLWithPort("/" + EncodingHelper.base64UrlEncode(expected.getId())), HttpMethod.PUT, entity, Void.class);
         Assert.assertNotNull(responsePut);
         Assert.assertEquals(HttpStatus.NO_CONTENT, responsePut.getStatusCode());
+        Assert.assertEquals("false", responsePut.getHeaders().getFirst(UpdateResult.HEADER_UNCHANGED));
 
         checkGetAas(expected);
 
+        // repeated identical update is skipped
+        responsePut = restTemplate.exchange(createURLWithPort("/" + EncodingHelper.base64UrlEncode(expected.getId())), HttpMethod.PUT, entity, Void.class);
+        Assert.assertEquals(HttpStatus.NO_CONTENT, responsePut.getStatusCode());
+        Assert.assertEquals("true", responsePut.getHeaders().getFirst(UpdateResult.HEADER_UNCHANGED));
+        checkGetAas(expected);
+
         // delete AAS
         ResponseEntity responseDelete = restTemplate.exchange(createURLWithPort("/" + EncodingHelper.base64UrlEncode(expected.getId())), HttpMethod.DELETE, entity, Void.class);
         Assert.assertNotNull(responseDelete);
@@ -145,6 +154,99 @@ public class ShellRegistryControllerIT {
     }
 
 
+    @Test
+    public void testConditionalUpdateDeleteAas() {
+        AssetAdministrationShellDescriptor aas = getAas();
+        aas.setId("http://example.org/IntegrationTest/AAS-ETag");
+        createAas(aas);
+        String url = createURLWithPort("/" + EncodingHelper.base64UrlEncode(aas.getId()));
+
+        ResponseEntity<AssetAdministrationShellDescriptor> responseGet = restTemplate.exchange(url, HttpMethod.GET, null, AssetAdministrationShellDescriptor.class);
+        Assert.assertEquals(HttpStatus.OK, responseGet.getStatusCode());
+        String etag = responseGet.getHeaders().getETag();
+        Assert.assertNotNull(etag);
+
+        // update with current ETag succeeds and changes the ETag
+        aas.setIdShort("IntegrationTestETag");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(etag);
+        ResponseEntity<Void> responsePut = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(aas, headers), Void.class);
+        Assert.assertEquals(HttpStatus.NO_CONTENT, responsePut.getStatusCode());
+        checkGetAas(aas);
+        String etagUpdated = restTemplate.exchange(url, HttpMethod.GET, null, AssetAdministrationShellDescriptor.class).getHeaders().getETag();
+        Assert.assertNotEquals(etag, etagUpdated);
+
+        // update and delete with stale ETag fail
+        aas.setIdShort("IntegrationTestETagStale");
+        responsePut = restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(aas, headers), Void.class);
+        Assert.assertEquals(HttpStatus.PRECONDITION_FAILED, responsePut.getStatusCode());
+        ResponseEntity<Void> responseDelete = restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+        Assert.assertEquals(HttpStatus.PRECONDITION_FAILED, responseDelete.getStatusCode());
+
+        // delete with current ETag succeeds
+        headers.setIfMatch(etagUpdated);
+        responseDelete = restTemplate.exchange(url, HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+        Assert.assertEquals(HttpStatus.NO_CONTENT, responseDelete.getStatusCode());
+        checkGetAasNotExist(aas.getId());
+    }
+
+
+    @Test
+    public void testConditionalGetAas() {
+        AssetAdministrationShellDescriptor aas = getAas();
+        aas.setId("http://example.org/IntegrationTest/AAS-IfNoneMatch");
+        createAas(aas);
+        String url = createURLWithPort("/" + EncodingHelper.base64UrlEncode(aas.getId()));
+        String etag = restTemplate.exchange(url, HttpMethod.GET, null, AssetAdministrationShellDescriptor.class).getHeaders().getETag();
+        String listEtag = restTemplate.exchange(createURLWithPort(""), HttpMethod.GET, null, String.class).getHeaders().getETag();
+        Assert.assertNotNull(etag);
+        Assert.assertNotNull(listEtag);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        Assert.assertNull(response.getBody());
+        headers.setIfNoneMatch(listEtag);
+        response = restTemplate.exchange(createURLWithPort(""), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+
+        // modification changes both ETags
+        aas.setIdShort("IntegrationTestIfNoneMatch");
+        Assert.assertEquals(HttpStatus.NO_CONTENT, restTemplate.exchange(url, HttpMethod.PUT, new HttpEntity<>(aas), Void.class).getStatusCode());
+        response = restTemplate.exchange(createURLWithPort(""), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<AssetAdministrationShellDescriptor> responseAas = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers),
+                AssetAdministrationShellDescriptor.class);
+        Assert.assertEquals(HttpStatus.OK, responseAas.getStatusCode());
+        Assert.assertEquals(aas, responseAas.getBody());
+        restTemplate.delete(url);
+    }
+
+
+    @Test
+    public void testCachedAasUpdatedWithSubmodel() {
+        AssetAdministrationShellDescriptor aas = getAas();
+        aas.setId("http://example.org/IntegrationTest/AAS-Cached");
+        createAas(aas);
+        SubmodelDescriptor submodel = aas.getSubmodelDescriptors().get(0);
+        // read twice so that the second read is served from the cache
+        checkGetAas(aas);
+        checkGetAas(aas);
+        checkGetSubmodel(aas.getId(), submodel);
+
+        submodel.setIdShort("IntegrationTestCached");
+        Assert.assertEquals(HttpStatus.NO_CONTENT, restTemplate.exchange(
+                createURLWithPort("/" + EncodingHelper.base64UrlEncode(aas.getId()) + "/submodel-descriptors/" + EncodingHelper.base64UrlEncode(submodel.getId())),
+                HttpMethod.PUT, new HttpEntity<>(submodel), Void.class).getStatusCode());
+        checkGetAas(aas);
+        checkGetSubmodel(aas.getId(), submodel);
+        restTemplate.delete(createURLWithPort("/" + EncodingHelper.base64UrlEncode(aas.getId())));
+        checkGetAasNotExist(aas.getId());
+    }
+
+
     @Test
     public void testInvalidLimit() {
         ResponseEntity response = restTemplate.exchange(createURLWithPort("?limit=0"), HttpMethod.GET, null, Void.class);
@@ -206,6 +308,37 @@ public class ShellRegistryControllerIT {
     }
 
 
+    @Test
+    public void testGetAASsStreamedAcrossPages() {
+        String assetType = "StreamingTest";
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            AssetAdministrationShellDescriptor aas = getAas();
+            aas.setId(String.format("http://example.org/IntegrationTest/Streaming/AAS%03d", i));
+            aas.setAssetType(assetType);
+            createAas(aas);
+            expected.add(aas.getId());
+        }
+
+        ResponseEntity<Page<AssetAdministrationShellDescriptor>> response = restTemplate.exchange(
+                createURLWithPort("?assetType=" + EncodingHelper.base64UrlEncode(assetType)), HttpMethod.GET, null,
+                new ParameterizedTypeReference<Page<AssetAdministrationShellDescriptor>>() {});
+        Assert.assertNotNull(response);
+        Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assert.assertNotNull(response.getBody());
+        Assert.assertEquals(expected, response.getBody().getContent().stream().map(AssetAdministrationShellDescriptor::getId).toList());
+        Assert.assertNull(response.getBody().getMetadata().getCursor());
+    }
+
+
+    @Test
+    public void testGetAASsStreamedInvalidCursor() {
+        ResponseEntity response = restTemplate.exchange(createURLWithPort("?cursor=!invalid!"), HttpMethod.GET, null, Void.class);
+        Assert.assertNotNull(response);
+        Assert.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+
     @Test
     public void testAddUpdateDeleteSubmodel() {
         // create AAS
@@ -234,6 +367,15 @@ public class ShellRegistryControllerIT {
                 HttpMethod.PUT, entity, Void.class);
         Assert.assertNotNull(responsePut);
         Assert.assertEquals(HttpStatus.NO_CONTENT, responsePut.getStatusCode());
+        Assert.assertEquals("false", responsePut.getHeaders().getFirst(UpdateResult.HEADER_UNCHANGED));
+        checkGetSubmodel(aas.getId(), newSubmodel);
+
+        // repeated identical update is skipped
+        responsePut = restTemplate.exchange(
+                createURLWithPort("/" + EncodingHelper.base64UrlEncode(aas.getId()) + "/submodel-descriptors/" + EncodingHelper.base64UrlEncode(newSubmodel.getId())),
+                HttpMethod.PUT, entity, Void.class);
+        Assert.assertEquals(HttpStatus.NO_CONTENT, responsePut.getStatusCode());
+        Assert.assertEquals("true", responsePut.getHeaders().getFirst(UpdateResult.HEADER_UNCHANGED));
         checkGetSubmodel(aas.getId(), newSubmodel);
 
         // delete Submodel